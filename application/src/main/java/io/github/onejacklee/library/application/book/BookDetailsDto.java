@@ -1,7 +1,6 @@
 package io.github.onejacklee.library.application.book;
 
 import io.github.onejacklee.library.domain.book.Book;
-import io.github.onejacklee.library.domain.book.BookWithCatalog;
 import io.github.onejacklee.library.domain.catalogentry.CatalogEntry;
 
 import java.time.LocalDateTime;
@@ -26,16 +25,4 @@ public record BookDetailsDto(
                 book.getBorrowedOn().orElse(null)
         );
     }
-
-    public static BookDetailsDto from(BookWithCatalog bookWithCatalog) {
-        return new BookDetailsDto(
-                bookWithCatalog.id().value(),
-                bookWithCatalog.isbn().value(),
-                bookWithCatalog.title(),
-                bookWithCatalog.author(),
-                bookWithCatalog.available(),
-                bookWithCatalog.borrowerId().map(id -> id.value()).orElse(null),
-                bookWithCatalog.borrowedOn().orElse(null)
-        );
-    }
 }
@@ -0,0 +1,24 @@
+package io.github.onejacklee.library.application.book;
+
+import io.github.onejacklee.library.domain.book.BookId;
+import io.github.onejacklee.library.domain.borrower.BorrowerId;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Read-only listing of books with their catalog details, in id order. Rows are mapped straight to DTOs: they were
+ * validated when the aggregates were saved, so they are neither rebuilt into aggregates nor validated again.
+ */
+public interface BookListing {
+
+    List<BookDetailsDto> findAll();
+
+    void forEach(Consumer<BookDetailsDto> action);
+
+    List<BookDetailsDto> findPage(int limit);
+
+    List<BookDetailsDto> findPageAfter(BookId after, int limit);
+
+    List<BookDetailsDto> findByBorrower(BorrowerId borrowerId);
+}
@@ -0,0 +1,12 @@
+package io.github.onejacklee.library.application.book;
+
+import java.util.List;
+
+public record BookPageDto(
+        List<BookDetailsDto> items,
+        String continuationToken
+) {
+    public boolean hasMore() {
+        return continuationToken != null;
+    }
+}
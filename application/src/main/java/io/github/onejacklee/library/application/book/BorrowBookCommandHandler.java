@@ -14,6 +14,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
 @Service
 @RequiredArgsConstructor
 public class BorrowBookCommandHandler {
@@ -27,18 +30,25 @@ public class BorrowBookCommandHandler {
         BookId bookId = BookId.create(command.bookId());
         BorrowerId borrowerId = BorrowerId.create(command.borrowerId());
 
-        Book book = bookRepository.findById(bookId)
-                .orElseThrow(() -> new BookNotFoundException(command.bookId()));
-
-        borrowerRepository.findById(borrowerId)
-                .orElseThrow(() -> new BorrowerNotFoundException(command.borrowerId()));
+        if (!borrowerRepository.existsById(borrowerId)) {
+            throw new BorrowerNotFoundException(command.borrowerId());
+        }
 
-        book.borrow(borrowerId);
-        bookRepository.save(book);
+        // The availability check and the write happen in a single conditional UPDATE,
+        // so two concurrent borrows of the same copy cannot both succeed
+        Book book = bookRepository.borrowIfAvailable(bookId, borrowerId, LocalDateTime.now(ZoneOffset.UTC))
+                .orElseThrow(() -> rejectBorrow(bookId, command));
 
         CatalogEntry catalogEntry = catalogEntryRepository.findByIsbn(book.getIsbn())
                 .orElseThrow(() -> new CatalogEntryNotFoundException(book.getIsbn().value()));
 
         return BookDetailsDto.from(book, catalogEntry);
     }
+
+    private RuntimeException rejectBorrow(BookId bookId, BorrowBookCommand command) {
+        if (bookRepository.findById(bookId).isEmpty()) {
+            return new BookNotFoundException(command.bookId());
+        }
+        return new IllegalStateException("Book is already borrowed");
+    }
 }
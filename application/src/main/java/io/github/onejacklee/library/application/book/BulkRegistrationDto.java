@@ -0,0 +1,34 @@
+package io.github.onejacklee.library.application.book;
+
+import java.util.List;
+
+public record BulkRegistrationDto(
+        List<RowResult> rows
+) {
+    public long registeredCount() {
+        return rows.stream().filter(RowResult::registered).count();
+    }
+
+    public long rejectedCount() {
+        return rows.size() - registeredCount();
+    }
+
+    public record RowResult(
+            int row,
+            String isbn,
+            List<String> bookIds,
+            String error
+    ) {
+        public static RowResult registered(int row, String isbn, List<String> bookIds) {
+            return new RowResult(row, isbn, bookIds, null);
+        }
+
+        public static RowResult rejected(int row, String isbn, String error) {
+            return new RowResult(row, isbn, List.of(), error);
+        }
+
+        public boolean registered() {
+            return error == null;
+        }
+    }
+}
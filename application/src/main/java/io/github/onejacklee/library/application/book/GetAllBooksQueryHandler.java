@@ -1,22 +1,25 @@
 package io.github.onejacklee.library.application.book;
 
-import io.github.onejacklee.library.domain.book.BookRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
 public class GetAllBooksQueryHandler {
 
-    private final BookRepository bookRepository;
+    private final BookListing bookListing;
 
     @Transactional(readOnly = true)
     public List<BookDetailsDto> handle(GetAllBooksQuery query) {
-        return bookRepository.findAllWithCatalog().stream()
-                .map(BookDetailsDto::from)
-                .toList();
+        return bookListing.findAll();
+    }
+
+    @Transactional(readOnly = true)
+    public void handle(GetAllBooksQuery query, Consumer<BookDetailsDto> action) {
+        bookListing.forEach(action);
     }
 }
@@ -0,0 +1,7 @@
+package io.github.onejacklee.library.application.book;
+
+public record GetBooksPageQuery(
+        int pageSize,
+        String continuationToken
+) {
+}
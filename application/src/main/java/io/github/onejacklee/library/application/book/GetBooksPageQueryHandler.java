@@ -0,0 +1,42 @@
+package io.github.onejacklee.library.application.book;
+
+import io.github.onejacklee.library.common.application.ContinuationToken;
+import io.github.onejacklee.library.domain.book.BookId;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class GetBooksPageQueryHandler {
+
+    public static final int MAX_PAGE_SIZE = 500;
+
+    private final BookListing bookListing;
+
+    @Transactional(readOnly = true)
+    public BookPageDto handle(GetBooksPageQuery query) {
+        int pageSize = query.pageSize();
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException(
+                    "Page size must be between 1 and " + MAX_PAGE_SIZE + ". Got: " + pageSize);
+        }
+
+        // Fetch one extra row to learn whether another page follows without a COUNT query
+        List<BookDetailsDto> rows = query.continuationToken() == null
+                ? bookListing.findPage(pageSize + 1)
+                : bookListing.findPageAfter(
+                        BookId.create(ContinuationToken.decode(query.continuationToken())), pageSize + 1);
+
+        boolean hasMore = rows.size() > pageSize;
+        List<BookDetailsDto> page = hasMore ? rows.subList(0, pageSize) : rows;
+
+        String continuationToken = hasMore
+                ? ContinuationToken.encode(page.get(page.size() - 1).id())
+                : null;
+
+        return new BookPageDto(page, continuationToken);
+    }
+}
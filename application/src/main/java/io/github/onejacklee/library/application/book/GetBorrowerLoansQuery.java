@@ -0,0 +1,6 @@
+package io.github.onejacklee.library.application.book;
+
+public record GetBorrowerLoansQuery(
+        String borrowerId
+) {
+}
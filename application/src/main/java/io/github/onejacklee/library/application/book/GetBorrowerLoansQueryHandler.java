@@ -0,0 +1,30 @@
+package io.github.onejacklee.library.application.book;
+
+import io.github.onejacklee.library.application.exception.BorrowerNotFoundException;
+import io.github.onejacklee.library.domain.borrower.BorrowerId;
+import io.github.onejacklee.library.domain.borrower.BorrowerRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class GetBorrowerLoansQueryHandler {
+
+    private final BookListing bookListing;
+    private final BorrowerRepository borrowerRepository;
+
+    @Transactional(readOnly = true)
+    public List<BookDetailsDto> handle(GetBorrowerLoansQuery query) {
+        BorrowerId borrowerId = BorrowerId.create(query.borrowerId());
+
+        // An unknown borrower is a 404, not an empty list
+        if (!borrowerRepository.existsById(borrowerId)) {
+            throw new BorrowerNotFoundException(query.borrowerId());
+        }
+
+        return bookListing.findByBorrower(borrowerId);
+    }
+}
@@ -36,8 +36,7 @@ public class RegisterBookCommandHandler {
     }
 
     private CatalogEntry validateAndReturn(CatalogEntry existing, RegisterBookCommand command) {
-        if (!existing.getTitle().equalsIgnoreCase(command.title()) ||
-                !existing.getAuthor().equalsIgnoreCase(command.author())) {
+        if (!existing.hasMetadata(command.title(), command.author())) {
             throw CatalogEntryConflictException.metadataMismatch(command.isbn());
         }
         return existing;
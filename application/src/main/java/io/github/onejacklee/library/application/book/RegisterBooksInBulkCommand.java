@@ -0,0 +1,15 @@
+package io.github.onejacklee.library.application.book;
+
+import java.util.List;
+
+public record RegisterBooksInBulkCommand(
+        List<Row> rows
+) {
+    public record Row(
+            String isbn,
+            String title,
+            String author,
+            int copies
+    ) {
+    }
+}
@@ -0,0 +1,101 @@
+package io.github.onejacklee.library.application.book;
+
+import io.github.onejacklee.library.application.book.BulkRegistrationDto.RowResult;
+import io.github.onejacklee.library.application.exception.CatalogEntryConflictException;
+import io.github.onejacklee.library.common.application.IdGenerator;
+import io.github.onejacklee.library.domain.book.Book;
+import io.github.onejacklee.library.domain.book.BookId;
+import io.github.onejacklee.library.domain.book.BookRepository;
+import io.github.onejacklee.library.domain.catalogentry.CatalogEntry;
+import io.github.onejacklee.library.domain.catalogentry.CatalogEntryRepository;
+import io.github.onejacklee.library.domain.catalogentry.Isbn;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class RegisterBooksInBulkCommandHandler {
+
+    public static final int MAX_ROWS = 5000;
+    public static final int MAX_COPIES_PER_ROW = 100;
+
+    private final BookRepository bookRepository;
+    private final CatalogEntryRepository catalogEntryRepository;
+    private final IdGenerator idGenerator;
+
+    @Transactional
+    public BulkRegistrationDto handle(RegisterBooksInBulkCommand command) {
+        List<RegisterBooksInBulkCommand.Row> rows = command.rows();
+        if (rows.isEmpty() || rows.size() > MAX_ROWS) {
+            throw new IllegalArgumentException(
+                    "Number of rows must be between 1 and " + MAX_ROWS + ". Got: " + rows.size());
+        }
+
+        // One lookup for every distinct ISBN in the batch; rows sharing an ISBN resolve against this map
+        Set<Isbn> isbns = rows.stream()
+                .map(row -> Isbn.tryParse(row.isbn()))
+                .flatMap(Optional::stream)
+                .collect(Collectors.toSet());
+        Map<Isbn, CatalogEntry> catalog = new HashMap<>();
+        catalogEntryRepository.findAllByIsbn(isbns)
+                .forEach(entry -> catalog.put(entry.getIsbn(), entry));
+
+        List<CatalogEntry> newCatalogEntries = new ArrayList<>();
+        List<Book> newBooks = new ArrayList<>();
+        List<RowResult> results = new ArrayList<>(rows.size());
+
+        for (int i = 0; i < rows.size(); i++) {
+            RegisterBooksInBulkCommand.Row row = rows.get(i);
+            try {
+                results.add(register(i, row, catalog, newCatalogEntries, newBooks));
+            } catch (IllegalArgumentException | CatalogEntryConflictException e) {
+                results.add(RowResult.rejected(i, row.isbn(), e.getMessage()));
+            }
+        }
+
+        // Catalog entries first so the books' foreign keys resolve
+        catalogEntryRepository.insertAll(newCatalogEntries);
+        bookRepository.insertAll(newBooks);
+
+        return new BulkRegistrationDto(results);
+    }
+
+    private RowResult register(int index, RegisterBooksInBulkCommand.Row row, Map<Isbn, CatalogEntry> catalog,
+                               List<CatalogEntry> newCatalogEntries, List<Book> newBooks) {
+        if (row.isbn() == null || row.title() == null || row.author() == null) {
+            throw new IllegalArgumentException("ISBN, title and author are required");
+        }
+        if (row.copies() < 1 || row.copies() > MAX_COPIES_PER_ROW) {
+            throw new IllegalArgumentException(
+                    "Copies must be between 1 and " + MAX_COPIES_PER_ROW + ". Got: " + row.copies());
+        }
+
+        Isbn isbn = Isbn.create(row.isbn());
+        CatalogEntry catalogEntry = catalog.get(isbn);
+        if (catalogEntry == null) {
+            catalogEntry = CatalogEntry.create(isbn, row.title(), row.author());
+            catalog.put(isbn, catalogEntry);
+            newCatalogEntries.add(catalogEntry);
+        } else if (!catalogEntry.hasMetadata(row.title(), row.author())) {
+            throw CatalogEntryConflictException.metadataMismatch(row.isbn());
+        }
+
+        List<String> bookIds = new ArrayList<>(row.copies());
+        for (int copy = 0; copy < row.copies(); copy++) {
+            BookId bookId = BookId.create(idGenerator.generate());
+            newBooks.add(Book.register(bookId, isbn));
+            bookIds.add(bookId.value());
+        }
+
+        return RowResult.registered(index, isbn.value(), bookIds);
+    }
+}
@@ -24,21 +24,20 @@ public class ReturnBookCommandHandler {
         BookId bookId = BookId.create(command.bookId());
         BorrowerId borrowerId = BorrowerId.create(command.borrowerId());
 
-        Book book = bookRepository.findById(bookId)
-                .orElseThrow(() -> new BookNotFoundException(command.bookId()));
-
-        // Verify the borrower is the one who borrowed the book
-        book.getBorrowerId()
-                .filter(id -> id.equals(borrowerId))
-                .orElseThrow(() -> new IllegalStateException(
-                        "Book is not borrowed by borrower: " + command.borrowerId()));
-
-        book.returnBook();
-        bookRepository.save(book);
+        // Only the borrower who holds the book can return it; checked and applied in one conditional UPDATE
+        Book book = bookRepository.returnIfBorrowedBy(bookId, borrowerId)
+                .orElseThrow(() -> rejectReturn(bookId, command));
 
         CatalogEntry catalogEntry = catalogEntryRepository.findByIsbn(book.getIsbn())
                 .orElseThrow(() -> new CatalogEntryNotFoundException(book.getIsbn().value()));
 
         return BookDetailsDto.from(book, catalogEntry);
     }
+
+    private RuntimeException rejectReturn(BookId bookId, ReturnBookCommand command) {
+        if (bookRepository.findById(bookId).isEmpty()) {
+            return new BookNotFoundException(command.bookId());
+        }
+        return new IllegalStateException("Book is not borrowed by borrower: " + command.borrowerId());
+    }
 }
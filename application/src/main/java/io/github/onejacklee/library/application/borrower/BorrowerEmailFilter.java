@@ -0,0 +1,9 @@
+package io.github.onejacklee.library.application.borrower;
+
+import io.github.onejacklee.library.domain.borrower.EmailAddress;
+
+public interface BorrowerEmailFilter {
+
+    // False only when no borrower has the address; true can be a false positive the repository has to settle
+    boolean mightExist(EmailAddress emailAddress);
+}
@@ -0,0 +1,8 @@
+package io.github.onejacklee.library.application.borrower;
+
+// A null field matches every borrower
+public record BorrowerFilter(
+        String emailPrefix,
+        String name
+) {
+}
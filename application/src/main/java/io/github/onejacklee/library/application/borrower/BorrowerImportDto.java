@@ -0,0 +1,46 @@
+package io.github.onejacklee.library.application.borrower;
+
+import java.util.List;
+
+public record BorrowerImportDto(
+        List<RowResult> rows
+) {
+    public long count(Outcome outcome) {
+        return rows.stream().filter(row -> row.outcome() == outcome).count();
+    }
+
+    public enum Outcome {
+        IMPORTED,
+        // Another row earlier in the same import has the email address
+        DUPLICATE,
+        // A borrower registered before the import has the email address
+        ALREADY_REGISTERED,
+        REJECTED
+    }
+
+    public record RowResult(
+            int row,
+            String emailAddress,
+            String borrowerId,
+            Outcome outcome,
+            String error
+    ) {
+        public static RowResult imported(int row, String emailAddress, String borrowerId) {
+            return new RowResult(row, emailAddress, borrowerId, Outcome.IMPORTED, null);
+        }
+
+        public static RowResult duplicate(int row, String emailAddress, int firstRow) {
+            return new RowResult(row, emailAddress, null, Outcome.DUPLICATE,
+                    "Email address already appears in row " + firstRow);
+        }
+
+        public static RowResult alreadyRegistered(int row, String emailAddress) {
+            return new RowResult(row, emailAddress, null, Outcome.ALREADY_REGISTERED,
+                    "A borrower with email " + emailAddress + " already exists");
+        }
+
+        public static RowResult rejected(int row, String emailAddress, String error) {
+            return new RowResult(row, emailAddress, null, Outcome.REJECTED, error);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package io.github.onejacklee.library.application.borrower;
+
+import io.github.onejacklee.library.domain.borrower.BorrowerId;
+
+import java.util.List;
+
+/**
+ * Read-only listing of borrowers in id order. Rows are mapped straight to DTOs rather than rebuilt into aggregates,
+ * so their email addresses are not validated again on every read.
+ */
+public interface BorrowerListing {
+
+    List<BorrowerDto> findPage(BorrowerFilter filter, int limit);
+
+    List<BorrowerDto> findPageAfter(BorrowerFilter filter, BorrowerId after, int limit);
+}
@@ -0,0 +1,12 @@
+package io.github.onejacklee.library.application.borrower;
+
+import java.util.List;
+
+public record BorrowerPageDto(
+        List<BorrowerDto> items,
+        String continuationToken
+) {
+    public boolean hasMore() {
+        return continuationToken != null;
+    }
+}
@@ -1,4 +0,0 @@
-package io.github.onejacklee.library.application.borrower;
-
-public record GetAllBorrowersQuery() {
-}
@@ -0,0 +1,9 @@
+package io.github.onejacklee.library.application.borrower;
+
+public record GetBorrowersPageQuery(
+        int pageSize,
+        String continuationToken,
+        String emailPrefix,
+        String name
+) {
+}
@@ -0,0 +1,51 @@
+package io.github.onejacklee.library.application.borrower;
+
+import io.github.onejacklee.library.common.application.ContinuationToken;
+import io.github.onejacklee.library.domain.borrower.BorrowerId;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class GetBorrowersPageQueryHandler {
+
+    public static final int MAX_PAGE_SIZE = 500;
+
+    private final BorrowerListing borrowerListing;
+
+    @Transactional(readOnly = true)
+    public BorrowerPageDto handle(GetBorrowersPageQuery query) {
+        int pageSize = query.pageSize();
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException(
+                    "Page size must be between 1 and " + MAX_PAGE_SIZE + ". Got: " + pageSize);
+        }
+
+        // Email addresses are stored lower-cased, so the prefix must be too
+        String emailPrefix = blankToNull(query.emailPrefix());
+        BorrowerFilter filter = new BorrowerFilter(
+                emailPrefix == null ? null : emailPrefix.toLowerCase(),
+                blankToNull(query.name()));
+
+        List<BorrowerDto> rows = query.continuationToken() == null
+                ? borrowerListing.findPage(filter, pageSize + 1)
+                : borrowerListing.findPageAfter(filter,
+                        BorrowerId.create(ContinuationToken.decode(query.continuationToken())), pageSize + 1);
+
+        boolean hasMore = rows.size() > pageSize;
+        List<BorrowerDto> page = hasMore ? rows.subList(0, pageSize) : rows;
+
+        String continuationToken = hasMore
+                ? ContinuationToken.encode(page.get(page.size() - 1).id())
+                : null;
+
+        return new BorrowerPageDto(page, continuationToken);
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
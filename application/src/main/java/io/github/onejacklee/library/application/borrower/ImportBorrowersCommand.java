@@ -0,0 +1,14 @@
+package io.github.onejacklee.library.application.borrower;
+
+import java.util.Iterator;
+
+// Rows are pulled as the import goes, so a large file is never held in memory as a whole
+public record ImportBorrowersCommand(
+        Iterator<Row> rows
+) {
+    public record Row(
+            String name,
+            String emailAddress
+    ) {
+    }
+}
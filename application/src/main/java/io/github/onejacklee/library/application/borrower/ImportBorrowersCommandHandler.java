@@ -0,0 +1,128 @@
+package io.github.onejacklee.library.application.borrower;
+
+import io.github.onejacklee.library.application.borrower.BorrowerImportDto.RowResult;
+import io.github.onejacklee.library.common.application.IdGenerator;
+import io.github.onejacklee.library.domain.borrower.Borrower;
+import io.github.onejacklee.library.domain.borrower.BorrowerId;
+import io.github.onejacklee.library.domain.borrower.BorrowerRepository;
+import io.github.onejacklee.library.domain.borrower.EmailAddress;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Registers borrowers from a large import, a batch of rows at a time: each batch is validated in parallel,
+ * checked for email addresses already seen earlier in the import, and written in one insert that skips the
+ * addresses other borrowers already have. The whole import is one transaction.
+ */
+@Service
+@RequiredArgsConstructor
+public class ImportBorrowersCommandHandler {
+
+    public static final int MAX_ROWS = 100_000;
+
+    static final int BATCH_SIZE = 1000;
+
+    // Column width of borrowers.name and borrowers.email_address; a longer value would fail the whole import
+    private static final int MAX_LENGTH = 255;
+
+    private final BorrowerRepository borrowerRepository;
+    private final IdGenerator idGenerator;
+
+    @Transactional
+    public BorrowerImportDto handle(ImportBorrowersCommand command) {
+        Map<EmailAddress, Integer> firstRows = new HashMap<>();
+        List<RowResult> results = new ArrayList<>();
+        List<ImportBorrowersCommand.Row> batch = new ArrayList<>(BATCH_SIZE);
+
+        Iterator<ImportBorrowersCommand.Row> rows = command.rows();
+        while (rows.hasNext()) {
+            if (results.size() + batch.size() == MAX_ROWS) {
+                throw new IllegalArgumentException("An import can have at most " + MAX_ROWS + " rows");
+            }
+            batch.add(rows.next());
+            if (batch.size() == BATCH_SIZE) {
+                results.addAll(importBatch(results.size(), batch, firstRows));
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            results.addAll(importBatch(results.size(), batch, firstRows));
+        }
+        if (results.isEmpty()) {
+            throw new IllegalArgumentException("An import needs at least one row");
+        }
+
+        return new BorrowerImportDto(results);
+    }
+
+    private List<RowResult> importBatch(int firstRow, List<ImportBorrowersCommand.Row> batch,
+                                        Map<EmailAddress, Integer> firstRows) {
+        List<BorrowerId> ids = batch.stream()
+                .map(row -> BorrowerId.create(idGenerator.generate()))
+                .toList();
+        // Parsing the email address is most of the work per row, and the rows do not depend on each other
+        List<Registration> registrations = IntStream.range(0, batch.size()).parallel()
+                .mapToObj(i -> register(ids.get(i), batch.get(i)))
+                .toList();
+
+        List<Borrower> candidates = new ArrayList<>();
+        RowResult[] results = new RowResult[batch.size()];
+        for (int i = 0; i < batch.size(); i++) {
+            int row = firstRow + i;
+            Registration registration = registrations.get(i);
+            if (registration.borrower() == null) {
+                results[i] = RowResult.rejected(row, batch.get(i).emailAddress(), registration.error());
+                continue;
+            }
+            EmailAddress emailAddress = registration.borrower().getEmailAddress();
+            Integer earlierRow = firstRows.putIfAbsent(emailAddress, row);
+            if (earlierRow != null) {
+                results[i] = RowResult.duplicate(row, emailAddress.value(), earlierRow);
+            } else {
+                candidates.add(registration.borrower());
+            }
+        }
+
+        Set<BorrowerId> inserted = borrowerRepository.insertAllIfAbsent(candidates).stream()
+                .map(Borrower::getId)
+                .collect(Collectors.toSet());
+        for (int i = 0; i < batch.size(); i++) {
+            if (results[i] != null) {
+                continue;
+            }
+            Borrower borrower = registrations.get(i).borrower();
+            String emailAddress = borrower.getEmailAddress().value();
+            results[i] = inserted.contains(borrower.getId())
+                    ? RowResult.imported(firstRow + i, emailAddress, borrower.getId().value())
+                    : RowResult.alreadyRegistered(firstRow + i, emailAddress);
+        }
+        return List.of(results);
+    }
+
+    private static Registration register(BorrowerId id, ImportBorrowersCommand.Row row) {
+        if (row.name() == null || row.emailAddress() == null) {
+            return new Registration(null, "Name and email address are required");
+        }
+        if (row.name().length() > MAX_LENGTH || row.emailAddress().length() > MAX_LENGTH) {
+            return new Registration(null, "Name and email address must be at most " + MAX_LENGTH + " characters");
+        }
+        try {
+            return new Registration(Borrower.register(id, row.name(), EmailAddress.create(row.emailAddress())), null);
+        } catch (IllegalArgumentException e) {
+            return new Registration(null, e.getMessage());
+        }
+    }
+
+    private record Registration(Borrower borrower, String error) {
+    }
+}
@@ -7,6 +7,7 @@ import io.github.onejacklee.library.domain.borrower.BorrowerId;
 import io.github.onejacklee.library.domain.borrower.BorrowerRepository;
 import io.github.onejacklee.library.domain.borrower.EmailAddress;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,19 +16,25 @@ import org.springframework.transaction.annotation.Transactional;
 public class RegisterBorrowerCommandHandler {
 
     private final BorrowerRepository borrowerRepository;
+    private final BorrowerEmailFilter borrowerEmailFilter;
     private final IdGenerator idGenerator;
 
     @Transactional
     public BorrowerDto handle(RegisterBorrowerCommand command) {
         EmailAddress emailAddress = EmailAddress.create(command.emailAddress());
 
-        if (borrowerRepository.existsByEmailAddress(emailAddress)) {
+        // Only an address the filter may have seen costs an existence query; the insert catches the rest
+        if (borrowerEmailFilter.mightExist(emailAddress) && borrowerRepository.existsByEmailAddress(emailAddress)) {
             throw new BorrowerEmailAlreadyExistsException(command.emailAddress());
         }
 
         BorrowerId borrowerId = BorrowerId.create(idGenerator.generate());
         Borrower borrower = Borrower.register(borrowerId, command.name(), emailAddress);
-        borrowerRepository.save(borrower);
+        try {
+            borrowerRepository.save(borrower);
+        } catch (DuplicateKeyException e) {
+            throw new BorrowerEmailAlreadyExistsException(command.emailAddress());
+        }
 
         return BorrowerDto.from(borrower);
     }
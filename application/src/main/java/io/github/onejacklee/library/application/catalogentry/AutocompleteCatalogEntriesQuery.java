@@ -0,0 +1,7 @@
+package io.github.onejacklee.library.application.catalogentry;
+
+public record AutocompleteCatalogEntriesQuery(
+        String text,
+        int limit
+) {
+}
@@ -0,0 +1,32 @@
+package io.github.onejacklee.library.application.catalogentry;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class AutocompleteCatalogEntriesQueryHandler {
+
+    public static final int MAX_LIMIT = 20;
+    public static final int MAX_TEXT_LENGTH = 100;
+
+    private final CatalogAutocompleteIndex catalogAutocompleteIndex;
+
+    // Not transactional: suggestions are served from memory without touching the database
+    public List<CatalogSuggestionDto> handle(AutocompleteCatalogEntriesQuery query) {
+        String text = query.text() == null ? "" : query.text().strip();
+        if (text.isEmpty() || text.length() > MAX_TEXT_LENGTH) {
+            throw new IllegalArgumentException(
+                    "Autocomplete text must be between 1 and " + MAX_TEXT_LENGTH + " characters");
+        }
+        int limit = query.limit();
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException(
+                    "Limit must be between 1 and " + MAX_LIMIT + ". Got: " + limit);
+        }
+
+        return catalogAutocompleteIndex.suggest(text, limit);
+    }
+}
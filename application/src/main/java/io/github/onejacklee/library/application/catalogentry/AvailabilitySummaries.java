@@ -0,0 +1,9 @@
+package io.github.onejacklee.library.application.catalogentry;
+
+import io.github.onejacklee.library.domain.catalogentry.Isbn;
+
+public interface AvailabilitySummaries {
+
+    // Copy counts for the ISBN; AvailabilitySummary.NONE when it has no copies
+    AvailabilitySummary findByIsbn(Isbn isbn);
+}
@@ -0,0 +1,8 @@
+package io.github.onejacklee.library.application.catalogentry;
+
+public record AvailabilitySummary(
+        int totalCopies,
+        int availableCopies
+) {
+    public static final AvailabilitySummary NONE = new AvailabilitySummary(0, 0);
+}
@@ -0,0 +1,9 @@
+package io.github.onejacklee.library.application.catalogentry;
+
+import java.util.List;
+
+public interface CatalogAutocompleteIndex {
+
+    // Entries with a title or author word starting with every word of the text, in title order
+    List<CatalogSuggestionDto> suggest(String text, int limit);
+}
@@ -5,13 +5,17 @@ import io.github.onejacklee.library.domain.catalogentry.CatalogEntry;
 public record CatalogEntryDto(
         String isbn,
         String title,
-        String author
+        String author,
+        int totalCopies,
+        int availableCopies
 ) {
-    public static CatalogEntryDto from(CatalogEntry catalogEntry) {
+    public static CatalogEntryDto from(CatalogEntry catalogEntry, AvailabilitySummary availability) {
         return new CatalogEntryDto(
                 catalogEntry.getIsbn().value(),
                 catalogEntry.getTitle(),
-                catalogEntry.getAuthor()
+                catalogEntry.getAuthor(),
+                availability.totalCopies(),
+                availability.availableCopies()
         );
     }
 }
@@ -0,0 +1,19 @@
+package io.github.onejacklee.library.application.catalogentry;
+
+import io.github.onejacklee.library.domain.catalogentry.CatalogSearchHit;
+
+public record CatalogSearchHitDto(
+        String isbn,
+        String title,
+        String author,
+        float score
+) {
+    public static CatalogSearchHitDto from(CatalogSearchHit hit) {
+        return new CatalogSearchHitDto(
+                hit.isbn().value(),
+                hit.title(),
+                hit.author(),
+                hit.score()
+        );
+    }
+}
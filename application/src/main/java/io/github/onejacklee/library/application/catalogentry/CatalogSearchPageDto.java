@@ -0,0 +1,15 @@
+package io.github.onejacklee.library.application.catalogentry;
+
+import java.util.List;
+
+public record CatalogSearchPageDto(
+        List<CatalogSearchHitDto> items,
+        boolean fuzzy,
+        boolean fuzzyUnavailable,
+        boolean partial,
+        String continuationToken
+) {
+    public boolean hasMore() {
+        return continuationToken != null;
+    }
+}
@@ -0,0 +1,8 @@
+package io.github.onejacklee.library.application.catalogentry;
+
+public record CatalogSuggestionDto(
+        String isbn,
+        String title,
+        String author
+) {
+}
@@ -12,13 +12,14 @@ import org.springframework.transaction.annotation.Transactional;
 public class GetCatalogEntryByIsbnQueryHandler {
 
     private final CatalogEntryRepository catalogEntryRepository;
+    private final AvailabilitySummaries availabilitySummaries;
 
     @Transactional(readOnly = true)
     public CatalogEntryDto handle(GetCatalogEntryByIsbnQuery query) {
-        Isbn isbn = Isbn.create(query.isbn());
+        Isbn isbn = Isbn.existing(query.isbn());
 
         return catalogEntryRepository.findByIsbn(isbn)
-                .map(CatalogEntryDto::from)
+                .map(catalogEntry -> CatalogEntryDto.from(catalogEntry, availabilitySummaries.findByIsbn(isbn)))
                 .orElseThrow(() -> new CatalogEntryNotFoundException(query.isbn()));
     }
 }
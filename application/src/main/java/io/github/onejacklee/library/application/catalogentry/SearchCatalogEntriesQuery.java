@@ -0,0 +1,8 @@
+package io.github.onejacklee.library.application.catalogentry;
+
+public record SearchCatalogEntriesQuery(
+        String text,
+        int pageSize,
+        String continuationToken
+) {
+}
@@ -0,0 +1,119 @@
+package io.github.onejacklee.library.application.catalogentry;
+
+import io.github.onejacklee.library.common.application.ContinuationToken;
+import io.github.onejacklee.library.domain.catalogentry.CatalogEntryRepository;
+import io.github.onejacklee.library.domain.catalogentry.CatalogSearchHit;
+import io.github.onejacklee.library.domain.catalogentry.CatalogSearchHits;
+import io.github.onejacklee.library.domain.catalogentry.CatalogSearchMode;
+import io.github.onejacklee.library.domain.catalogentry.Isbn;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+@Service
+@RequiredArgsConstructor
+public class SearchCatalogEntriesQueryHandler {
+
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final int MAX_TEXT_LENGTH = 200;
+    // Shorter words share their trigrams with too much of the catalog to be worth comparing
+    static final int MIN_SIMILARITY_WORD_LENGTH = 4;
+
+    private static final char TOKEN_SEPARATOR = ':';
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final CatalogEntryRepository catalogEntryRepository;
+
+    @Transactional(readOnly = true)
+    public CatalogSearchPageDto handle(SearchCatalogEntriesQuery query) {
+        String text = query.text() == null ? "" : query.text().strip();
+        if (text.isEmpty() || text.length() > MAX_TEXT_LENGTH) {
+            throw new IllegalArgumentException(
+                    "Search text must be between 1 and " + MAX_TEXT_LENGTH + " characters");
+        }
+        int pageSize = query.pageSize();
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException(
+                    "Page size must be between 1 and " + MAX_PAGE_SIZE + ". Got: " + pageSize);
+        }
+
+        CatalogSearchMode mode;
+        CatalogSearchHits rows;
+        boolean fuzzyUnavailable = false;
+        if (query.continuationToken() == null) {
+            mode = CatalogSearchMode.FULL_TEXT;
+            rows = catalogEntryRepository.search(text, mode, pageSize + 1);
+            // Nothing matched whole words, so the query is probably misspelled or a partial word
+            if (rows.hits().isEmpty() && hasSimilarityWord(text)) {
+                // Fuzzy matching is a best effort; when it runs too long, the empty full-text page is returned
+                try {
+                    rows = catalogEntryRepository.search(text, CatalogSearchMode.SIMILARITY, pageSize + 1);
+                    mode = CatalogSearchMode.SIMILARITY;
+                } catch (QueryTimeoutException e) {
+                    fuzzyUnavailable = true;
+                }
+            }
+        } else {
+            Cursor cursor = Cursor.decode(query.continuationToken());
+            mode = cursor.mode();
+            try {
+                rows = catalogEntryRepository.searchAfter(text, mode, cursor.score(), cursor.isbn(), pageSize + 1);
+            } catch (QueryTimeoutException e) {
+                // Only fuzzy matching is cancelled when it runs too long
+                if (mode != CatalogSearchMode.SIMILARITY) {
+                    throw e;
+                }
+                rows = CatalogSearchHits.NONE;
+                fuzzyUnavailable = true;
+            }
+        }
+
+        boolean hasMore = rows.hits().size() > pageSize;
+        List<CatalogSearchHit> page = hasMore ? rows.hits().subList(0, pageSize) : rows.hits();
+
+        String continuationToken = hasMore
+                ? new Cursor(mode, page.get(page.size() - 1)).encode()
+                : null;
+
+        return new CatalogSearchPageDto(
+                page.stream().map(CatalogSearchHitDto::from).toList(),
+                mode == CatalogSearchMode.SIMILARITY,
+                fuzzyUnavailable,
+                rows.partial(),
+                continuationToken
+        );
+    }
+
+    private static boolean hasSimilarityWord(String text) {
+        return WORD_SEPARATOR.splitAsStream(text)
+                .anyMatch(word -> word.length() >= MIN_SIMILARITY_WORD_LENGTH);
+    }
+
+    // The token carries the search mode along with the position, so later pages keep ranking the same way
+    private record Cursor(CatalogSearchMode mode, float score, Isbn isbn) {
+
+        Cursor(CatalogSearchMode mode, CatalogSearchHit last) {
+            this(mode, last.score(), last.isbn());
+        }
+
+        String encode() {
+            return ContinuationToken.encode(mode.name() + TOKEN_SEPARATOR + score + TOKEN_SEPARATOR + isbn.value());
+        }
+
+        static Cursor decode(String token) {
+            String[] parts = ContinuationToken.decode(token).split(String.valueOf(TOKEN_SEPARATOR), -1);
+            try {
+                if (parts.length != 3) {
+                    throw new IllegalArgumentException("Expected 3 parts");
+                }
+                return new Cursor(CatalogSearchMode.valueOf(parts[0]), Float.parseFloat(parts[1]), Isbn.existing(parts[2]));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid continuation token: " + token, e);
+            }
+        }
+    }
+}
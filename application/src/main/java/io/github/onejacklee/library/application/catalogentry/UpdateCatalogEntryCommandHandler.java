@@ -5,6 +5,8 @@ import io.github.onejacklee.library.domain.catalogentry.CatalogEntry;
 import io.github.onejacklee.library.domain.catalogentry.CatalogEntryRepository;
 import io.github.onejacklee.library.domain.catalogentry.Isbn;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.resilience.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -13,10 +15,14 @@ import org.springframework.transaction.annotation.Transactional;
 public class UpdateCatalogEntryCommandHandler {
 
     private final CatalogEntryRepository catalogEntryRepository;
+    private final AvailabilitySummaries availabilitySummaries;
 
+    // Setting title and author is idempotent, so a write that lost an optimistic lock race is safe to rerun
+    @Retryable(includes = OptimisticLockingFailureException.class, maxRetries = 3, delay = 20, jitter = 10,
+            multiplier = 2)
     @Transactional
     public CatalogEntryDto handle(UpdateCatalogEntryCommand command) {
-        Isbn isbn = Isbn.create(command.isbn());
+        Isbn isbn = Isbn.existing(command.isbn());
 
         CatalogEntry catalogEntry = catalogEntryRepository.findByIsbn(isbn)
                 .orElseThrow(() -> new CatalogEntryNotFoundException(command.isbn()));
@@ -25,6 +31,6 @@ public class UpdateCatalogEntryCommandHandler {
         catalogEntry.updateAuthor(command.author());
         catalogEntryRepository.save(catalogEntry);
 
-        return CatalogEntryDto.from(catalogEntry);
+        return CatalogEntryDto.from(catalogEntry, availabilitySummaries.findByIsbn(isbn));
     }
 }
@@ -5,10 +5,8 @@ import io.github.onejacklee.library.application.exception.BorrowerNotFoundExcept
 import io.github.onejacklee.library.domain.book.Book;
 import io.github.onejacklee.library.domain.book.BookId;
 import io.github.onejacklee.library.domain.book.BookRepository;
-import io.github.onejacklee.library.domain.borrower.Borrower;
 import io.github.onejacklee.library.domain.borrower.BorrowerId;
 import io.github.onejacklee.library.domain.borrower.BorrowerRepository;
-import io.github.onejacklee.library.domain.borrower.EmailAddress;
 import io.github.onejacklee.library.domain.catalogentry.CatalogEntry;
 import io.github.onejacklee.library.domain.catalogentry.CatalogEntryRepository;
 import io.github.onejacklee.library.domain.catalogentry.Isbn;
@@ -20,11 +18,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -49,18 +49,12 @@ class BorrowBookCommandHandlerTest {
     private BorrowBookCommandHandler handler;
 
     private Book book;
-    private Borrower borrower;
     private CatalogEntry catalogEntry;
 
     @BeforeEach
     void setUp() {
         handler = new BorrowBookCommandHandler(bookRepository, borrowerRepository, catalogEntryRepository);
         book = Book.register(BookId.create(BOOK_ID), Isbn.create(ISBN));
-        borrower = Borrower.register(
-                BorrowerId.create(BORROWER_ID),
-                "John Doe",
-                EmailAddress.create("john@example.com")
-        );
         catalogEntry = CatalogEntry.create(ISBN, TITLE, AUTHOR);
     }
 
@@ -70,8 +64,10 @@ class BorrowBookCommandHandlerTest {
 
         @BeforeEach
         void setUp() {
-            when(bookRepository.findById(any(BookId.class))).thenReturn(Optional.of(book));
-            when(borrowerRepository.findById(any(BorrowerId.class))).thenReturn(Optional.of(borrower));
+            when(borrowerRepository.existsById(any(BorrowerId.class))).thenReturn(true);
+            when(bookRepository.borrowIfAvailable(any(BookId.class), any(BorrowerId.class), any(LocalDateTime.class)))
+                    .thenAnswer(invocation -> Optional.of(
+                            book.borrow(invocation.getArgument(1), invocation.getArgument(2))));
             when(catalogEntryRepository.findByIsbn(any(Isbn.class))).thenReturn(Optional.of(catalogEntry));
         }
 
@@ -89,14 +85,27 @@ class BorrowBookCommandHandlerTest {
         }
 
         @Test
-        @DisplayName("should save the borrowed book")
-        void shouldSaveTheBorrowedBook() {
+        @DisplayName("should borrow through a single conditional update")
+        void shouldBorrowThroughSingleConditionalUpdate() {
             var command = new BorrowBookCommand(BOOK_ID, BORROWER_ID);
 
             handler.handle(command);
 
-            verify(bookRepository).save(book);
-            assertThat(book.isAvailable()).isFalse();
+            verify(bookRepository).borrowIfAvailable(
+                    eq(BookId.create(BOOK_ID)), eq(BorrowerId.create(BORROWER_ID)), any(LocalDateTime.class));
+            verify(bookRepository, never()).findById(any());
+            verify(bookRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("should check the borrower exists without loading it")
+        void shouldCheckBorrowerExistsWithoutLoadingIt() {
+            var command = new BorrowBookCommand(BOOK_ID, BORROWER_ID);
+
+            handler.handle(command);
+
+            verify(borrowerRepository).existsById(BorrowerId.create(BORROWER_ID));
+            verify(borrowerRepository, never()).findById(any());
         }
 
         @Test
@@ -118,6 +127,9 @@ class BorrowBookCommandHandlerTest {
 
         @BeforeEach
         void setUp() {
+            when(borrowerRepository.existsById(any(BorrowerId.class))).thenReturn(true);
+            when(bookRepository.borrowIfAvailable(any(BookId.class), any(BorrowerId.class), any(LocalDateTime.class)))
+                    .thenReturn(Optional.empty());
             when(bookRepository.findById(any(BookId.class))).thenReturn(Optional.empty());
         }
 
@@ -129,19 +141,6 @@ class BorrowBookCommandHandlerTest {
             assertThatThrownBy(() -> handler.handle(command))
                     .isInstanceOf(BookNotFoundException.class);
         }
-
-        @Test
-        @DisplayName("should not check borrower")
-        void shouldNotCheckBorrower() {
-            var command = new BorrowBookCommand(BOOK_ID, BORROWER_ID);
-
-            try {
-                handler.handle(command);
-            } catch (BookNotFoundException ignored) {
-            }
-
-            verify(borrowerRepository, never()).findById(any());
-        }
     }
 
     @Nested
@@ -150,8 +149,7 @@ class BorrowBookCommandHandlerTest {
 
         @BeforeEach
         void setUp() {
-            when(bookRepository.findById(any(BookId.class))).thenReturn(Optional.of(book));
-            when(borrowerRepository.findById(any(BorrowerId.class))).thenReturn(Optional.empty());
+            when(borrowerRepository.existsById(any(BorrowerId.class))).thenReturn(false);
         }
 
         @Test
@@ -164,8 +162,8 @@ class BorrowBookCommandHandlerTest {
         }
 
         @Test
-        @DisplayName("should not save book")
-        void shouldNotSaveBook() {
+        @DisplayName("should not update book")
+        void shouldNotUpdateBook() {
             var command = new BorrowBookCommand(BOOK_ID, BORROWER_ID);
 
             try {
@@ -173,7 +171,7 @@ class BorrowBookCommandHandlerTest {
             } catch (BorrowerNotFoundException ignored) {
             }
 
-            verify(bookRepository, never()).save(any());
+            verify(bookRepository, never()).borrowIfAvailable(any(), any(), any());
         }
     }
 
@@ -184,8 +182,10 @@ class BorrowBookCommandHandlerTest {
         @BeforeEach
         void setUp() {
             book.borrow(BorrowerId.create("01ARZ3NDEKTSV4RRFFQ69G5FAX"));
+            when(borrowerRepository.existsById(any(BorrowerId.class))).thenReturn(true);
+            when(bookRepository.borrowIfAvailable(any(BookId.class), any(BorrowerId.class), any(LocalDateTime.class)))
+                    .thenReturn(Optional.empty());
             when(bookRepository.findById(any(BookId.class))).thenReturn(Optional.of(book));
-            when(borrowerRepository.findById(any(BorrowerId.class))).thenReturn(Optional.of(borrower));
         }
 
         @Test
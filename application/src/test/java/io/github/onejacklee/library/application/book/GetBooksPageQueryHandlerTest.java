@@ -0,0 +1,133 @@
+package io.github.onejacklee.library.application.book;
+
+import io.github.onejacklee.library.common.application.ContinuationToken;
+import io.github.onejacklee.library.domain.book.BookId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetBooksPageQueryHandler")
+class GetBooksPageQueryHandlerTest {
+
+    private static final String BOOK_ID_1 = "01ARZ3NDEKTSV4RRFFQ69G5FAV";
+    private static final String BOOK_ID_2 = "01ARZ3NDEKTSV4RRFFQ69G5FAW";
+    private static final String BOOK_ID_3 = "01ARZ3NDEKTSV4RRFFQ69G5FAX";
+
+    @Mock
+    private BookListing bookListing;
+
+    private GetBooksPageQueryHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        handler = new GetBooksPageQueryHandler(bookListing);
+    }
+
+    private static BookDetailsDto book(String id) {
+        return new BookDetailsDto(id, "9780132350884", "Clean Code", "Robert C. Martin", true, null, null);
+    }
+
+    @Nested
+    @DisplayName("first page")
+    class FirstPage {
+
+        @Test
+        @DisplayName("should request one row more than the page size")
+        void shouldRequestOneRowMoreThanPageSize() {
+            when(bookListing.findPage(anyInt())).thenReturn(List.of());
+
+            handler.handle(new GetBooksPageQuery(2, null));
+
+            verify(bookListing).findPage(3);
+            verify(bookListing, never()).findPageAfter(any(), anyInt());
+        }
+
+        @Test
+        @DisplayName("should return continuation token when more rows exist")
+        void shouldReturnContinuationTokenWhenMoreRowsExist() {
+            when(bookListing.findPage(3)).thenReturn(List.of(
+                    book(BOOK_ID_1),
+                    book(BOOK_ID_2),
+                    book(BOOK_ID_3)
+            ));
+
+            BookPageDto result = handler.handle(new GetBooksPageQuery(2, null));
+
+            assertThat(result.items())
+                    .extracting(BookDetailsDto::id)
+                    .containsExactly(BOOK_ID_1, BOOK_ID_2);
+            assertThat(result.hasMore()).isTrue();
+            assertThat(ContinuationToken.decode(result.continuationToken())).isEqualTo(BOOK_ID_2);
+        }
+
+        @Test
+        @DisplayName("should not return continuation token on the last page")
+        void shouldNotReturnContinuationTokenOnLastPage() {
+            when(bookListing.findPage(3)).thenReturn(List.of(book(BOOK_ID_1)));
+
+            BookPageDto result = handler.handle(new GetBooksPageQuery(2, null));
+
+            assertThat(result.items()).hasSize(1);
+            assertThat(result.hasMore()).isFalse();
+            assertThat(result.continuationToken()).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("subsequent page")
+    class SubsequentPage {
+
+        @Test
+        @DisplayName("should seek after the id carried by the continuation token")
+        void shouldSeekAfterTokenId() {
+            when(bookListing.findPageAfter(BookId.create(BOOK_ID_2), 3))
+                    .thenReturn(List.of(book(BOOK_ID_3)));
+
+            BookPageDto result = handler.handle(
+                    new GetBooksPageQuery(2, ContinuationToken.encode(BOOK_ID_2)));
+
+            assertThat(result.items())
+                    .extracting(BookDetailsDto::id)
+                    .containsExactly(BOOK_ID_3);
+            assertThat(result.hasMore()).isFalse();
+        }
+
+        @Test
+        @DisplayName("should throw for malformed continuation token")
+        void shouldThrowForMalformedToken() {
+            assertThatThrownBy(() -> handler.handle(new GetBooksPageQuery(2, "not*a*token")))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Invalid continuation token");
+        }
+    }
+
+    @Nested
+    @DisplayName("validation")
+    class Validation {
+
+        @ParameterizedTest
+        @ValueSource(ints = {0, -1, GetBooksPageQueryHandler.MAX_PAGE_SIZE + 1})
+        @DisplayName("should throw for out of range page size")
+        void shouldThrowForOutOfRangePageSize(int pageSize) {
+            assertThatThrownBy(() -> handler.handle(new GetBooksPageQuery(pageSize, null)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Page size must be between 1 and");
+
+            verifyNoInteractions(bookListing);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package io.github.onejacklee.library.application.book;
+
+import io.github.onejacklee.library.application.exception.BorrowerNotFoundException;
+import io.github.onejacklee.library.domain.borrower.BorrowerId;
+import io.github.onejacklee.library.domain.borrower.BorrowerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetBorrowerLoansQueryHandler")
+class GetBorrowerLoansQueryHandlerTest {
+
+    private static final String BORROWER_ID = "01ARZ3NDEKTSV4RRFFQ69G5FAW";
+
+    @Mock
+    private BookListing bookListing;
+
+    @Mock
+    private BorrowerRepository borrowerRepository;
+
+    private GetBorrowerLoansQueryHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        handler = new GetBorrowerLoansQueryHandler(bookListing, borrowerRepository);
+    }
+
+    @Test
+    @DisplayName("should return the books the borrower holds")
+    void shouldReturnBooksBorrowerHolds() {
+        var loan = new BookDetailsDto("01ARZ3NDEKTSV4RRFFQ69G5FAV", "9780132350884", "Clean Code",
+                "Robert C. Martin", false, BORROWER_ID, LocalDateTime.of(2026, 1, 1, 12, 0));
+        when(borrowerRepository.existsById(BorrowerId.create(BORROWER_ID))).thenReturn(true);
+        when(bookListing.findByBorrower(BorrowerId.create(BORROWER_ID))).thenReturn(List.of(loan));
+
+        assertThat(handler.handle(new GetBorrowerLoansQuery(BORROWER_ID))).containsExactly(loan);
+    }
+
+    @Test
+    @DisplayName("should throw BorrowerNotFoundException for an unknown borrower")
+    void shouldThrowForUnknownBorrower() {
+        when(borrowerRepository.existsById(BorrowerId.create(BORROWER_ID))).thenReturn(false);
+
+        assertThatThrownBy(() -> handler.handle(new GetBorrowerLoansQuery(BORROWER_ID)))
+                .isInstanceOf(BorrowerNotFoundException.class);
+        verifyNoInteractions(bookListing);
+    }
+}
@@ -3,8 +3,11 @@ package io.github.onejacklee.library.application.book;
 import io.github.onejacklee.library.application.exception.CatalogEntryConflictException;
 import io.github.onejacklee.library.common.application.IdGenerator;
 import io.github.onejacklee.library.domain.book.Book;
+import io.github.onejacklee.library.domain.book.BookId;
+import io.github.onejacklee.library.domain.book.BookRegistered;
 import io.github.onejacklee.library.domain.book.BookRepository;
 import io.github.onejacklee.library.domain.catalogentry.CatalogEntry;
+import io.github.onejacklee.library.domain.catalogentry.CatalogEntryChanged;
 import io.github.onejacklee.library.domain.catalogentry.CatalogEntryRepository;
 import io.github.onejacklee.library.domain.catalogentry.Isbn;
 import org.junit.jupiter.api.BeforeEach;
@@ -103,6 +106,32 @@ class RegisterBookCommandHandlerTest {
             assertThat(saved.getIsbn().value()).isEqualTo(ISBN);
             assertThat(saved.isAvailable()).isTrue();
         }
+
+        @Test
+        @DisplayName("should save the new catalog entry with its change event")
+        void shouldSaveNewCatalogEntryWithEvent() {
+            var command = new RegisterBookCommand(ISBN, TITLE, AUTHOR);
+
+            handler.handle(command);
+
+            ArgumentCaptor<CatalogEntry> captor = ArgumentCaptor.forClass(CatalogEntry.class);
+            verify(catalogEntryRepository).save(captor.capture());
+            assertThat(captor.getValue().getDomainEvents())
+                    .containsExactly(new CatalogEntryChanged(Isbn.create(ISBN), TITLE, AUTHOR));
+        }
+
+        @Test
+        @DisplayName("should save the new copy with its registration event")
+        void shouldSaveNewCopyWithEvent() {
+            var command = new RegisterBookCommand(ISBN, TITLE, AUTHOR);
+
+            handler.handle(command);
+
+            ArgumentCaptor<Book> captor = ArgumentCaptor.forClass(Book.class);
+            verify(bookRepository).save(captor.capture());
+            assertThat(captor.getValue().getDomainEvents())
+                    .containsExactly(new BookRegistered(BookId.create(BOOK_ID), Isbn.create(ISBN)));
+        }
     }
 
     @Nested
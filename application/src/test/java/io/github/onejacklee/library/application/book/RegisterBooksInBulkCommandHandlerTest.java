@@ -0,0 +1,221 @@
+package io.github.onejacklee.library.application.book;
+
+import io.github.onejacklee.library.application.book.BulkRegistrationDto.RowResult;
+import io.github.onejacklee.library.application.book.RegisterBooksInBulkCommand.Row;
+import io.github.onejacklee.library.common.application.IdGenerator;
+import io.github.onejacklee.library.domain.book.Book;
+import io.github.onejacklee.library.domain.book.BookRepository;
+import io.github.onejacklee.library.domain.catalogentry.CatalogEntry;
+import io.github.onejacklee.library.domain.catalogentry.CatalogEntryChanged;
+import io.github.onejacklee.library.domain.catalogentry.CatalogEntryRepository;
+import io.github.onejacklee.library.domain.catalogentry.Isbn;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RegisterBooksInBulkCommandHandler")
+class RegisterBooksInBulkCommandHandlerTest {
+
+    private static final String CLEAN_CODE_ISBN = "9780132350884";
+    private static final String EFFECTIVE_JAVA_ISBN = "9780134685991";
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private CatalogEntryRepository catalogEntryRepository;
+
+    @Mock
+    private IdGenerator idGenerator;
+
+    private RegisterBooksInBulkCommandHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        handler = new RegisterBooksInBulkCommandHandler(bookRepository, catalogEntryRepository, idGenerator);
+    }
+
+    private void stubIds() {
+        AtomicInteger sequence = new AtomicInteger();
+        lenient().when(idGenerator.generate())
+                .thenAnswer(invocation -> "01ARZ3NDEKTSV4RRFFQ69G5F" + String.format("%02d", sequence.getAndIncrement()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Book> insertedBooks() {
+        ArgumentCaptor<List<Book>> captor = ArgumentCaptor.forClass(List.class);
+        verify(bookRepository).insertAll(captor.capture());
+        return captor.getValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<CatalogEntry> insertedCatalogEntries() {
+        ArgumentCaptor<List<CatalogEntry>> captor = ArgumentCaptor.forClass(List.class);
+        verify(catalogEntryRepository).insertAll(captor.capture());
+        return captor.getValue();
+    }
+
+    @Nested
+    @DisplayName("catalog lookups")
+    class CatalogLookups {
+
+        @BeforeEach
+        void setUp() {
+            stubIds();
+        }
+
+        @Test
+        @DisplayName("should look up every distinct ISBN once")
+        @SuppressWarnings("unchecked")
+        void shouldLookUpEveryDistinctIsbnOnce() {
+            when(catalogEntryRepository.findAllByIsbn(any())).thenReturn(List.of());
+
+            handler.handle(new RegisterBooksInBulkCommand(List.of(
+                    new Row(CLEAN_CODE_ISBN, "Clean Code", "Robert C. Martin", 1),
+                    new Row("978-0-13-235088-4", "Clean Code", "Robert C. Martin", 1),
+                    new Row(EFFECTIVE_JAVA_ISBN, "Effective Java", "Joshua Bloch", 1),
+                    new Row("not-an-isbn", "Broken", "Nobody", 1)
+            )));
+
+            ArgumentCaptor<Collection<Isbn>> captor = ArgumentCaptor.forClass(Collection.class);
+            verify(catalogEntryRepository, times(1)).findAllByIsbn(captor.capture());
+            assertThat(captor.getValue())
+                    .containsExactlyInAnyOrder(Isbn.create(CLEAN_CODE_ISBN), Isbn.create(EFFECTIVE_JAVA_ISBN));
+        }
+
+        @Test
+        @DisplayName("should create a catalog entry once for rows sharing a new ISBN")
+        void shouldCreateCatalogEntryOnceForSharedIsbn() {
+            when(catalogEntryRepository.findAllByIsbn(any())).thenReturn(List.of());
+
+            handler.handle(new RegisterBooksInBulkCommand(List.of(
+                    new Row(CLEAN_CODE_ISBN, "Clean Code", "Robert C. Martin", 2),
+                    new Row(CLEAN_CODE_ISBN, "clean code", "Robert C. Martin", 1)
+            )));
+
+            assertThat(insertedCatalogEntries())
+                    .extracting(CatalogEntry::getIsbn)
+                    .containsExactly(Isbn.create(CLEAN_CODE_ISBN));
+            assertThat(insertedBooks()).hasSize(3);
+            assertThat(insertedCatalogEntries().get(0).getDomainEvents()).containsExactly(
+                    new CatalogEntryChanged(Isbn.create(CLEAN_CODE_ISBN), "Clean Code", "Robert C. Martin"));
+        }
+
+        @Test
+        @DisplayName("should reuse existing catalog entries")
+        void shouldReuseExistingCatalogEntries() {
+            when(catalogEntryRepository.findAllByIsbn(any())).thenReturn(List.of(
+                    CatalogEntry.create(CLEAN_CODE_ISBN, "Clean Code", "Robert C. Martin")));
+
+            handler.handle(new RegisterBooksInBulkCommand(List.of(
+                    new Row(CLEAN_CODE_ISBN, "Clean Code", "Robert C. Martin", 1))));
+
+            assertThat(insertedCatalogEntries()).isEmpty();
+            assertThat(insertedBooks())
+                    .extracting(Book::getIsbn)
+                    .containsExactly(Isbn.create(CLEAN_CODE_ISBN));
+        }
+    }
+
+    @Nested
+    @DisplayName("row results")
+    class RowResults {
+
+        @BeforeEach
+        void setUp() {
+            stubIds();
+        }
+
+        @Test
+        @DisplayName("should return one book id per copy")
+        void shouldReturnOneBookIdPerCopy() {
+            when(catalogEntryRepository.findAllByIsbn(any())).thenReturn(List.of());
+
+            BulkRegistrationDto result = handler.handle(new RegisterBooksInBulkCommand(List.of(
+                    new Row(CLEAN_CODE_ISBN, "Clean Code", "Robert C. Martin", 3))));
+
+            assertThat(result.rows()).singleElement().satisfies(row -> {
+                assertThat(row.registered()).isTrue();
+                assertThat(row.isbn()).isEqualTo(CLEAN_CODE_ISBN);
+                assertThat(row.bookIds()).hasSize(3).doesNotHaveDuplicates();
+            });
+            assertThat(insertedBooks())
+                    .extracting(book -> book.getId().value())
+                    .containsExactlyElementsOf(result.rows().get(0).bookIds());
+        }
+
+        @Test
+        @DisplayName("should reject bad rows without failing the batch")
+        void shouldRejectBadRowsWithoutFailingBatch() {
+            when(catalogEntryRepository.findAllByIsbn(any())).thenReturn(List.of(
+                    CatalogEntry.create(EFFECTIVE_JAVA_ISBN, "Effective Java", "Joshua Bloch")));
+
+            BulkRegistrationDto result = handler.handle(new RegisterBooksInBulkCommand(List.of(
+                    new Row(CLEAN_CODE_ISBN, "Clean Code", "Robert C. Martin", 1),
+                    new Row("1234567890", "Bad Check Digit", "Nobody", 1),
+                    new Row(EFFECTIVE_JAVA_ISBN, "Different Title", "Joshua Bloch", 1),
+                    new Row(CLEAN_CODE_ISBN, "Clean Architecture", "Robert C. Martin", 1),
+                    new Row(CLEAN_CODE_ISBN, "Clean Code", "Robert C. Martin", 0),
+                    new Row(CLEAN_CODE_ISBN, null, "Robert C. Martin", 1),
+                    new Row("0134685997", "   ", "Joshua Bloch", 1)
+            )));
+
+            assertThat(result.rows()).extracting(RowResult::row).containsExactly(0, 1, 2, 3, 4, 5, 6);
+            assertThat(result.rows()).extracting(RowResult::registered)
+                    .containsExactly(true, false, false, false, false, false, false);
+            assertThat(result.rows().get(1).error()).contains("check digit");
+            assertThat(result.rows().get(2).error()).contains("different title/author");
+            assertThat(result.rows().get(3).error()).contains("different title/author");
+            assertThat(result.rows().get(4).error()).contains("Copies must be between 1 and");
+            assertThat(result.rows().get(5).error()).contains("required");
+            assertThat(result.rows().get(6).error()).contains("Title cannot be blank");
+            assertThat(result.registeredCount()).isEqualTo(1);
+            assertThat(result.rejectedCount()).isEqualTo(6);
+            assertThat(insertedBooks()).hasSize(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("validation")
+    class Validation {
+
+        @Test
+        @DisplayName("should throw for an empty batch")
+        void shouldThrowForEmptyBatch() {
+            assertThatThrownBy(() -> handler.handle(new RegisterBooksInBulkCommand(List.of())))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Number of rows must be between 1 and");
+
+            verifyNoInteractions(catalogEntryRepository, bookRepository);
+        }
+
+        @Test
+        @DisplayName("should throw for a batch over the row limit")
+        void shouldThrowForOversizedBatch() {
+            Row row = new Row(CLEAN_CODE_ISBN, "Clean Code", "Robert C. Martin", 1);
+
+            assertThatThrownBy(() -> handler.handle(new RegisterBooksInBulkCommand(
+                    Collections.nCopies(RegisterBooksInBulkCommandHandler.MAX_ROWS + 1, row))))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Number of rows must be between 1 and");
+
+            verifyNoInteractions(catalogEntryRepository, bookRepository);
+        }
+    }
+}
@@ -58,8 +58,8 @@ class ReturnBookCommandHandlerTest {
 
         @BeforeEach
         void setUp() {
-            book.borrow(BorrowerId.create(BORROWER_ID));
-            when(bookRepository.findById(any(BookId.class))).thenReturn(Optional.of(book));
+            when(bookRepository.returnIfBorrowedBy(any(BookId.class), any(BorrowerId.class)))
+                    .thenReturn(Optional.of(book));
             when(catalogEntryRepository.findByIsbn(any(Isbn.class))).thenReturn(Optional.of(catalogEntry));
         }
 
@@ -77,14 +77,15 @@ class ReturnBookCommandHandlerTest {
         }
 
         @Test
-        @DisplayName("should save the returned book")
-        void shouldSaveTheReturnedBook() {
+        @DisplayName("should return through a single conditional update")
+        void shouldReturnThroughSingleConditionalUpdate() {
             var command = new ReturnBookCommand(BOOK_ID, BORROWER_ID);
 
             handler.handle(command);
 
-            verify(bookRepository).save(book);
-            assertThat(book.isAvailable()).isTrue();
+            verify(bookRepository).returnIfBorrowedBy(BookId.create(BOOK_ID), BorrowerId.create(BORROWER_ID));
+            verify(bookRepository, never()).findById(any());
+            verify(bookRepository, never()).save(any());
         }
 
         @Test
@@ -106,6 +107,8 @@ class ReturnBookCommandHandlerTest {
 
         @BeforeEach
         void setUp() {
+            when(bookRepository.returnIfBorrowedBy(any(BookId.class), any(BorrowerId.class)))
+                    .thenReturn(Optional.empty());
             when(bookRepository.findById(any(BookId.class))).thenReturn(Optional.empty());
         }
 
@@ -126,6 +129,8 @@ class ReturnBookCommandHandlerTest {
         @BeforeEach
         void setUp() {
             book.borrow(BorrowerId.create(OTHER_BORROWER_ID));
+            when(bookRepository.returnIfBorrowedBy(any(BookId.class), any(BorrowerId.class)))
+                    .thenReturn(Optional.empty());
             when(bookRepository.findById(any(BookId.class))).thenReturn(Optional.of(book));
         }
 
@@ -140,8 +145,8 @@ class ReturnBookCommandHandlerTest {
         }
 
         @Test
-        @DisplayName("should not save book")
-        void shouldNotSaveBook() {
+        @DisplayName("should not look up catalog entry")
+        void shouldNotLookUpCatalogEntry() {
             var command = new ReturnBookCommand(BOOK_ID, BORROWER_ID);
 
             try {
@@ -149,7 +154,7 @@ class ReturnBookCommandHandlerTest {
             } catch (IllegalStateException ignored) {
             }
 
-            verify(bookRepository, never()).save(any());
+            verifyNoInteractions(catalogEntryRepository);
         }
     }
 
@@ -159,6 +164,8 @@ class ReturnBookCommandHandlerTest {
 
         @BeforeEach
         void setUp() {
+            when(bookRepository.returnIfBorrowedBy(any(BookId.class), any(BorrowerId.class)))
+                    .thenReturn(Optional.empty());
             when(bookRepository.findById(any(BookId.class))).thenReturn(Optional.of(book));
         }
 
@@ -0,0 +1,159 @@
+package io.github.onejacklee.library.application.borrower;
+
+import io.github.onejacklee.library.common.application.ContinuationToken;
+import io.github.onejacklee.library.domain.borrower.BorrowerId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetBorrowersPageQueryHandler")
+class GetBorrowersPageQueryHandlerTest {
+
+    private static final String BORROWER_ID_1 = "01ARZ3NDEKTSV4RRFFQ69G5FAV";
+    private static final String BORROWER_ID_2 = "01ARZ3NDEKTSV4RRFFQ69G5FAW";
+    private static final String BORROWER_ID_3 = "01ARZ3NDEKTSV4RRFFQ69G5FAX";
+    private static final BorrowerFilter NO_FILTER = new BorrowerFilter(null, null);
+
+    @Mock
+    private BorrowerListing borrowerListing;
+
+    private GetBorrowersPageQueryHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        handler = new GetBorrowersPageQueryHandler(borrowerListing);
+    }
+
+    private static BorrowerDto borrower(String id) {
+        return new BorrowerDto(id, "Jane Doe", id.toLowerCase() + "@example.com");
+    }
+
+    @Nested
+    @DisplayName("first page")
+    class FirstPage {
+
+        @Test
+        @DisplayName("should request one row more than the page size")
+        void shouldRequestOneRowMoreThanPageSize() {
+            when(borrowerListing.findPage(any(), anyInt())).thenReturn(List.of());
+
+            handler.handle(new GetBorrowersPageQuery(2, null, null, null));
+
+            verify(borrowerListing).findPage(NO_FILTER, 3);
+            verify(borrowerListing, never()).findPageAfter(any(), any(), anyInt());
+        }
+
+        @Test
+        @DisplayName("should return continuation token when more rows exist")
+        void shouldReturnContinuationTokenWhenMoreRowsExist() {
+            when(borrowerListing.findPage(NO_FILTER, 3)).thenReturn(List.of(
+                    borrower(BORROWER_ID_1),
+                    borrower(BORROWER_ID_2),
+                    borrower(BORROWER_ID_3)
+            ));
+
+            BorrowerPageDto result = handler.handle(new GetBorrowersPageQuery(2, null, null, null));
+
+            assertThat(result.items())
+                    .extracting(BorrowerDto::id)
+                    .containsExactly(BORROWER_ID_1, BORROWER_ID_2);
+            assertThat(result.hasMore()).isTrue();
+            assertThat(ContinuationToken.decode(result.continuationToken())).isEqualTo(BORROWER_ID_2);
+        }
+
+        @Test
+        @DisplayName("should not return continuation token on the last page")
+        void shouldNotReturnContinuationTokenOnLastPage() {
+            when(borrowerListing.findPage(NO_FILTER, 3)).thenReturn(List.of(borrower(BORROWER_ID_1)));
+
+            BorrowerPageDto result = handler.handle(new GetBorrowersPageQuery(2, null, null, null));
+
+            assertThat(result.items()).hasSize(1);
+            assertThat(result.hasMore()).isFalse();
+            assertThat(result.continuationToken()).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("subsequent page")
+    class SubsequentPage {
+
+        @Test
+        @DisplayName("should seek after the id carried by the continuation token")
+        void shouldSeekAfterTokenId() {
+            when(borrowerListing.findPageAfter(NO_FILTER, BorrowerId.create(BORROWER_ID_2), 3))
+                    .thenReturn(List.of(borrower(BORROWER_ID_3)));
+
+            BorrowerPageDto result = handler.handle(
+                    new GetBorrowersPageQuery(2, ContinuationToken.encode(BORROWER_ID_2), null, null));
+
+            assertThat(result.items())
+                    .extracting(BorrowerDto::id)
+                    .containsExactly(BORROWER_ID_3);
+            assertThat(result.hasMore()).isFalse();
+        }
+
+        @Test
+        @DisplayName("should throw for malformed continuation token")
+        void shouldThrowForMalformedToken() {
+            assertThatThrownBy(() -> handler.handle(new GetBorrowersPageQuery(2, "not*a*token", null, null)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Invalid continuation token");
+        }
+    }
+
+    @Nested
+    @DisplayName("filters")
+    class Filters {
+
+        @Test
+        @DisplayName("should lower-case the email prefix and trim both filters")
+        void shouldNormalizeFilters() {
+            when(borrowerListing.findPage(any(), anyInt())).thenReturn(List.of());
+
+            handler.handle(new GetBorrowersPageQuery(2, null, " Jane.D ", " Doe "));
+
+            verify(borrowerListing).findPage(new BorrowerFilter("jane.d", "Doe"), 3);
+        }
+
+        @Test
+        @DisplayName("should ignore blank filters")
+        void shouldIgnoreBlankFilters() {
+            when(borrowerListing.findPage(any(), anyInt())).thenReturn(List.of());
+
+            handler.handle(new GetBorrowersPageQuery(2, null, "", "  "));
+
+            verify(borrowerListing).findPage(NO_FILTER, 3);
+        }
+    }
+
+    @Nested
+    @DisplayName("validation")
+    class Validation {
+
+        @ParameterizedTest
+        @ValueSource(ints = {0, -1, GetBorrowersPageQueryHandler.MAX_PAGE_SIZE + 1})
+        @DisplayName("should throw for out of range page size")
+        void shouldThrowForOutOfRangePageSize(int pageSize) {
+            assertThatThrownBy(() -> handler.handle(new GetBorrowersPageQuery(pageSize, null, null, null)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Page size must be between 1 and");
+
+            verifyNoInteractions(borrowerListing);
+        }
+    }
+}
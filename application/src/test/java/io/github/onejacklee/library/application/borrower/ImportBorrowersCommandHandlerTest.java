@@ -0,0 +1,167 @@
+package io.github.onejacklee.library.application.borrower;
+
+import io.github.onejacklee.library.application.borrower.BorrowerImportDto.Outcome;
+import io.github.onejacklee.library.application.borrower.BorrowerImportDto.RowResult;
+import io.github.onejacklee.library.common.application.IdGenerator;
+import io.github.onejacklee.library.domain.borrower.Borrower;
+import io.github.onejacklee.library.domain.borrower.BorrowerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ImportBorrowersCommandHandler")
+class ImportBorrowersCommandHandlerTest {
+
+    @Mock
+    private BorrowerRepository borrowerRepository;
+
+    @Mock
+    private IdGenerator idGenerator;
+
+    private ImportBorrowersCommandHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        handler = new ImportBorrowersCommandHandler(borrowerRepository, idGenerator);
+    }
+
+    private static ImportBorrowersCommand command(ImportBorrowersCommand.Row... rows) {
+        return new ImportBorrowersCommand(Stream.of(rows).iterator());
+    }
+
+    private static ImportBorrowersCommand.Row row(String name, String emailAddress) {
+        return new ImportBorrowersCommand.Row(name, emailAddress);
+    }
+
+    @Nested
+    @DisplayName("with rows to import")
+    class WithRowsToImport {
+
+        private final AtomicLong ids = new AtomicLong();
+
+        @BeforeEach
+        void setUp() {
+            lenient().when(idGenerator.generate()).thenAnswer(invocation ->
+                    String.format("01ARZ3NDEKTSV4RRFFQ6%06d", ids.incrementAndGet()));
+            // Every borrower is new unless a test says otherwise
+            lenient().when(borrowerRepository.insertAllIfAbsent(anyList()))
+                    .thenAnswer(invocation -> invocation.getArgument(0));
+        }
+
+        @Test
+        @DisplayName("should import every valid row")
+        void shouldImportEveryValidRow() {
+            BorrowerImportDto result = handler.handle(command(
+                    row("Jane Doe", "Jane.Doe@Example.com"),
+                    row("John Doe", "john.doe@example.com")));
+
+            assertThat(result.rows()).extracting(RowResult::row, RowResult::emailAddress, RowResult::outcome)
+                    .containsExactly(
+                            tuple(0, "jane.doe@example.com", Outcome.IMPORTED),
+                            tuple(1, "john.doe@example.com", Outcome.IMPORTED));
+            assertThat(result.rows()).allSatisfy(row -> assertThat(row.borrowerId()).isNotNull());
+        }
+
+        @Test
+        @DisplayName("should report a repeated email address as a duplicate of its first row")
+        void shouldReportRepeatedEmailAsDuplicate() {
+            BorrowerImportDto result = handler.handle(command(
+                    row("Jane Doe", "jane.doe@example.com"),
+                    row("Jane Smith", "JANE.DOE@example.com")));
+
+            assertThat(result.rows().get(1).outcome()).isEqualTo(Outcome.DUPLICATE);
+            assertThat(result.rows().get(1).error()).isEqualTo("Email address already appears in row 0");
+            verify(borrowerRepository).insertAllIfAbsent(argThat(borrowers -> borrowers.size() == 1));
+        }
+
+        @Test
+        @DisplayName("should report a row whose email address is already registered")
+        void shouldReportAlreadyRegisteredEmail() {
+            when(borrowerRepository.insertAllIfAbsent(anyList())).thenAnswer(invocation -> {
+                List<Borrower> borrowers = invocation.getArgument(0);
+                return borrowers.subList(1, borrowers.size());
+            });
+
+            BorrowerImportDto result = handler.handle(command(
+                    row("Jane Doe", "jane.doe@example.com"),
+                    row("John Doe", "john.doe@example.com")));
+
+            assertThat(result.rows()).extracting(RowResult::outcome)
+                    .containsExactly(Outcome.ALREADY_REGISTERED, Outcome.IMPORTED);
+            assertThat(result.rows().get(0).borrowerId()).isNull();
+        }
+
+        @Test
+        @DisplayName("should reject invalid rows without failing the rest")
+        void shouldRejectInvalidRowsWithoutFailingRest() {
+            BorrowerImportDto result = handler.handle(command(
+                    row("Jane Doe", "not-an-email"),
+                    row(" ", "blank.name@example.com"),
+                    row(null, "no.name@example.com"),
+                    row("x".repeat(256), "long.name@example.com"),
+                    row("John Doe", "john.doe@example.com")));
+
+            assertThat(result.rows()).extracting(RowResult::outcome).containsExactly(
+                    Outcome.REJECTED, Outcome.REJECTED, Outcome.REJECTED, Outcome.REJECTED, Outcome.IMPORTED);
+            assertThat(result.rows().get(0).error()).contains("Invalid email address");
+            assertThat(result.count(Outcome.IMPORTED)).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should insert in batches, numbering rows across them")
+        void shouldInsertInBatches() {
+            int rows = ImportBorrowersCommandHandler.BATCH_SIZE + 1;
+
+            BorrowerImportDto result = handler.handle(new ImportBorrowersCommand(IntStream.range(0, rows)
+                    .mapToObj(i -> row("Student " + i, "student" + i + "@example.com"))
+                    .iterator()));
+
+            verify(borrowerRepository, times(2)).insertAllIfAbsent(anyList());
+            assertThat(result.rows()).hasSize(rows);
+            assertThat(result.rows().get(rows - 1).row()).isEqualTo(rows - 1);
+            assertThat(result.count(Outcome.IMPORTED)).isEqualTo(rows);
+        }
+    }
+
+    @Nested
+    @DisplayName("validation")
+    class Validation {
+
+        @Test
+        @DisplayName("should reject an empty import")
+        void shouldRejectEmptyImport() {
+            assertThatThrownBy(() -> handler.handle(command()))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("at least one row");
+        }
+
+        @Test
+        @DisplayName("should reject an import over the row limit")
+        void shouldRejectImportOverRowLimit() {
+            when(idGenerator.generate()).thenReturn("01ARZ3NDEKTSV4RRFFQ69G5FAV");
+            var command = new ImportBorrowersCommand(IntStream.range(0, ImportBorrowersCommandHandler.MAX_ROWS + 1)
+                    .mapToObj(i -> row("Student", "not-an-email"))
+                    .iterator());
+
+            assertThatThrownBy(() -> handler.handle(command))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("at most " + ImportBorrowersCommandHandler.MAX_ROWS);
+        }
+    }
+}
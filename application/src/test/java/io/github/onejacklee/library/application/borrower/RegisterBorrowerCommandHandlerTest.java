@@ -13,6 +13,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -30,6 +31,9 @@ class RegisterBorrowerCommandHandlerTest {
     @Mock
     private BorrowerRepository borrowerRepository;
 
+    @Mock
+    private BorrowerEmailFilter borrowerEmailFilter;
+
     @Mock
     private IdGenerator idGenerator;
 
@@ -37,7 +41,7 @@ class RegisterBorrowerCommandHandlerTest {
 
     @BeforeEach
     void setUp() {
-        handler = new RegisterBorrowerCommandHandler(borrowerRepository, idGenerator);
+        handler = new RegisterBorrowerCommandHandler(borrowerRepository, borrowerEmailFilter, idGenerator);
     }
 
     @Nested
@@ -47,6 +51,7 @@ class RegisterBorrowerCommandHandlerTest {
         @BeforeEach
         void setUp() {
             when(idGenerator.generate()).thenReturn(BORROWER_ID);
+            when(borrowerEmailFilter.mightExist(any(EmailAddress.class))).thenReturn(true);
             when(borrowerRepository.existsByEmailAddress(any(EmailAddress.class))).thenReturn(false);
         }
 
@@ -88,12 +93,43 @@ class RegisterBorrowerCommandHandlerTest {
         }
     }
 
+    @Nested
+    @DisplayName("when the email filter has not seen the email")
+    class WhenEmailFilterHasNotSeenEmail {
+
+        @BeforeEach
+        void setUp() {
+            when(idGenerator.generate()).thenReturn(BORROWER_ID);
+            when(borrowerEmailFilter.mightExist(any(EmailAddress.class))).thenReturn(false);
+        }
+
+        @Test
+        @DisplayName("should save borrower without checking the repository")
+        void shouldSaveWithoutCheckingRepository() {
+            handler.handle(new RegisterBorrowerCommand(NAME, EMAIL));
+
+            verify(borrowerRepository, never()).existsByEmailAddress(any());
+            verify(borrowerRepository).save(any(Borrower.class));
+        }
+
+        @Test
+        @DisplayName("should throw BorrowerEmailAlreadyExistsException when the insert finds the email taken")
+        void shouldThrowWhenInsertFindsEmailTaken() {
+            doThrow(new DuplicateKeyException("borrowers_email_address_key"))
+                    .when(borrowerRepository).save(any(Borrower.class));
+
+            assertThatThrownBy(() -> handler.handle(new RegisterBorrowerCommand(NAME, EMAIL)))
+                    .isInstanceOf(BorrowerEmailAlreadyExistsException.class);
+        }
+    }
+
     @Nested
     @DisplayName("when email already exists")
     class WhenEmailAlreadyExists {
 
         @BeforeEach
         void setUp() {
+            when(borrowerEmailFilter.mightExist(any(EmailAddress.class))).thenReturn(true);
             when(borrowerRepository.existsByEmailAddress(any(EmailAddress.class))).thenReturn(true);
         }
 
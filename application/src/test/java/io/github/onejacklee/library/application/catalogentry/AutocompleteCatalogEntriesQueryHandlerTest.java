@@ -0,0 +1,85 @@
+package io.github.onejacklee.library.application.catalogentry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AutocompleteCatalogEntriesQueryHandler")
+class AutocompleteCatalogEntriesQueryHandlerTest {
+
+    @Mock
+    private CatalogAutocompleteIndex catalogAutocompleteIndex;
+
+    private AutocompleteCatalogEntriesQueryHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        handler = new AutocompleteCatalogEntriesQueryHandler(catalogAutocompleteIndex);
+    }
+
+    @Nested
+    @DisplayName("suggestions")
+    class Suggestions {
+
+        @Test
+        @DisplayName("should return the index suggestions for the stripped text")
+        void shouldReturnIndexSuggestions() {
+            var suggestion = new CatalogSuggestionDto("9780132350884", "Clean Code", "Robert C. Martin");
+            when(catalogAutocompleteIndex.suggest("clean co", 5)).thenReturn(List.of(suggestion));
+
+            List<CatalogSuggestionDto> result = handler.handle(new AutocompleteCatalogEntriesQuery("  clean co ", 5));
+
+            assertThat(result).containsExactly(suggestion);
+        }
+    }
+
+    @Nested
+    @DisplayName("validation")
+    class Validation {
+
+        @Test
+        @DisplayName("should throw for blank text")
+        void shouldThrowForBlankText() {
+            assertThatThrownBy(() -> handler.handle(new AutocompleteCatalogEntriesQuery("   ", 5)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Autocomplete text must be between 1 and");
+
+            verifyNoInteractions(catalogAutocompleteIndex);
+        }
+
+        @Test
+        @DisplayName("should throw for text over the length limit")
+        void shouldThrowForTextOverLengthLimit() {
+            String text = "a".repeat(AutocompleteCatalogEntriesQueryHandler.MAX_TEXT_LENGTH + 1);
+
+            assertThatThrownBy(() -> handler.handle(new AutocompleteCatalogEntriesQuery(text, 5)))
+                    .isInstanceOf(IllegalArgumentException.class);
+
+            verifyNoInteractions(catalogAutocompleteIndex);
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {0, -1, AutocompleteCatalogEntriesQueryHandler.MAX_LIMIT + 1})
+        @DisplayName("should throw for out of range limit")
+        void shouldThrowForOutOfRangeLimit(int limit) {
+            assertThatThrownBy(() -> handler.handle(new AutocompleteCatalogEntriesQuery("clean", limit)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Limit must be between 1 and");
+
+            verifyNoInteractions(catalogAutocompleteIndex);
+        }
+    }
+}
@@ -30,11 +30,14 @@ class GetCatalogEntryByIsbnQueryHandlerTest {
     @Mock
     private CatalogEntryRepository catalogEntryRepository;
 
+    @Mock
+    private AvailabilitySummaries availabilitySummaries;
+
     private GetCatalogEntryByIsbnQueryHandler handler;
 
     @BeforeEach
     void setUp() {
-        handler = new GetCatalogEntryByIsbnQueryHandler(catalogEntryRepository);
+        handler = new GetCatalogEntryByIsbnQueryHandler(catalogEntryRepository, availabilitySummaries);
     }
 
     @Nested
@@ -47,6 +50,7 @@ class GetCatalogEntryByIsbnQueryHandlerTest {
         void setUp() {
             catalogEntry = CatalogEntry.create(ISBN, TITLE, AUTHOR);
             when(catalogEntryRepository.findByIsbn(any(Isbn.class))).thenReturn(Optional.of(catalogEntry));
+            when(availabilitySummaries.findByIsbn(Isbn.create(ISBN))).thenReturn(new AvailabilitySummary(3, 1));
         }
 
         @Test
@@ -61,6 +65,17 @@ class GetCatalogEntryByIsbnQueryHandlerTest {
             assertThat(result.author()).isEqualTo(AUTHOR);
         }
 
+        @Test
+        @DisplayName("should include copy availability")
+        void shouldIncludeCopyAvailability() {
+            var query = new GetCatalogEntryByIsbnQuery(ISBN);
+
+            CatalogEntryDto result = handler.handle(query);
+
+            assertThat(result.totalCopies()).isEqualTo(3);
+            assertThat(result.availableCopies()).isEqualTo(1);
+        }
+
         @Test
         @DisplayName("should normalize ISBN before lookup")
         void shouldNormalizeIsbnBeforeLookup() {
@@ -72,6 +87,19 @@ class GetCatalogEntryByIsbnQueryHandlerTest {
         }
     }
 
+    @Test
+    @DisplayName("should find an entry stored before check digits were validated")
+    void shouldFindEntryStoredWithInvalidCheckDigit() {
+        Isbn stored = Isbn.existing("9780132350885");
+        when(catalogEntryRepository.findByIsbn(stored))
+                .thenReturn(Optional.of(CatalogEntry.create(stored, TITLE, AUTHOR)));
+        when(availabilitySummaries.findByIsbn(stored)).thenReturn(AvailabilitySummary.NONE);
+
+        CatalogEntryDto result = handler.handle(new GetCatalogEntryByIsbnQuery("978-0-13-235088-5"));
+
+        assertThat(result.isbn()).isEqualTo("9780132350885");
+    }
+
     @Nested
     @DisplayName("when catalog entry does not exist")
     class WhenCatalogEntryDoesNotExist {
@@ -0,0 +1,224 @@
+package io.github.onejacklee.library.application.catalogentry;
+
+import io.github.onejacklee.library.common.application.ContinuationToken;
+import io.github.onejacklee.library.domain.catalogentry.CatalogEntryRepository;
+import io.github.onejacklee.library.domain.catalogentry.CatalogSearchHit;
+import io.github.onejacklee.library.domain.catalogentry.CatalogSearchHits;
+import io.github.onejacklee.library.domain.catalogentry.CatalogSearchMode;
+import io.github.onejacklee.library.domain.catalogentry.Isbn;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SearchCatalogEntriesQueryHandler")
+class SearchCatalogEntriesQueryHandlerTest {
+
+    private static final CatalogSearchHit CLEAN_CODE =
+            new CatalogSearchHit(Isbn.create("9780132350884"), "Clean Code", "Robert C. Martin", 0.9f);
+    private static final CatalogSearchHit EFFECTIVE_JAVA =
+            new CatalogSearchHit(Isbn.create("9780134685991"), "Effective Java", "Joshua Bloch", 0.5f);
+    private static final CatalogSearchHit REFACTORING =
+            new CatalogSearchHit(Isbn.create("9780134757599"), "Refactoring", "Martin Fowler", 0.5f);
+
+    @Mock
+    private CatalogEntryRepository catalogEntryRepository;
+
+    private SearchCatalogEntriesQueryHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        handler = new SearchCatalogEntriesQueryHandler(catalogEntryRepository);
+    }
+
+    private static CatalogSearchHits hits(CatalogSearchHit... hits) {
+        return new CatalogSearchHits(List.of(hits), false);
+    }
+
+    @Nested
+    @DisplayName("first page")
+    class FirstPage {
+
+        @Test
+        @DisplayName("should return full-text hits with a continuation token when more exist")
+        void shouldReturnFullTextHits() {
+            when(catalogEntryRepository.search("martin", CatalogSearchMode.FULL_TEXT, 3))
+                    .thenReturn(hits(CLEAN_CODE, REFACTORING, EFFECTIVE_JAVA));
+
+            CatalogSearchPageDto result = handler.handle(new SearchCatalogEntriesQuery("  martin ", 2, null));
+
+            assertThat(result.items())
+                    .extracting(CatalogSearchHitDto::isbn)
+                    .containsExactly("9780132350884", "9780134757599");
+            assertThat(result.fuzzy()).isFalse();
+            assertThat(result.partial()).isFalse();
+            assertThat(result.hasMore()).isTrue();
+            verify(catalogEntryRepository, never()).search(anyString(), eq(CatalogSearchMode.SIMILARITY), anyInt());
+        }
+
+        @Test
+        @DisplayName("should flag a page when only some matches were ranked")
+        void shouldFlagPartiallyRankedPage() {
+            when(catalogEntryRepository.search("martin", CatalogSearchMode.FULL_TEXT, 3))
+                    .thenReturn(new CatalogSearchHits(List.of(CLEAN_CODE, REFACTORING), true));
+
+            CatalogSearchPageDto result = handler.handle(new SearchCatalogEntriesQuery("martin", 2, null));
+
+            assertThat(result.items()).hasSize(2);
+            assertThat(result.partial()).isTrue();
+        }
+
+        @Test
+        @DisplayName("should fall back to similarity search when nothing matches whole words")
+        void shouldFallBackToSimilaritySearch() {
+            when(catalogEntryRepository.search("refactorng", CatalogSearchMode.FULL_TEXT, 3))
+                    .thenReturn(CatalogSearchHits.NONE);
+            when(catalogEntryRepository.search("refactorng", CatalogSearchMode.SIMILARITY, 3))
+                    .thenReturn(hits(REFACTORING));
+
+            CatalogSearchPageDto result = handler.handle(new SearchCatalogEntriesQuery("refactorng", 2, null));
+
+            assertThat(result.items()).extracting(CatalogSearchHitDto::title).containsExactly("Refactoring");
+            assertThat(result.fuzzy()).isTrue();
+            assertThat(result.hasMore()).isFalse();
+        }
+
+        @Test
+        @DisplayName("should return the empty full-text page when similarity search times out")
+        void shouldReturnEmptyPageWhenSimilaritySearchTimesOut() {
+            when(catalogEntryRepository.search("refactorng", CatalogSearchMode.FULL_TEXT, 3))
+                    .thenReturn(CatalogSearchHits.NONE);
+            when(catalogEntryRepository.search("refactorng", CatalogSearchMode.SIMILARITY, 3))
+                    .thenThrow(new QueryTimeoutException("canceling statement due to statement timeout"));
+
+            CatalogSearchPageDto result = handler.handle(new SearchCatalogEntriesQuery("refactorng", 2, null));
+
+            assertThat(result.items()).isEmpty();
+            assertThat(result.fuzzy()).isFalse();
+            assertThat(result.fuzzyUnavailable()).isTrue();
+            assertThat(result.hasMore()).isFalse();
+        }
+
+        @Test
+        @DisplayName("should let a full-text search timeout through")
+        void shouldRethrowFullTextSearchTimeout() {
+            when(catalogEntryRepository.search("martin", CatalogSearchMode.FULL_TEXT, 3))
+                    .thenThrow(new QueryTimeoutException("canceling statement due to statement timeout"));
+
+            assertThatThrownBy(() -> handler.handle(new SearchCatalogEntriesQuery("martin", 2, null)))
+                    .isInstanceOf(QueryTimeoutException.class);
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"c", "jav", "the", "c++ go", "j.r.r"})
+        @DisplayName("should not fall back to similarity search without a word of four or more characters")
+        void shouldNotFallBackForShortWords(String text) {
+            when(catalogEntryRepository.search(text, CatalogSearchMode.FULL_TEXT, 3))
+                    .thenReturn(CatalogSearchHits.NONE);
+
+            CatalogSearchPageDto result = handler.handle(new SearchCatalogEntriesQuery(text, 2, null));
+
+            assertThat(result.items()).isEmpty();
+            assertThat(result.fuzzy()).isFalse();
+            verify(catalogEntryRepository, never()).search(anyString(), eq(CatalogSearchMode.SIMILARITY), anyInt());
+        }
+    }
+
+    @Nested
+    @DisplayName("subsequent page")
+    class SubsequentPage {
+
+        @Test
+        @DisplayName("should resume after the last hit in the same mode")
+        void shouldResumeAfterLastHitInSameMode() {
+            when(catalogEntryRepository.search("java", CatalogSearchMode.SIMILARITY, 2))
+                    .thenReturn(hits(CLEAN_CODE, EFFECTIVE_JAVA));
+            when(catalogEntryRepository.search("java", CatalogSearchMode.FULL_TEXT, 2))
+                    .thenReturn(CatalogSearchHits.NONE);
+            String token = handler.handle(new SearchCatalogEntriesQuery("java", 1, null)).continuationToken();
+            when(catalogEntryRepository.searchAfter("java", CatalogSearchMode.SIMILARITY, 0.9f, CLEAN_CODE.isbn(), 2))
+                    .thenReturn(hits(EFFECTIVE_JAVA));
+
+            CatalogSearchPageDto result = handler.handle(new SearchCatalogEntriesQuery("java", 1, token));
+
+            assertThat(result.items()).extracting(CatalogSearchHitDto::title).containsExactly("Effective Java");
+            assertThat(result.fuzzy()).isTrue();
+            assertThat(result.continuationToken()).isNull();
+        }
+
+        @Test
+        @DisplayName("should end fuzzy paging when similarity search times out")
+        void shouldEndFuzzyPagingWhenSimilaritySearchTimesOut() {
+            when(catalogEntryRepository.search("java", CatalogSearchMode.FULL_TEXT, 2))
+                    .thenReturn(CatalogSearchHits.NONE);
+            when(catalogEntryRepository.search("java", CatalogSearchMode.SIMILARITY, 2))
+                    .thenReturn(hits(CLEAN_CODE, EFFECTIVE_JAVA));
+            String token = handler.handle(new SearchCatalogEntriesQuery("java", 1, null)).continuationToken();
+            when(catalogEntryRepository.searchAfter("java", CatalogSearchMode.SIMILARITY, 0.9f, CLEAN_CODE.isbn(), 2))
+                    .thenThrow(new QueryTimeoutException("canceling statement due to statement timeout"));
+
+            CatalogSearchPageDto result = handler.handle(new SearchCatalogEntriesQuery("java", 1, token));
+
+            assertThat(result.items()).isEmpty();
+            assertThat(result.fuzzy()).isTrue();
+            assertThat(result.fuzzyUnavailable()).isTrue();
+            assertThat(result.continuationToken()).isNull();
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"not*a*token", "RkFTVA", "FULL_TEXT:abc:9780132350884", "FUZZY:0.5:9780132350884"})
+        @DisplayName("should throw for malformed continuation token")
+        void shouldThrowForMalformedToken(String token) {
+            String encoded = token.contains(":") ? ContinuationToken.encode(token) : token;
+
+            assertThatThrownBy(() -> handler.handle(new SearchCatalogEntriesQuery("java", 10, encoded)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Invalid continuation token");
+        }
+    }
+
+    @Nested
+    @DisplayName("validation")
+    class Validation {
+
+        @ParameterizedTest
+        @ValueSource(ints = {0, -1, SearchCatalogEntriesQueryHandler.MAX_PAGE_SIZE + 1})
+        @DisplayName("should throw for out of range page size")
+        void shouldThrowForOutOfRangePageSize(int pageSize) {
+            assertThatThrownBy(() -> handler.handle(new SearchCatalogEntriesQuery("java", pageSize, null)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Page size must be between 1 and");
+
+            verifyNoInteractions(catalogEntryRepository);
+        }
+
+        @Test
+        @DisplayName("should throw for blank or overlong search text")
+        void shouldThrowForBlankOrOverlongText() {
+            String overlong = "a".repeat(SearchCatalogEntriesQueryHandler.MAX_TEXT_LENGTH + 1);
+
+            assertThatThrownBy(() -> handler.handle(new SearchCatalogEntriesQuery("   ", 10, null)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Search text must be between 1 and");
+            assertThatThrownBy(() -> handler.handle(new SearchCatalogEntriesQuery(overlong, 10, null)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Search text must be between 1 and");
+
+            verifyNoInteractions(catalogEntryRepository);
+        }
+    }
+}
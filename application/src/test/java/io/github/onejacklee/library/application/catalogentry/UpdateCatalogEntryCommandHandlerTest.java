@@ -2,6 +2,7 @@ package io.github.onejacklee.library.application.catalogentry;
 
 import io.github.onejacklee.library.application.exception.CatalogEntryNotFoundException;
 import io.github.onejacklee.library.domain.catalogentry.CatalogEntry;
+import io.github.onejacklee.library.domain.catalogentry.CatalogEntryChanged;
 import io.github.onejacklee.library.domain.catalogentry.CatalogEntryRepository;
 import io.github.onejacklee.library.domain.catalogentry.Isbn;
 import org.junit.jupiter.api.BeforeEach;
@@ -32,11 +33,14 @@ class UpdateCatalogEntryCommandHandlerTest {
     @Mock
     private CatalogEntryRepository catalogEntryRepository;
 
+    @Mock
+    private AvailabilitySummaries availabilitySummaries;
+
     private UpdateCatalogEntryCommandHandler handler;
 
     @BeforeEach
     void setUp() {
-        handler = new UpdateCatalogEntryCommandHandler(catalogEntryRepository);
+        handler = new UpdateCatalogEntryCommandHandler(catalogEntryRepository, availabilitySummaries);
     }
 
     @Nested
@@ -49,6 +53,7 @@ class UpdateCatalogEntryCommandHandlerTest {
         void setUp() {
             catalogEntry = CatalogEntry.create(ISBN, TITLE, AUTHOR);
             when(catalogEntryRepository.findByIsbn(any(Isbn.class))).thenReturn(Optional.of(catalogEntry));
+            when(availabilitySummaries.findByIsbn(any(Isbn.class))).thenReturn(AvailabilitySummary.NONE);
         }
 
         @Test
@@ -75,6 +80,17 @@ class UpdateCatalogEntryCommandHandlerTest {
             assertThat(catalogEntry.getAuthor()).isEqualTo(NEW_AUTHOR);
         }
 
+        @Test
+        @DisplayName("should save the catalog entry with its change event")
+        void shouldSaveCatalogEntryWithEvent() {
+            var command = new UpdateCatalogEntryCommand(ISBN, NEW_TITLE, NEW_AUTHOR);
+
+            handler.handle(command);
+
+            assertThat(catalogEntry.getDomainEvents())
+                    .containsExactly(new CatalogEntryChanged(Isbn.create(ISBN), NEW_TITLE, NEW_AUTHOR));
+        }
+
         @Test
         @DisplayName("should normalize ISBN before lookup")
         void shouldNormalizeIsbnBeforeLookup() {
@@ -0,0 +1,162 @@
+package io.github.onejacklee.library.benchmarks;
+
+import io.github.onejacklee.library.application.book.BookDetailsDto;
+import io.github.onejacklee.library.application.book.BookListing;
+import io.github.onejacklee.library.domain.book.Book;
+import io.github.onejacklee.library.domain.book.BookId;
+import io.github.onejacklee.library.domain.borrower.BorrowerId;
+import io.github.onejacklee.library.domain.catalogentry.Isbn;
+import io.github.onejacklee.library.infrastructure.persistence.entity.BookJpaEntity;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Lists every book of a PostgreSQL database seeded with {@code rows} books, once through managed JPA entities
+ * rebuilt into {@link Book} aggregates (the listing before {@link BookListing}) and once through
+ * {@link BookListing}. The database comes from the {@code SPRING_DATASOURCE_*} environment variables and is
+ * truncated and reseeded unless it already holds exactly {@code rows} books.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class BookListingBenchmark {
+
+    private static final int CATALOG_ENTRIES = 1000;
+    private static final String BORROWER_ID = "01ARZ3NDEKTSV4RRFFQ69G5FAX";
+
+    private static final String ENTITY_LISTING_JPQL = """
+            SELECT b, c.title, c.author
+            FROM BookJpaEntity b
+            JOIN CatalogEntryJpaEntity c ON b.isbn = c.isbn
+            ORDER BY b.id
+            """;
+
+    // Hex ids are valid ULID characters, and zero-padding keeps their string order the numeric one
+    private static final String SEED_BOOKS_SQL = """
+            WITH catalog AS (SELECT array_agg(isbn ORDER BY isbn) AS isbns FROM catalog_entries)
+            INSERT INTO books (id, isbn, borrower_id, borrowed_on, version)
+            SELECT upper(lpad(to_hex(n), 26, '0')),
+                   catalog.isbns[n % cardinality(catalog.isbns) + 1],
+                   CASE WHEN n % 3 = 0 THEN ? END,
+                   CASE WHEN n % 3 = 0 THEN TIMESTAMP '2026-01-01 12:00' END,
+                   0
+            FROM generate_series(1, ?) AS n, catalog
+            """;
+
+    @Param({"1000000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private EntityManager entityManager;
+    private TransactionTemplate readOnlyTransaction;
+    private BookListing bookListing;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(BenchmarkApplication.class)
+                .web(WebApplicationType.NONE)
+                .run();
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(
+                context.getBean(EntityManagerFactory.class));
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+        bookListing = context.getBean(BookListing.class);
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        Integer seeded = jdbcTemplate.queryForObject("SELECT count(*) FROM books", Integer.class);
+        if (seeded == null || seeded != rows) {
+            seed(jdbcTemplate);
+        }
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.execute("TRUNCATE books, borrowers, catalog_entries CASCADE");
+        jdbcTemplate.batchUpdate("INSERT INTO catalog_entries (isbn, title, author, version) VALUES (?, ?, ?, 0)",
+                IntStream.range(0, CATALOG_ENTRIES)
+                        .mapToObj(i -> new Object[]{isbn(i), "Title " + i, "Author " + i})
+                        .toList());
+        jdbcTemplate.update("INSERT INTO borrowers (id, name, email_address, version) VALUES (?, ?, ?, 0)",
+                BORROWER_ID, "Jane Doe", "jane.doe@example.com");
+        jdbcTemplate.update(SEED_BOOKS_SQL, BORROWER_ID, rows);
+        jdbcTemplate.execute("ANALYZE books");
+    }
+
+    private static String isbn(int i) {
+        String digits = String.format("978%09d", i);
+        int sum = 0;
+        for (int d = 0; d < digits.length(); d++) {
+            sum += (digits.charAt(d) - '0') * (d % 2 == 0 ? 1 : 3);
+        }
+        return digits + (10 - sum % 10) % 10;
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<BookDetailsDto> entityHydration() {
+        return readOnlyTransaction.execute(status -> {
+            List<Object[]> resultRows = entityManager.createQuery(ENTITY_LISTING_JPQL, Object[].class)
+                    .getResultList();
+            List<BookDetailsDto> result = new ArrayList<>(resultRows.size());
+            for (Object[] row : resultRows) {
+                BookJpaEntity entity = (BookJpaEntity) row[0];
+                Book book = Book.register(BookId.create(entity.getId()), Isbn.create(entity.getIsbn()));
+                if (entity.getBorrowerId() != null) {
+                    book.borrow(BorrowerId.create(entity.getBorrowerId()), entity.getBorrowedOn());
+                }
+                book.clearDomainEvents();
+                result.add(new BookDetailsDto(
+                        book.getId().value(),
+                        book.getIsbn().value(),
+                        (String) row[1],
+                        (String) row[2],
+                        book.isAvailable(),
+                        book.getBorrowerId().map(BorrowerId::value).orElse(null),
+                        book.getBorrowedOn().orElse(null)
+                ));
+            }
+            return result;
+        });
+    }
+
+    @Benchmark
+    public List<BookDetailsDto> directProjection() {
+        return readOnlyTransaction.execute(status -> bookListing.findAll());
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @ComponentScan({"io.github.onejacklee.library.application", "io.github.onejacklee.library.infrastructure"})
+    static class BenchmarkApplication {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
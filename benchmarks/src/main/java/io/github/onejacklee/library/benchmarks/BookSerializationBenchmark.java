@@ -0,0 +1,57 @@
+package io.github.onejacklee.library.benchmarks;
+
+import io.github.onejacklee.library.application.book.BookDetailsDto;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// BookResponse lives in the repackaged presentation jar; BookDetailsDto serializes to the same JSON shape
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookSerializationBenchmark {
+
+    @Param({"50", "1000"})
+    public int rows;
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private List<BookDetailsDto> books;
+
+    @Setup
+    public void setUp() {
+        books = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            boolean borrowed = i % 3 == 0;
+            books.add(new BookDetailsDto(
+                    String.format("01ARZ3NDEKTSV4RRFFQ69%05d", i),
+                    "9780132350884",
+                    "Clean Code",
+                    "Robert C. Martin",
+                    !borrowed,
+                    borrowed ? "01ARZ3NDEKTSV4RRFFQ69G5FAX" : null,
+                    borrowed ? LocalDateTime.of(2026, 1, 1, 12, 0) : null
+            ));
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeList() {
+        return jsonMapper.writeValueAsBytes(books);
+    }
+
+    @Benchmark
+    public int serializeNdjson() {
+        int size = 0;
+        for (BookDetailsDto book : books) {
+            size += jsonMapper.writeValueAsBytes(book).length + 1;
+        }
+        return size;
+    }
+}
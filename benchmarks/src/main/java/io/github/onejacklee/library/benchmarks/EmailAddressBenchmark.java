@@ -0,0 +1,23 @@
+package io.github.onejacklee.library.benchmarks;
+
+import io.github.onejacklee.library.domain.borrower.EmailAddress;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmailAddressBenchmark {
+
+    @Param({"john@example.com", "  John.Doe+Library@Example.CO.UK  "})
+    public String email;
+
+    @Benchmark
+    public EmailAddress create() {
+        return EmailAddress.create(email);
+    }
+}
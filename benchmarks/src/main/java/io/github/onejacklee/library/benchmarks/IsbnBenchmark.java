@@ -0,0 +1,44 @@
+package io.github.onejacklee.library.benchmarks;
+
+import io.github.onejacklee.library.domain.catalogentry.Isbn;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IsbnBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class ValidInput {
+
+        @Param({"9780132350884", "978-0-13-235088-4", "080442957X"})
+        public String value;
+    }
+
+    @State(Scope.Benchmark)
+    public static class InvalidInput {
+
+        @Param({"not-an-isbn", "12345678901234", "9780132350885"})
+        public String value;
+    }
+
+    @Benchmark
+    public Isbn create(ValidInput input) {
+        return Isbn.create(input.value);
+    }
+
+    @Benchmark
+    public Optional<Isbn> tryParseValid(ValidInput input) {
+        return Isbn.tryParse(input.value);
+    }
+
+    @Benchmark
+    public Optional<Isbn> tryParseInvalid(InvalidInput input) {
+        return Isbn.tryParse(input.value);
+    }
+}
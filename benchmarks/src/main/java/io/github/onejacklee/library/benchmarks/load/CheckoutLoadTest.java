@@ -0,0 +1,169 @@
+package io.github.onejacklee.library.benchmarks.load;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Closed-loop checkout load against a running server: each client borrows and returns its own book
+ * back to back until the phase ends, so there is no contention on rows, only on threads and connections.
+ *
+ * <pre>
+ * ./mvnw -pl benchmarks -am -P load-test verify -DskipTests \
+ *     -Dload.args="base-url=http://localhost:8080 clients=1000,5000,10000 duration-seconds=30"
+ * </pre>
+ */
+public final class CheckoutLoadTest {
+
+    private static final ObjectMapper JSON = JsonMapper.builder().build();
+    private static final int SETUP_CONCURRENCY = 64;
+
+    private final HttpClient http;
+    private final URI baseUrl;
+
+    private CheckoutLoadTest(HttpClient http, URI baseUrl) {
+        this.http = http;
+        this.baseUrl = baseUrl;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        URI baseUrl = URI.create(options.getOrDefault("base-url", "http://localhost:8080"));
+        List<Integer> clientCounts = Arrays.stream(options.getOrDefault("clients", "1000,5000,10000").split(","))
+                .map(Integer::parseInt)
+                .toList();
+        Duration duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration-seconds", "30")));
+
+        HttpClient http = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(30))
+                .build();
+        CheckoutLoadTest test = new CheckoutLoadTest(http, baseUrl);
+
+        String borrowerId = test.registerBorrower();
+        List<String> bookIds = test.registerBooks(clientCounts.stream().max(Integer::compare).orElseThrow());
+
+        System.out.printf("%8s %12s %10s %10s %10s %8s%n", "clients", "requests/s", "p50 ms", "p99 ms", "max ms", "errors");
+        for (int clients : clientCounts) {
+            test.run(clients, duration, bookIds, borrowerId);
+        }
+    }
+
+    private void run(int clients, Duration duration, List<String> bookIds, String borrowerId)
+            throws InterruptedException {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Timer latency = Timer.builder("checkout")
+                .publishPercentiles(0.5, 0.99)
+                .distributionStatisticExpiry(duration.multipliedBy(2))
+                .register(registry);
+        LongAdder errors = new LongAdder();
+        CountDownLatch finished = new CountDownLatch(clients);
+        long deadline = System.nanoTime() + duration.toNanos();
+        String body = "{\"borrowerId\":\"" + borrowerId + "\"}";
+
+        for (int client = 0; client < clients; client++) {
+            String bookId = bookIds.get(client);
+            checkoutLoop(bookId, body, deadline, latency, errors, finished);
+        }
+        finished.await(duration.toSeconds() + 120, TimeUnit.SECONDS);
+
+        HistogramSnapshot snapshot = latency.takeSnapshot();
+        ValueAtPercentile[] percentiles = snapshot.percentileValues();
+        System.out.printf("%8d %12.0f %10.1f %10.1f %10.1f %8d%n",
+                clients,
+                snapshot.count() / (double) duration.toSeconds(),
+                percentiles[0].value(TimeUnit.MILLISECONDS),
+                percentiles[1].value(TimeUnit.MILLISECONDS),
+                snapshot.max(TimeUnit.MILLISECONDS),
+                errors.sum());
+    }
+
+    private void checkoutLoop(String bookId, String body, long deadline, Timer latency, LongAdder errors,
+                              CountDownLatch finished) {
+        if (System.nanoTime() >= deadline) {
+            finished.countDown();
+            return;
+        }
+        timed(post("/api/books/" + bookId + "/borrow", body), latency, errors)
+                .thenCompose(ignored -> timed(post("/api/books/" + bookId + "/return", body), latency, errors))
+                .whenComplete((ignored, ex) -> checkoutLoop(bookId, body, deadline, latency, errors, finished));
+    }
+
+    private CompletableFuture<Void> timed(HttpRequest request, Timer latency, LongAdder errors) {
+        long start = System.nanoTime();
+        return http.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .handle((response, ex) -> {
+                    latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    if (ex != null || response.statusCode() >= 300) {
+                        errors.increment();
+                    }
+                    return null;
+                });
+    }
+
+    private String registerBorrower() throws Exception {
+        String body = "{\"name\":\"Load Test\",\"emailAddress\":\"load-" + System.nanoTime() + "@example.com\"}";
+        return id(http.send(post("/api/borrowers", body), HttpResponse.BodyHandlers.ofString()));
+    }
+
+    // The first copy creates the catalog entry on its own; copies racing to create it would conflict
+    private List<String> registerBooks(int count) throws Exception {
+        String body = "{\"isbn\":\"9780132350884\",\"title\":\"Clean Code\",\"author\":\"Robert C. Martin\"}";
+        Semaphore inFlight = new Semaphore(SETUP_CONCURRENCY);
+        List<CompletableFuture<String>> registrations = new ArrayList<>(count);
+        registrations.add(CompletableFuture.completedFuture(
+                id(http.send(post("/api/books", body), HttpResponse.BodyHandlers.ofString()))));
+        for (int i = 1; i < count; i++) {
+            inFlight.acquire();
+            registrations.add(http.sendAsync(post("/api/books", body), HttpResponse.BodyHandlers.ofString())
+                    .thenApply(CheckoutLoadTest::id)
+                    .whenComplete((id, ex) -> inFlight.release()));
+        }
+        return registrations.stream().map(CompletableFuture::join).toList();
+    }
+
+    private HttpRequest post(String path, String body) {
+        return HttpRequest.newBuilder(baseUrl.resolve(path))
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(60))
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private static String id(HttpResponse<String> response) {
+        if (response.statusCode() != 201) {
+            throw new IllegalStateException("Setup request failed with " + response.statusCode() + ": " + response.body());
+        }
+        return JSON.readTree(response.body()).get("id").asString();
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Expected key=value, got: " + arg);
+            }
+            options.put(arg.substring(0, separator), arg.substring(separator + 1));
+        }
+        return options;
+    }
+}
@@ -0,0 +1,32 @@
+package io.github.onejacklee.library.common.application;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
+
+public final class ContinuationToken {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private ContinuationToken() {
+    }
+
+    public static String encode(String lastKey) {
+        Objects.requireNonNull(lastKey, "Continuation key cannot be null");
+        return ENCODER.encodeToString(lastKey.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String decode(String token) {
+        Objects.requireNonNull(token, "Continuation token cannot be null");
+        try {
+            String key = new String(DECODER.decode(token), StandardCharsets.UTF_8);
+            if (key.isBlank()) {
+                throw new IllegalArgumentException("Invalid continuation token: " + token);
+            }
+            return key;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid continuation token: " + token, e);
+        }
+    }
+}
@@ -1,11 +1,20 @@
 package io.github.onejacklee.library.common.domain;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 
 public abstract class AggregateRoot<TId> implements Entity<TId> {
 
     private TId id;
 
+    // Version of the stored state the aggregate was loaded from, checked on save; null until first saved
+    private Long version;
+
+    // Raised since the aggregate was created or loaded; the repository persists and clears them on save
+    private final List<DomainEvent> domainEvents = new ArrayList<>();
+
     protected AggregateRoot() {
         // For JPA
     }
@@ -23,6 +32,32 @@ public abstract class AggregateRoot<TId> implements Entity<TId> {
         this.id = id;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public List<DomainEvent> getDomainEvents() {
+        return Collections.unmodifiableList(domainEvents);
+    }
+
+    public void clearDomainEvents() {
+        domainEvents.clear();
+    }
+
+    protected void registerEvent(DomainEvent event) {
+        domainEvents.add(Objects.requireNonNull(event, "Event cannot be null"));
+    }
+
+    // For events that carry the aggregate's latest state, where only the last one raised matters
+    protected void replaceEvent(DomainEvent event) {
+        domainEvents.removeIf(existing -> existing.getClass() == event.getClass());
+        registerEvent(event);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -0,0 +1,5 @@
+package io.github.onejacklee.library.common.domain;
+
+// Marker for facts raised by aggregates; they are stored with the aggregate's changes and dispatched after commit
+public interface DomainEvent {
+}
@@ -25,7 +25,9 @@ public class Book extends AggregateRoot<BookId> {
     }
 
     public static Book register(BookId id, Isbn isbn) {
-        return new Book(id, isbn);
+        Book book = new Book(id, isbn);
+        book.registerEvent(BookRegistered.of(book));
+        return book;
     }
 
     public Book borrow(BorrowerId borrowerId) {
@@ -38,6 +40,7 @@ public class Book extends AggregateRoot<BookId> {
         }
         this.borrowerId = Objects.requireNonNull(borrowerId, "BorrowerId cannot be null");
         this.borrowedOn = borrowedOn;
+        registerEvent(new BookBorrowed(getId(), isbn, borrowerId));
         return this;
     }
 
@@ -45,6 +48,7 @@ public class Book extends AggregateRoot<BookId> {
         if (isAvailable()) {
             throw new IllegalStateException("Book is not borrowed");
         }
+        registerEvent(new BookReturned(getId(), isbn, borrowerId));
         this.borrowerId = null;
         this.borrowedOn = null;
         return this;
@@ -0,0 +1,13 @@
+package io.github.onejacklee.library.domain.book;
+
+import io.github.onejacklee.library.common.domain.DomainEvent;
+import io.github.onejacklee.library.domain.borrower.BorrowerId;
+import io.github.onejacklee.library.domain.catalogentry.Isbn;
+
+// Raised when a copy is lent to a borrower
+public record BookBorrowed(
+        BookId bookId,
+        Isbn isbn,
+        BorrowerId borrowerId
+) implements DomainEvent {
+}
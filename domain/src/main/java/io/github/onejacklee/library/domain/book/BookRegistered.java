@@ -0,0 +1,14 @@
+package io.github.onejacklee.library.domain.book;
+
+import io.github.onejacklee.library.common.domain.DomainEvent;
+import io.github.onejacklee.library.domain.catalogentry.Isbn;
+
+// Raised when a new copy is added to the inventory
+public record BookRegistered(
+        BookId bookId,
+        Isbn isbn
+) implements DomainEvent {
+    public static BookRegistered of(Book book) {
+        return new BookRegistered(book.getId(), book.getIsbn());
+    }
+}
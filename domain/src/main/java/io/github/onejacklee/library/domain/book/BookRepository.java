@@ -1,5 +1,8 @@
 package io.github.onejacklee.library.domain.book;
 
+import io.github.onejacklee.library.domain.borrower.BorrowerId;
+
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -7,9 +10,13 @@ public interface BookRepository {
 
     void save(Book book);
 
+    void insertAll(List<Book> books);
+
     Optional<Book> findById(BookId id);
 
-    List<Book> findAll();
+    Optional<Book> borrowIfAvailable(BookId id, BorrowerId borrowerId, LocalDateTime borrowedOn);
 
-    List<BookWithCatalog> findAllWithCatalog();
+    Optional<Book> returnIfBorrowedBy(BookId id, BorrowerId borrowerId);
+
+    List<Book> findAll();
 }
@@ -20,7 +20,9 @@ public class Borrower extends AggregateRoot<BorrowerId> {
     }
 
     public static Borrower register(BorrowerId id, String name, EmailAddress emailAddress) {
-        return new Borrower(id, name, emailAddress);
+        Borrower borrower = new Borrower(id, name, emailAddress);
+        borrower.registerEvent(new BorrowerRegistered(id, borrower.emailAddress));
+        return borrower;
     }
 
     public Borrower updateName(String name) {
@@ -0,0 +1,10 @@
+package io.github.onejacklee.library.domain.borrower;
+
+import io.github.onejacklee.library.common.domain.DomainEvent;
+
+// Raised when a new borrower signs up
+public record BorrowerRegistered(
+        BorrowerId borrowerId,
+        EmailAddress emailAddress
+) implements DomainEvent {
+}
@@ -7,11 +7,17 @@ public interface BorrowerRepository {
 
     void save(Borrower borrower);
 
+    // Inserts the new borrowers whose email address no stored borrower has, skipping the rest, and returns the
+    // inserted ones. The borrowers' email addresses must be distinct.
+    List<Borrower> insertAllIfAbsent(List<Borrower> borrowers);
+
     Optional<Borrower> findById(BorrowerId id);
 
     Optional<Borrower> findByEmailAddress(EmailAddress emailAddress);
 
     List<Borrower> findAll();
 
+    boolean existsById(BorrowerId id);
+
     boolean existsByEmailAddress(EmailAddress emailAddress);
 }
@@ -20,23 +20,31 @@ public class CatalogEntry extends AggregateRoot<Isbn> {
     }
 
     public static CatalogEntry create(Isbn isbn, String title, String author) {
-        return new CatalogEntry(isbn, title, author);
+        CatalogEntry catalogEntry = new CatalogEntry(isbn, title, author);
+        catalogEntry.replaceEvent(CatalogEntryChanged.of(catalogEntry));
+        return catalogEntry;
     }
 
     public static CatalogEntry create(String isbn, String title, String author) {
-        return new CatalogEntry(Isbn.create(isbn), title, author);
+        return create(Isbn.create(isbn), title, author);
     }
 
     public CatalogEntry updateTitle(String title) {
         setTitle(title);
+        replaceEvent(CatalogEntryChanged.of(this));
         return this;
     }
 
     public CatalogEntry updateAuthor(String author) {
         setAuthor(author);
+        replaceEvent(CatalogEntryChanged.of(this));
         return this;
     }
 
+    public boolean hasMetadata(String title, String author) {
+        return this.title.equalsIgnoreCase(title) && this.author.equalsIgnoreCase(author);
+    }
+
     private void setTitle(String title) {
         Objects.requireNonNull(title, "Title cannot be null");
         if (title.isBlank()) {
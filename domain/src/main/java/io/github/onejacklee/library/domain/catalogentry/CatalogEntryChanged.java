@@ -0,0 +1,18 @@
+package io.github.onejacklee.library.domain.catalogentry;
+
+import io.github.onejacklee.library.common.domain.DomainEvent;
+
+// Raised when a catalog entry is created or its title or author changes
+public record CatalogEntryChanged(
+        Isbn isbn,
+        String title,
+        String author
+) implements DomainEvent {
+    public static CatalogEntryChanged of(CatalogEntry catalogEntry) {
+        return new CatalogEntryChanged(
+                catalogEntry.getIsbn(),
+                catalogEntry.getTitle(),
+                catalogEntry.getAuthor()
+        );
+    }
+}
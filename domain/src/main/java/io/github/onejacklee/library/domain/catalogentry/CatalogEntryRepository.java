@@ -1,12 +1,26 @@
 package io.github.onejacklee.library.domain.catalogentry;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface CatalogEntryRepository {
 
     void save(CatalogEntry catalogEntry);
 
+    void insertAll(List<CatalogEntry> catalogEntries);
+
     Optional<CatalogEntry> findByIsbn(Isbn isbn);
 
+    List<CatalogEntry> findAllByIsbn(Collection<Isbn> isbns);
+
     boolean existsByIsbn(Isbn isbn);
+
+    // Best matches first; ties are broken by ISBN so that searchAfter can resume from the last hit of a page. Up to a
+    // fixed cap of matches are ranked. For a word that matches more entries than that, the best ones are kept ahead
+    // of time; otherwise the matches with the lowest ISBNs are ranked, so every page ranks the same matches, and the
+    // hits are flagged partial
+    CatalogSearchHits search(String text, CatalogSearchMode mode, int limit);
+
+    CatalogSearchHits searchAfter(String text, CatalogSearchMode mode, float afterScore, Isbn afterIsbn, int limit);
 }
@@ -0,0 +1,9 @@
+package io.github.onejacklee.library.domain.catalogentry;
+
+public record CatalogSearchHit(
+        Isbn isbn,
+        String title,
+        String author,
+        float score
+) {
+}
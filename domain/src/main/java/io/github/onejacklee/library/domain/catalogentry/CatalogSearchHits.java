@@ -0,0 +1,11 @@
+package io.github.onejacklee.library.domain.catalogentry;
+
+import java.util.List;
+
+// Partial when more entries matched than get ranked, so better matches than these may exist
+public record CatalogSearchHits(
+        List<CatalogSearchHit> hits,
+        boolean partial
+) {
+    public static final CatalogSearchHits NONE = new CatalogSearchHits(List.of(), false);
+}
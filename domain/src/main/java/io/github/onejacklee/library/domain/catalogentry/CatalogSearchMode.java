@@ -0,0 +1,8 @@
+package io.github.onejacklee.library.domain.catalogentry;
+
+public enum CatalogSearchMode {
+    // Whole words, stemmed, ranked by how well title and author cover the query
+    FULL_TEXT,
+    // Misspelled or partial words, ranked by trigram similarity to the closest title or author word
+    SIMILARITY
+}
@@ -2,39 +2,148 @@ package io.github.onejacklee.library.domain.catalogentry;
 
 import java.util.Objects;
 import java.util.Optional;
-import java.util.regex.Pattern;
 
+// The constructor only checks the format. create and tryParse also validate the check digit, so new ISBNs go
+// through them; entries stored before check digits were validated may carry a wrong one, and existing reads them.
 public record Isbn(String value) {
 
-    private static final Pattern ISBN_10 = Pattern.compile("^\\d{9}[\\dX]$");
-    private static final Pattern ISBN_13 = Pattern.compile("^\\d{13}$");
+    private static final int ISBN_10_LENGTH = 10;
+    private static final int ISBN_13_LENGTH = 13;
+    private static final String ISBN_13_PREFIX = "978";
 
     public Isbn {
         Objects.requireNonNull(value, "ISBN cannot be null");
-        value = normalize(value);
-        if (!isValid(value)) {
+        String normalized = normalize(value);
+        if (normalized == null) {
             throw new IllegalArgumentException("ISBN must be 10 or 13 digits. Got: " + value);
         }
+        value = normalized;
     }
 
     public static Isbn create(String value) {
+        Isbn isbn = new Isbn(value);
+        if (!hasValidCheckDigit(isbn.value)) {
+            throw new IllegalArgumentException("ISBN check digit is invalid. Got: " + value);
+        }
+        return isbn;
+    }
+
+    // For ISBNs already on record, such as rows read back from the database or lookups of existing entries
+    public static Isbn existing(String value) {
         return new Isbn(value);
     }
 
     public static Optional<Isbn> tryParse(String value) {
-        try {
-            return Optional.of(new Isbn(value));
-        } catch (Exception e) {
+        if (value == null) {
             return Optional.empty();
         }
+        String normalized = normalize(value);
+        if (normalized == null || !hasValidCheckDigit(normalized)) {
+            return Optional.empty();
+        }
+        return Optional.of(new Isbn(normalized));
+    }
+
+    public boolean isIsbn10() {
+        return value.length() == ISBN_10_LENGTH;
     }
 
+    public Isbn toIsbn13() {
+        if (!isIsbn10()) {
+            return this;
+        }
+        char[] digits = new char[ISBN_13_LENGTH];
+        ISBN_13_PREFIX.getChars(0, ISBN_13_PREFIX.length(), digits, 0);
+        value.getChars(0, ISBN_10_LENGTH - 1, digits, ISBN_13_PREFIX.length());
+        digits[ISBN_13_LENGTH - 1] = isbn13CheckDigit(digits);
+        return new Isbn(new String(digits));
+    }
+
+    // Single pass: drops '-' and ' ', upper-cases a trailing 'x', and returns null for anything
+    // that is not 10 or 13 digits (with an optional ISBN-10 'X' check digit). Returns the input
+    // itself when it is already normalized.
     private static String normalize(String value) {
-        return value.replace("-", "").replace(" ", "").toUpperCase();
+        int length = value.length();
+        char[] digits = null;
+        int count = 0;
+
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c == '-' || c == ' ') {
+                if (digits == null) {
+                    digits = copyPrefix(value, i);
+                }
+                continue;
+            }
+            if (count == ISBN_13_LENGTH) {
+                return null;
+            }
+            if (c == 'x' || c == 'X') {
+                // Only valid as the tenth and last character of an ISBN-10
+                if (count != ISBN_10_LENGTH - 1 || !onlySeparatorsAfter(value, i + 1)) {
+                    return null;
+                }
+                if (c == 'x' && digits == null) {
+                    digits = copyPrefix(value, i);
+                }
+                c = 'X';
+            } else if (c < '0' || c > '9') {
+                return null;
+            }
+            if (digits != null) {
+                digits[count] = c;
+            }
+            count++;
+        }
+
+        if (count != ISBN_10_LENGTH && count != ISBN_13_LENGTH) {
+            return null;
+        }
+        return digits == null ? value : new String(digits, 0, count);
+    }
+
+    private static char[] copyPrefix(String value, int end) {
+        char[] digits = new char[ISBN_13_LENGTH];
+        value.getChars(0, Math.min(end, ISBN_13_LENGTH), digits, 0);
+        return digits;
+    }
+
+    private static boolean onlySeparatorsAfter(String value, int start) {
+        for (int i = start; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c != '-' && c != ' ') {
+                return false;
+            }
+        }
+        return true;
     }
 
-    private static boolean isValid(String value) {
-        return ISBN_10.matcher(value).matches() || ISBN_13.matcher(value).matches();
+    private static boolean hasValidCheckDigit(String normalized) {
+        if (normalized.length() == ISBN_10_LENGTH) {
+            int sum = 0;
+            for (int i = 0; i < ISBN_10_LENGTH; i++) {
+                char c = normalized.charAt(i);
+                int digit = c == 'X' ? 10 : c - '0';
+                sum += (ISBN_10_LENGTH - i) * digit;
+            }
+            return sum % 11 == 0;
+        }
+
+        int sum = 0;
+        for (int i = 0; i < ISBN_13_LENGTH; i++) {
+            int digit = normalized.charAt(i) - '0';
+            sum += (i % 2 == 0) ? digit : digit * 3;
+        }
+        return sum % 10 == 0;
+    }
+
+    private static char isbn13CheckDigit(char[] digits) {
+        int sum = 0;
+        for (int i = 0; i < ISBN_13_LENGTH - 1; i++) {
+            int digit = digits[i] - '0';
+            sum += (i % 2 == 0) ? digit : digit * 3;
+        }
+        return (char) ('0' + (10 - sum % 10) % 10);
     }
 
     @Override
@@ -35,6 +35,14 @@ class BookTest {
             assertThat(book.getBorrowedOn()).isEmpty();
         }
 
+        @Test
+        @DisplayName("should raise BookRegistered")
+        void shouldRaiseBookRegistered() {
+            Book book = Book.register(BOOK_ID, ISBN);
+
+            assertThat(book.getDomainEvents()).containsExactly(new BookRegistered(BOOK_ID, ISBN));
+        }
+
         @Test
         @DisplayName("should throw when id is null")
         void shouldThrowWhenIdIsNull() {
@@ -68,6 +76,17 @@ class BookTest {
             assertThat(book.getBorrowedOn()).hasValue(borrowedOn);
         }
 
+        @Test
+        @DisplayName("should raise BookBorrowed")
+        void shouldRaiseBookBorrowed() {
+            Book book = Book.register(BOOK_ID, ISBN);
+            book.clearDomainEvents();
+
+            book.borrow(BORROWER_ID);
+
+            assertThat(book.getDomainEvents()).containsExactly(new BookBorrowed(BOOK_ID, ISBN, BORROWER_ID));
+        }
+
         @Test
         @DisplayName("should set current timestamp when borrowing without explicit time")
         void shouldSetCurrentTimestampWhenBorrowingWithoutExplicitTime() {
@@ -130,6 +149,18 @@ class BookTest {
             assertThat(book.getBorrowedOn()).isEmpty();
         }
 
+        @Test
+        @DisplayName("should raise BookReturned with the previous borrower")
+        void shouldRaiseBookReturned() {
+            Book book = Book.register(BOOK_ID, ISBN);
+            book.borrow(BORROWER_ID);
+            book.clearDomainEvents();
+
+            book.returnBook();
+
+            assertThat(book.getDomainEvents()).containsExactly(new BookReturned(BOOK_ID, ISBN, BORROWER_ID));
+        }
+
         @Test
         @DisplayName("should throw when book is not borrowed")
         void shouldThrowWhenNotBorrowed() {
@@ -28,6 +28,14 @@ class BorrowerTest {
             assertThat(borrower.getEmailAddress()).isEqualTo(EMAIL);
         }
 
+        @Test
+        @DisplayName("should raise BorrowerRegistered")
+        void shouldRaiseBorrowerRegistered() {
+            Borrower borrower = Borrower.register(BORROWER_ID, NAME, EMAIL);
+
+            assertThat(borrower.getDomainEvents()).containsExactly(new BorrowerRegistered(BORROWER_ID, EMAIL));
+        }
+
         @Test
         @DisplayName("should trim name")
         void shouldTrimName() {
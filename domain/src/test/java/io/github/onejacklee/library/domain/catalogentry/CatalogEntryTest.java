@@ -29,6 +29,14 @@ class CatalogEntryTest {
             assertThat(entry.getAuthor()).isEqualTo(AUTHOR);
         }
 
+        @Test
+        @DisplayName("should raise CatalogEntryChanged")
+        void shouldRaiseCatalogEntryChanged() {
+            CatalogEntry entry = CatalogEntry.create(ISBN, TITLE, AUTHOR);
+
+            assertThat(entry.getDomainEvents()).containsExactly(new CatalogEntryChanged(ISBN, TITLE, AUTHOR));
+        }
+
         @Test
         @DisplayName("should trim title")
         void shouldTrimTitle() {
@@ -122,6 +130,18 @@ class CatalogEntryTest {
             assertThat(entry.getTitle()).isEqualTo("Clean Architecture");
         }
 
+        @Test
+        @DisplayName("should raise only the latest CatalogEntryChanged")
+        void shouldRaiseOnlyLatestCatalogEntryChanged() {
+            CatalogEntry entry = CatalogEntry.create(ISBN, TITLE, AUTHOR);
+
+            entry.updateTitle("Clean Architecture");
+            entry.updateAuthor("Uncle Bob");
+
+            assertThat(entry.getDomainEvents())
+                    .containsExactly(new CatalogEntryChanged(ISBN, "Clean Architecture", "Uncle Bob"));
+        }
+
         @Test
         @DisplayName("should trim new title")
         void shouldTrimNewTitle() {
@@ -217,4 +237,26 @@ class CatalogEntryTest {
             assertThat(result).isSameAs(entry);
         }
     }
+
+    @Nested
+    @DisplayName("hasMetadata")
+    class HasMetadata {
+
+        @Test
+        @DisplayName("should match title and author ignoring case")
+        void shouldMatchIgnoringCase() {
+            CatalogEntry entry = CatalogEntry.create(ISBN, TITLE, AUTHOR);
+
+            assertThat(entry.hasMetadata("clean code", "ROBERT C. MARTIN")).isTrue();
+        }
+
+        @Test
+        @DisplayName("should not match a different title or author")
+        void shouldNotMatchDifferentMetadata() {
+            CatalogEntry entry = CatalogEntry.create(ISBN, TITLE, AUTHOR);
+
+            assertThat(entry.hasMetadata("Clean Architecture", AUTHOR)).isFalse();
+            assertThat(entry.hasMetadata(TITLE, "Uncle Bob")).isFalse();
+        }
+    }
 }
@@ -85,6 +85,53 @@ class IsbnTest {
                     .isInstanceOf(IllegalArgumentException.class)
                     .hasMessageContaining("ISBN must be 10 or 13 digits");
         }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"X804429570", "08044295X7", "9780132350884X", "97801323508X4"})
+        @DisplayName("should throw when X is not the ISBN-10 check digit")
+        void shouldThrowForMisplacedX(String invalidIsbn) {
+            assertThatThrownBy(() -> Isbn.create(invalidIsbn))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("ISBN must be 10 or 13 digits");
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"0132350883", "0804429570", "9780132350885", "978-0-13-235088-5"})
+        @DisplayName("should throw for invalid check digit")
+        void shouldThrowForInvalidCheckDigit(String invalidIsbn) {
+            assertThatThrownBy(() -> Isbn.create(invalidIsbn))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("ISBN check digit is invalid");
+        }
+    }
+
+    @Nested
+    @DisplayName("ISBN-13 conversion")
+    class Isbn13Conversion {
+
+        @Test
+        @DisplayName("should convert ISBN-10 to ISBN-13")
+        void shouldConvertIsbn10ToIsbn13() {
+            Isbn isbn = Isbn.create("0132350882");
+
+            assertThat(isbn.isIsbn10()).isTrue();
+            assertThat(isbn.toIsbn13().value()).isEqualTo("9780132350884");
+        }
+
+        @Test
+        @DisplayName("should convert ISBN-10 with X check digit")
+        void shouldConvertIsbn10WithXCheckDigit() {
+            assertThat(Isbn.create("080442957X").toIsbn13().value()).isEqualTo("9780804429573");
+        }
+
+        @Test
+        @DisplayName("should return the same ISBN-13")
+        void shouldReturnSameIsbn13() {
+            Isbn isbn = Isbn.create("9780132350884");
+
+            assertThat(isbn.isIsbn10()).isFalse();
+            assertThat(isbn.toIsbn13()).isSameAs(isbn);
+        }
     }
 
     @Nested
@@ -108,6 +155,22 @@ class IsbnTest {
             assertThat(result).isEmpty();
         }
 
+        @Test
+        @DisplayName("should return empty Optional for invalid check digit")
+        void shouldReturnEmptyForInvalidCheckDigit() {
+            var result = Isbn.tryParse("9780132350885");
+
+            assertThat(result).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should normalize separators and lowercase x")
+        void shouldNormalizeSeparatorsAndLowercaseX() {
+            var result = Isbn.tryParse("0-8044-2957-x");
+
+            assertThat(result).map(Isbn::value).contains("080442957X");
+        }
+
         @Test
         @DisplayName("should return empty Optional for null")
         void shouldReturnEmptyForNull() {
@@ -117,6 +180,34 @@ class IsbnTest {
         }
     }
 
+    @Nested
+    @DisplayName("existing")
+    class Existing {
+
+        @Test
+        @DisplayName("should accept a stored ISBN with an invalid check digit")
+        void shouldAcceptInvalidCheckDigit() {
+            Isbn isbn = Isbn.existing("978-0-13-235088-5");
+
+            assertThat(isbn.value()).isEqualTo("9780132350885");
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"", "123", "12345678901234", "08044295X7"})
+        @DisplayName("should still throw for invalid ISBN format")
+        void shouldThrowForInvalidFormat(String invalidIsbn) {
+            assertThatThrownBy(() -> Isbn.existing(invalidIsbn))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("ISBN must be 10 or 13 digits");
+        }
+
+        @Test
+        @DisplayName("should equal the same ISBN created with a valid check digit")
+        void shouldEqualCreatedIsbn() {
+            assertThat(Isbn.existing("9780132350884")).isEqualTo(Isbn.create("9780132350884"));
+        }
+    }
+
     @Nested
     @DisplayName("equality")
     class Equality {
@@ -0,0 +1,42 @@
+package io.github.onejacklee.library.infrastructure.autocomplete;
+
+import io.github.onejacklee.library.application.catalogentry.CatalogSuggestionDto;
+
+import java.util.Comparator;
+
+record AutocompleteEntry(
+        String isbn,
+        String title,
+        String author
+) {
+    // Suggestion order: alphabetical by title, so the list stays stable as the user keeps typing
+    static final Comparator<AutocompleteEntry> RANK = Comparator
+            .comparing(AutocompleteEntry::title, String.CASE_INSENSITIVE_ORDER)
+            .thenComparing(AutocompleteEntry::author, String.CASE_INSENSITIVE_ORDER)
+            .thenComparing(AutocompleteEntry::isbn);
+
+    // Same rule as the indexed lookup, without needing the entry to be in the term dictionary
+    boolean matches(String[] words) {
+        for (String word : words) {
+            if (!hasWordStartingWith(title, word) && !hasWordStartingWith(author, word)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    CatalogSuggestionDto toDto() {
+        return new CatalogSuggestionDto(isbn, title, author);
+    }
+
+    private static boolean hasWordStartingWith(String text, String prefix) {
+        for (int i = 0; i < text.length(); i++) {
+            boolean wordStart = AutocompleteSnapshot.isWordChar(text.charAt(i))
+                    && (i == 0 || !AutocompleteSnapshot.isWordChar(text.charAt(i - 1)));
+            if (wordStart && text.regionMatches(true, i, prefix, 0, prefix.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
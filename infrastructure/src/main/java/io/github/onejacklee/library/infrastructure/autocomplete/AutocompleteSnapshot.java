@@ -0,0 +1,385 @@
+package io.github.onejacklee.library.infrastructure.autocomplete;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Immutable word index over a set of catalog entries. Entries are numbered in {@link AutocompleteEntry#RANK}
+ * order, so the best suggestions for a prefix are simply the lowest entry numbers among the entries holding a
+ * matching word. The sorted term dictionary is packed into one {@code char[]}, and every term's postings
+ * (the entry numbers containing it, ascending) into one {@code int[]}: a prefix selects a contiguous range of
+ * terms, whose postings are merged smallest-first until enough entries are found.
+ */
+final class AutocompleteSnapshot {
+
+    static final AutocompleteSnapshot EMPTY = build(List.of());
+
+    // Bounds the work for multi-word text whose words rarely occur together
+    static final int MAX_CANDIDATES = 10_000;
+
+    // Object layout of a 64-bit JVM with compressed oops and compact strings, the default below a 32 GB heap
+    private static final int ARRAY_HEADER_BYTES = 16;
+    private static final int REFERENCE_BYTES = 4;
+    private static final int STRING_OVERHEAD_BYTES = 24 + ARRAY_HEADER_BYTES;
+
+    private final String[] isbns;
+    private final String[] titles;
+    private final String[] authors;
+
+    private final char[] termChars;
+    private final int[] termOffsets;
+    private final int[] postingOffsets;
+    private final int[] postings;
+
+    // Each entry's term numbers, ascending, to check the remaining words of a multi-word text
+    private final int[] entryTermOffsets;
+    private final int[] entryTerms;
+
+    private final long estimatedBytes;
+
+    private AutocompleteSnapshot(String[] isbns, String[] titles, String[] authors, char[] termChars,
+                                 int[] termOffsets, int[] postingOffsets, int[] postings,
+                                 int[] entryTermOffsets, int[] entryTerms) {
+        this.isbns = isbns;
+        this.titles = titles;
+        this.authors = authors;
+        this.termChars = termChars;
+        this.termOffsets = termOffsets;
+        this.postingOffsets = postingOffsets;
+        this.postings = postings;
+        this.entryTermOffsets = entryTermOffsets;
+        this.entryTerms = entryTerms;
+        this.estimatedBytes = estimateBytes();
+    }
+
+    static AutocompleteSnapshot build(Collection<AutocompleteEntry> entries) {
+        AutocompleteEntry[] sorted = entries.toArray(AutocompleteEntry[]::new);
+        Arrays.sort(sorted, AutocompleteEntry.RANK);
+        int entryCount = sorted.length;
+
+        String[] isbns = new String[entryCount];
+        String[] titles = new String[entryCount];
+        String[] authors = new String[entryCount];
+
+        // Number the terms in order of appearance first, then renumber them alphabetically
+        Map<String, Integer> termNumbers = new HashMap<>();
+        List<String> terms = new ArrayList<>();
+        int[][] termsByEntry = new int[entryCount][];
+        for (int entry = 0; entry < entryCount; entry++) {
+            AutocompleteEntry autocompleteEntry = sorted[entry];
+            isbns[entry] = autocompleteEntry.isbn();
+            titles[entry] = autocompleteEntry.title();
+            authors[entry] = autocompleteEntry.author();
+
+            Set<String> words = new LinkedHashSet<>();
+            words.addAll(Arrays.asList(words(autocompleteEntry.title())));
+            words.addAll(Arrays.asList(words(autocompleteEntry.author())));
+            termsByEntry[entry] = words.stream()
+                    .mapToInt(word -> termNumbers.computeIfAbsent(word, added -> {
+                        terms.add(added);
+                        return terms.size() - 1;
+                    }))
+                    .toArray();
+        }
+
+        int termCount = terms.size();
+        Integer[] alphabetical = new Integer[termCount];
+        Arrays.setAll(alphabetical, term -> term);
+        Arrays.sort(alphabetical, (left, right) -> terms.get(left).compareTo(terms.get(right)));
+        int[] renumbered = new int[termCount];
+        int[] termOffsets = new int[termCount + 1];
+        StringBuilder termText = new StringBuilder();
+        for (int term = 0; term < termCount; term++) {
+            renumbered[alphabetical[term]] = term;
+            termText.append(terms.get(alphabetical[term]));
+            termOffsets[term + 1] = termText.length();
+        }
+        char[] termChars = new char[termText.length()];
+        termText.getChars(0, termText.length(), termChars, 0);
+
+        int[] entryTermOffsets = new int[entryCount + 1];
+        int[] postingOffsets = new int[termCount + 1];
+        for (int entry = 0; entry < entryCount; entry++) {
+            int[] entryTermNumbers = termsByEntry[entry];
+            for (int i = 0; i < entryTermNumbers.length; i++) {
+                entryTermNumbers[i] = renumbered[entryTermNumbers[i]];
+                postingOffsets[entryTermNumbers[i] + 1]++;
+            }
+            Arrays.sort(entryTermNumbers);
+            entryTermOffsets[entry + 1] = entryTermOffsets[entry] + entryTermNumbers.length;
+        }
+        for (int term = 0; term < termCount; term++) {
+            postingOffsets[term + 1] += postingOffsets[term];
+        }
+
+        // Walking the entries in order fills every postings list in ascending order
+        int[] postings = new int[postingOffsets[termCount]];
+        int[] entryTerms = new int[entryTermOffsets[entryCount]];
+        int[] next = Arrays.copyOf(postingOffsets, termCount);
+        for (int entry = 0; entry < entryCount; entry++) {
+            int[] entryTermNumbers = termsByEntry[entry];
+            System.arraycopy(entryTermNumbers, 0, entryTerms, entryTermOffsets[entry], entryTermNumbers.length);
+            for (int term : entryTermNumbers) {
+                postings[next[term]++] = entry;
+            }
+        }
+
+        return new AutocompleteSnapshot(isbns, titles, authors, termChars, termOffsets, postingOffsets, postings,
+                entryTermOffsets, entryTerms);
+    }
+
+    // Lower-cased runs of letters and digits, e.g. "Domain-Driven Design" is domain, driven, design
+    static String[] words(String text) {
+        List<String> words = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean wordChar = i < text.length() && isWordChar(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                words.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return words.toArray(String[]::new);
+    }
+
+    static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c);
+    }
+
+    int entryCount() {
+        return isbns.length;
+    }
+
+    int termCount() {
+        return termOffsets.length - 1;
+    }
+
+    long estimatedBytes() {
+        return estimatedBytes;
+    }
+
+    List<AutocompleteEntry> entries() {
+        List<AutocompleteEntry> entries = new ArrayList<>(entryCount());
+        for (int entry = 0; entry < entryCount(); entry++) {
+            entries.add(entry(entry));
+        }
+        return entries;
+    }
+
+    /**
+     * Up to {@code limit} entries, best first, having for every word a title or author word starting with it.
+     * Entries whose ISBN is {@code superseded} are skipped.
+     */
+    List<AutocompleteEntry> suggest(String[] words, int limit, Predicate<String> superseded) {
+        int wordCount = words.length;
+        int[] firstTerms = new int[wordCount];
+        int[] endTerms = new int[wordCount];
+        int driver = 0;
+        for (int word = 0; word < wordCount; word++) {
+            firstTerms[word] = firstTermNotBefore(words[word]);
+            endTerms[word] = firstTermNotStartingWith(words[word], firstTerms[word]);
+            if (firstTerms[word] == endTerms[word]) {
+                return List.of();
+            }
+            // Drive the merge with the word matching the fewest postings
+            if (postingCount(firstTerms[word], endTerms[word]) < postingCount(firstTerms[driver], endTerms[driver])) {
+                driver = word;
+            }
+        }
+
+        List<AutocompleteEntry> suggestions = new ArrayList<>(limit);
+        PostingsMerge merge = new PostingsMerge(firstTerms[driver], endTerms[driver]);
+        int previous = -1;
+        for (int candidates = 0; candidates < MAX_CANDIDATES && suggestions.size() < limit; candidates++) {
+            int entry = merge.next();
+            if (entry < 0) {
+                break;
+            }
+            // An entry holding several matching words comes out of the merge once per word
+            if (entry == previous) {
+                continue;
+            }
+            previous = entry;
+            if (containsAll(entry, firstTerms, endTerms, driver) && !superseded.test(isbns[entry])) {
+                suggestions.add(entry(entry));
+            }
+        }
+        return suggestions;
+    }
+
+    private AutocompleteEntry entry(int entry) {
+        return new AutocompleteEntry(isbns[entry], titles[entry], authors[entry]);
+    }
+
+    private int postingCount(int firstTerm, int endTerm) {
+        return postingOffsets[endTerm] - postingOffsets[firstTerm];
+    }
+
+    private boolean containsAll(int entry, int[] firstTerms, int[] endTerms, int driver) {
+        for (int word = 0; word < firstTerms.length; word++) {
+            if (word == driver) {
+                continue;
+            }
+            // The entry's terms are sorted, so find the first one not before the word's range
+            int position = Arrays.binarySearch(entryTerms, entryTermOffsets[entry], entryTermOffsets[entry + 1],
+                    firstTerms[word]);
+            if (position < 0) {
+                position = -position - 1;
+            }
+            if (position == entryTermOffsets[entry + 1] || entryTerms[position] >= endTerms[word]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int firstTermNotBefore(String word) {
+        int low = 0;
+        int high = termCount();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (compareTerm(middle, word) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    // Terms starting with the word sit together right from the first term not before it
+    private int firstTermNotStartingWith(String word, int from) {
+        int low = from;
+        int high = termCount();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (termStartsWith(middle, word)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private int compareTerm(int term, String word) {
+        int start = termOffsets[term];
+        int length = termOffsets[term + 1] - start;
+        int common = Math.min(length, word.length());
+        for (int i = 0; i < common; i++) {
+            int difference = termChars[start + i] - word.charAt(i);
+            if (difference != 0) {
+                return difference;
+            }
+        }
+        return length - word.length();
+    }
+
+    private boolean termStartsWith(int term, String word) {
+        int start = termOffsets[term];
+        if (termOffsets[term + 1] - start < word.length()) {
+            return false;
+        }
+        for (int i = 0; i < word.length(); i++) {
+            if (termChars[start + i] != word.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long estimateBytes() {
+        long bytes = 3 * arrayBytes(isbns.length, REFERENCE_BYTES)
+                + arrayBytes(termChars.length, Character.BYTES)
+                + arrayBytes(termOffsets.length, Integer.BYTES)
+                + arrayBytes(postingOffsets.length, Integer.BYTES)
+                + arrayBytes(postings.length, Integer.BYTES)
+                + arrayBytes(entryTermOffsets.length, Integer.BYTES)
+                + arrayBytes(entryTerms.length, Integer.BYTES);
+        for (int entry = 0; entry < isbns.length; entry++) {
+            bytes += stringBytes(isbns[entry]) + stringBytes(titles[entry]) + stringBytes(authors[entry]);
+        }
+        return bytes;
+    }
+
+    static long stringBytes(String value) {
+        return STRING_OVERHEAD_BYTES + value.length();
+    }
+
+    private static long arrayBytes(int length, int elementBytes) {
+        return ARRAY_HEADER_BYTES + (long) length * elementBytes;
+    }
+
+    /**
+     * Yields the entry numbers of a range of terms in ascending order, using a binary min-heap of one cursor
+     * per term keyed by the entry number under the cursor.
+     */
+    private final class PostingsMerge {
+
+        private final int[] cursors;
+        private final int[] ends;
+        private int size;
+
+        PostingsMerge(int firstTerm, int endTerm) {
+            cursors = new int[endTerm - firstTerm];
+            ends = new int[endTerm - firstTerm];
+            for (int term = firstTerm; term < endTerm; term++) {
+                // Every term in the dictionary occurs in at least one entry
+                cursors[size] = postingOffsets[term];
+                ends[size++] = postingOffsets[term + 1];
+            }
+            for (int slot = size / 2 - 1; slot >= 0; slot--) {
+                siftDown(slot);
+            }
+        }
+
+        int next() {
+            if (size == 0) {
+                return -1;
+            }
+            int entry = postings[cursors[0]];
+            if (++cursors[0] == ends[0]) {
+                size--;
+                cursors[0] = cursors[size];
+                ends[0] = ends[size];
+            }
+            if (size > 0) {
+                siftDown(0);
+            }
+            return entry;
+        }
+
+        private void siftDown(int slot) {
+            int cursor = cursors[slot];
+            int end = ends[slot];
+            int entry = postings[cursor];
+            while (true) {
+                int child = 2 * slot + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && postings[cursors[child + 1]] < postings[cursors[child]]) {
+                    child++;
+                }
+                if (postings[cursors[child]] >= entry) {
+                    break;
+                }
+                cursors[slot] = cursors[child];
+                ends[slot] = ends[child];
+                slot = child;
+            }
+            cursors[slot] = cursor;
+            ends[slot] = end;
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package io.github.onejacklee.library.infrastructure.autocomplete;
+
+import io.github.onejacklee.library.application.catalogentry.CatalogAutocompleteIndex;
+import io.github.onejacklee.library.application.catalogentry.CatalogSuggestionDto;
+import io.github.onejacklee.library.domain.catalogentry.CatalogEntryChanged;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Serves title and author type-ahead from memory. An immutable {@link AutocompleteSnapshot} of the whole
+ * catalog is loaded at startup and reloaded periodically; entries changed since the snapshot was built are
+ * kept in a small overlay that takes precedence over it, and are folded into a new snapshot in the
+ * background once the overlay grows.
+ */
+@Slf4j
+@Component
+public class InMemoryCatalogAutocompleteIndex implements CatalogAutocompleteIndex, SmartLifecycle, MeterBinder {
+
+    public static final String MEMORY_METER_NAME = "library.autocomplete.memory";
+    public static final String ENTRIES_METER_NAME = "library.autocomplete.entries";
+    public static final String TERMS_METER_NAME = "library.autocomplete.terms";
+
+    static final int COMPACTION_THRESHOLD = 1000;
+
+    private static final String LOAD_SQL = "SELECT isbn, title, author FROM catalog_entries";
+    private static final int LOAD_FETCH_SIZE = 10_000;
+
+    private final Supplier<List<AutocompleteEntry>> loader;
+    private final Duration reloadInterval;
+    private final Object writeLock = new Object();
+
+    private volatile State state = new State(AutocompleteSnapshot.EMPTY, Map.of());
+    private boolean compactionScheduled;
+    private ScheduledExecutorService executor;
+
+    @Autowired
+    public InMemoryCatalogAutocompleteIndex(
+            DataSource dataSource,
+            PlatformTransactionManager transactionManager,
+            @Value("${library.autocomplete.reload-interval:1h}") Duration reloadInterval) {
+        this(loader(dataSource, transactionManager), reloadInterval);
+    }
+
+    InMemoryCatalogAutocompleteIndex(Supplier<List<AutocompleteEntry>> loader, Duration reloadInterval) {
+        this.loader = loader;
+        this.reloadInterval = reloadInterval;
+    }
+
+    // PostgreSQL only streams with a cursor inside a transaction; otherwise it buffers the whole result
+    private static Supplier<List<AutocompleteEntry>> loader(DataSource dataSource,
+                                                            PlatformTransactionManager transactionManager) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.setFetchSize(LOAD_FETCH_SIZE);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        return () -> transactionTemplate.execute(status -> jdbcTemplate.query(LOAD_SQL, (resultSet, rowNum) ->
+                new AutocompleteEntry(resultSet.getString("isbn"), resultSet.getString("title"),
+                        resultSet.getString("author"))));
+    }
+
+    @Override
+    public List<CatalogSuggestionDto> suggest(String text, int limit) {
+        String[] words = new LinkedHashSet<>(List.of(AutocompleteSnapshot.words(text))).toArray(String[]::new);
+        if (words.length == 0) {
+            return List.of();
+        }
+
+        State current = state;
+        List<AutocompleteEntry> fromSnapshot = current.snapshot().suggest(words, limit, current.changed()::containsKey);
+        List<AutocompleteEntry> fromOverlay = current.changed().values().stream()
+                .filter(entry -> entry.matches(words))
+                .sorted(AutocompleteEntry.RANK)
+                .limit(limit)
+                .toList();
+
+        // Both lists are already in rank order
+        List<CatalogSuggestionDto> suggestions = new ArrayList<>(limit);
+        int snapshotIndex = 0;
+        int overlayIndex = 0;
+        while (suggestions.size() < limit
+                && (snapshotIndex < fromSnapshot.size() || overlayIndex < fromOverlay.size())) {
+            boolean takeOverlay = snapshotIndex == fromSnapshot.size()
+                    || (overlayIndex < fromOverlay.size()
+                    && AutocompleteEntry.RANK.compare(fromOverlay.get(overlayIndex), fromSnapshot.get(snapshotIndex)) < 0);
+            suggestions.add(takeOverlay
+                    ? fromOverlay.get(overlayIndex++).toDto()
+                    : fromSnapshot.get(snapshotIndex++).toDto());
+        }
+        return suggestions;
+    }
+
+    // Committed changes from every node arrive through the outbox relay; the bulk loader's wait for the next reload
+    @EventListener
+    public void on(CatalogEntryChanged event) {
+        AutocompleteEntry entry = new AutocompleteEntry(event.isbn().value(), event.title(), event.author());
+        synchronized (writeLock) {
+            Map<String, AutocompleteEntry> changed = new HashMap<>(state.changed());
+            changed.put(entry.isbn(), entry);
+            state = new State(state.snapshot(), Map.copyOf(changed));
+
+            if (changed.size() >= COMPACTION_THRESHOLD && !compactionScheduled && executor != null) {
+                compactionScheduled = true;
+                executor.execute(this::compact);
+            }
+        }
+    }
+
+    void reload() {
+        State captured = state;
+        long started = System.nanoTime();
+        AutocompleteSnapshot snapshot = AutocompleteSnapshot.build(loader.get());
+        replaceSnapshot(snapshot, captured.changed());
+        log.info("Catalog autocomplete index loaded {} entries and {} terms in {} ms, about {} KB",
+                snapshot.entryCount(), snapshot.termCount(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started), snapshot.estimatedBytes() / 1024);
+    }
+
+    void compact() {
+        State captured = state;
+        Map<String, AutocompleteEntry> entries = new HashMap<>();
+        captured.snapshot().entries().forEach(entry -> entries.put(entry.isbn(), entry));
+        entries.putAll(captured.changed());
+        replaceSnapshot(AutocompleteSnapshot.build(entries.values()), captured.changed());
+    }
+
+    // Changes that arrived while the snapshot was being built are not in it, so they stay in the overlay
+    private void replaceSnapshot(AutocompleteSnapshot snapshot, Map<String, AutocompleteEntry> includedChanges) {
+        synchronized (writeLock) {
+            Map<String, AutocompleteEntry> remaining = new HashMap<>();
+            state.changed().forEach((isbn, entry) -> {
+                if (includedChanges.get(isbn) != entry) {
+                    remaining.put(isbn, entry);
+                }
+            });
+            state = new State(snapshot, Map.copyOf(remaining));
+            compactionScheduled = false;
+        }
+    }
+
+    private void reloadQuietly() {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            log.warn("Catalog autocomplete reload failed, keeping the current index", e);
+        }
+    }
+
+    @Override
+    public void start() {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "catalog-autocomplete");
+            thread.setDaemon(true);
+            return thread;
+        });
+        reload();
+        scheduler.scheduleWithFixedDelay(this::reloadQuietly, reloadInterval.toMillis(), reloadInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+        synchronized (writeLock) {
+            executor = scheduler;
+        }
+    }
+
+    @Override
+    public void stop() {
+        synchronized (writeLock) {
+            if (executor != null) {
+                executor.shutdownNow();
+                executor = null;
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        synchronized (writeLock) {
+            return executor != null;
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(MEMORY_METER_NAME, this, InMemoryCatalogAutocompleteIndex::estimatedBytes)
+                .description("Estimated heap retained by the catalog autocomplete index")
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder(ENTRIES_METER_NAME, this, index -> index.state.snapshot().entryCount())
+                .description("Catalog entries in the autocomplete snapshot")
+                .register(registry);
+        Gauge.builder(TERMS_METER_NAME, this, index -> index.state.snapshot().termCount())
+                .description("Distinct title and author words in the autocomplete snapshot")
+                .register(registry);
+    }
+
+    long estimatedBytes() {
+        State current = state;
+        long overlayBytes = current.changed().values().stream()
+                .mapToLong(entry -> AutocompleteSnapshot.stringBytes(entry.isbn())
+                        + AutocompleteSnapshot.stringBytes(entry.title())
+                        + AutocompleteSnapshot.stringBytes(entry.author()))
+                .sum();
+        return current.snapshot().estimatedBytes() + overlayBytes;
+    }
+
+    // Entries changed since the snapshot was built, by ISBN
+    private record State(AutocompleteSnapshot snapshot, Map<String, AutocompleteEntry> changed) {
+    }
+}
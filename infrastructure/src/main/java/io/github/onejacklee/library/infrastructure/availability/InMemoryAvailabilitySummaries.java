@@ -0,0 +1,295 @@
+package io.github.onejacklee.library.infrastructure.availability;
+
+import io.github.onejacklee.library.application.catalogentry.AvailabilitySummaries;
+import io.github.onejacklee.library.application.catalogentry.AvailabilitySummary;
+import io.github.onejacklee.library.common.domain.DomainEvent;
+import io.github.onejacklee.library.domain.book.BookBorrowed;
+import io.github.onejacklee.library.domain.book.BookRegistered;
+import io.github.onejacklee.library.domain.book.BookReturned;
+import io.github.onejacklee.library.domain.catalogentry.Isbn;
+import io.github.onejacklee.library.infrastructure.outbox.DomainEventRelay;
+import io.github.onejacklee.library.infrastructure.outbox.OutboxPosition;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * Copy counts per ISBN, kept in memory and adjusted by the book events the outbox relay dispatches from every
+ * node, so a lookup is one map read instead of counting the ISBN's books. Each ISBN's total and available counts
+ * are packed into one {@link AtomicLong} and change together in a single atomic add. The counts are periodically
+ * recomputed from {@code books}, which picks up the bulk loader's writes and corrects any drift.
+ * <p>
+ * A recount is lined up with the relay's position: it leaves out the events it already sees that the relay has
+ * not dispatched yet, since those still arrive as changes afterwards.
+ */
+@Slf4j
+@Component
+public class InMemoryAvailabilitySummaries implements AvailabilitySummaries, SmartLifecycle, MeterBinder {
+
+    public static final String ISBNS_METER_NAME = "library.availability.isbns";
+    public static final String CORRECTIONS_METER_NAME = "library.availability.corrections";
+
+    private static final String COUNT_SQL = """
+            SELECT isbn, count(*) AS total_copies, count(*) FILTER (WHERE borrower_id IS NULL) AS available_copies
+            FROM books
+            GROUP BY isbn
+            """;
+
+    private static final long TOTAL_UNIT = 1L << Integer.SIZE;
+
+    private static final long REGISTERED = pack(1, 1);
+    private static final long BORROWED = pack(0, -1);
+    private static final long RETURNED = pack(0, 1);
+
+    private final Function<Runnable, OutboxPosition> positioner;
+    private final Function<OutboxPosition, Recount> counter;
+    private final Duration reconcileInterval;
+
+    // Event handlers share the read lock; reconciliation takes the write lock only to swap in the new counts
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+
+    private volatile ConcurrentHashMap<String, AtomicLong> counts = new ConcurrentHashMap<>();
+    private ConcurrentHashMap<String, AtomicLong> changesDuringReconciliation;
+    private boolean loaded;
+    private ScheduledExecutorService executor;
+    private Counter corrections;
+
+    // Taking the relay means it is started first, so a recount always has a position to line up with
+    @Autowired
+    public InMemoryAvailabilitySummaries(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            DomainEventRelay relay,
+            @Value("${library.availability.reconcile-interval:5m}") Duration reconcileInterval) {
+        this(relay::runAtPosition, counter(jdbcTemplate, transactionManager, relay), reconcileInterval);
+    }
+
+    InMemoryAvailabilitySummaries(Function<Runnable, OutboxPosition> positioner,
+                                  Function<OutboxPosition, Recount> counter, Duration reconcileInterval) {
+        this.positioner = positioner;
+        this.counter = counter;
+        this.reconcileInterval = reconcileInterval;
+    }
+
+    // Both reads see one snapshot, so the events read are exactly the undispatched ones the count includes
+    private static Function<OutboxPosition, Recount> counter(JdbcTemplate jdbcTemplate,
+                                                             PlatformTransactionManager transactionManager,
+                                                             DomainEventRelay relay) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        transactionTemplate.setReadOnly(true);
+        return position -> transactionTemplate.execute(status ->
+                new Recount(count(jdbcTemplate), relay.eventsAfter(position)));
+    }
+
+    private static Map<String, Long> count(JdbcTemplate jdbcTemplate) {
+        Map<String, Long> counts = new HashMap<>();
+        jdbcTemplate.query(COUNT_SQL, resultSet -> {
+            counts.put(resultSet.getString("isbn"),
+                    pack(resultSet.getInt("total_copies"), resultSet.getInt("available_copies")));
+        });
+        return counts;
+    }
+
+    @Override
+    public AvailabilitySummary findByIsbn(Isbn isbn) {
+        AtomicLong packed = counts.get(isbn.value());
+        if (packed == null) {
+            return AvailabilitySummary.NONE;
+        }
+        long value = packed.get();
+        // Events of concurrent transactions may be applied out of order, so a count can dip below zero briefly
+        return new AvailabilitySummary(Math.max(0, totalOf(value)), Math.max(0, availableOf(value)));
+    }
+
+    @EventListener
+    public void on(BookRegistered event) {
+        add(event.isbn(), REGISTERED);
+    }
+
+    @EventListener
+    public void on(BookBorrowed event) {
+        add(event.isbn(), BORROWED);
+    }
+
+    @EventListener
+    public void on(BookReturned event) {
+        add(event.isbn(), RETURNED);
+    }
+
+    private void add(Isbn isbn, long delta) {
+        swapLock.readLock().lock();
+        try {
+            counts.computeIfAbsent(isbn.value(), ignored -> new AtomicLong()).addAndGet(delta);
+            ConcurrentHashMap<String, AtomicLong> pending = changesDuringReconciliation;
+            if (pending != null) {
+                pending.computeIfAbsent(isbn.value(), ignored -> new AtomicLong()).addAndGet(delta);
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces the counts with a fresh count of {@code books}. Changes are collected from a relay position on, and
+     * the count leaves out the events after that position it already sees. Every event after the position is then
+     * applied exactly once: collected while the count runs, or applied to the new counts once they are in place.
+     */
+    void reconcile() {
+        ConcurrentHashMap<String, AtomicLong> pending = new ConcurrentHashMap<>();
+        OutboxPosition position = positioner.apply(() -> {
+            swapLock.writeLock().lock();
+            try {
+                changesDuringReconciliation = pending;
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+        });
+
+        Recount recount;
+        try {
+            recount = counter.apply(position);
+        } catch (RuntimeException e) {
+            swapLock.writeLock().lock();
+            try {
+                changesDuringReconciliation = null;
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        ConcurrentHashMap<String, AtomicLong> reconciled = new ConcurrentHashMap<>(recount.counts().size());
+        recount.counts().forEach((isbn, packed) -> reconciled.put(isbn, new AtomicLong(packed)));
+        recount.undispatched().forEach(event -> leaveOut(reconciled, event));
+
+        ConcurrentHashMap<String, AtomicLong> previous;
+        swapLock.writeLock().lock();
+        try {
+            changesDuringReconciliation = null;
+            pending.forEach((isbn, delta) ->
+                    reconciled.computeIfAbsent(isbn, ignored -> new AtomicLong()).addAndGet(delta.get()));
+            previous = counts;
+            counts = reconciled;
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+
+        // The first reconciliation is the initial load, so there is nothing to correct yet
+        if (loaded) {
+            Set<String> isbns = new HashSet<>(previous.keySet());
+            isbns.addAll(reconciled.keySet());
+            long drifted = isbns.stream()
+                    .filter(isbn -> valueOf(previous.get(isbn)) != valueOf(reconciled.get(isbn)))
+                    .count();
+            if (drifted > 0) {
+                log.info("Availability reconciliation corrected the counts of {} ISBNs", drifted);
+                if (corrections != null) {
+                    corrections.increment(drifted);
+                }
+            }
+        }
+        loaded = true;
+    }
+
+    private static void leaveOut(Map<String, AtomicLong> counts, DomainEvent event) {
+        if (event instanceof BookRegistered registered) {
+            counts.computeIfAbsent(registered.isbn().value(), ignored -> new AtomicLong()).addAndGet(-REGISTERED);
+        } else if (event instanceof BookBorrowed borrowed) {
+            counts.computeIfAbsent(borrowed.isbn().value(), ignored -> new AtomicLong()).addAndGet(-BORROWED);
+        } else if (event instanceof BookReturned returned) {
+            counts.computeIfAbsent(returned.isbn().value(), ignored -> new AtomicLong()).addAndGet(-RETURNED);
+        }
+    }
+
+    private static long valueOf(AtomicLong packed) {
+        return packed == null ? 0 : packed.get();
+    }
+
+    private void reconcileQuietly() {
+        try {
+            reconcile();
+        } catch (RuntimeException e) {
+            log.warn("Availability reconciliation failed, keeping the current counts", e);
+        }
+    }
+
+    static long pack(int total, int available) {
+        return total * TOTAL_UNIT + available;
+    }
+
+    // Available is the low half read as a signed int, so the sum of packed deltas unpacks to the summed counts
+    static int availableOf(long packed) {
+        return (int) packed;
+    }
+
+    static int totalOf(long packed) {
+        return (int) ((packed - availableOf(packed)) / TOTAL_UNIT);
+    }
+
+    @Override
+    public synchronized void start() {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "availability-reconciliation");
+            thread.setDaemon(true);
+            return thread;
+        });
+        reconcile();
+        scheduler.scheduleWithFixedDelay(this::reconcileQuietly, reconcileInterval.toMillis(),
+                reconcileInterval.toMillis(), TimeUnit.MILLISECONDS);
+        executor = scheduler;
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return executor != null;
+    }
+
+    // Counts per ISBN in one snapshot, and the events after the relay position that snapshot already includes
+    record Recount(Map<String, Long> counts, List<DomainEvent> undispatched) {
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(ISBNS_METER_NAME, this, summaries -> summaries.counts.size())
+                .description("ISBNs with copy counts in memory")
+                .register(registry);
+        corrections = Counter.builder(CORRECTIONS_METER_NAME)
+                .description("ISBN copy counts found wrong and corrected by reconciliation against the books table")
+                .register(registry);
+    }
+}
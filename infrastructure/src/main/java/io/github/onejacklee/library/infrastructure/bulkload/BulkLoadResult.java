@@ -0,0 +1,15 @@
+package io.github.onejacklee.library.infrastructure.bulkload;
+
+import java.util.List;
+
+public record BulkLoadResult(
+        long rowsRead,
+        long rowsRejected,
+        long catalogEntriesCreated,
+        long booksCreated,
+        List<Rejection> rejections
+) {
+    // Only the first few rejections are kept; rowsRejected has the full count
+    public record Rejection(long rowNumber, String reason) {
+    }
+}
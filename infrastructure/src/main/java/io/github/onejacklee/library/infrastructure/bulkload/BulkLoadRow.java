@@ -0,0 +1,10 @@
+package io.github.onejacklee.library.infrastructure.bulkload;
+
+public record BulkLoadRow(
+        long rowNumber,
+        String isbn,
+        String title,
+        String author,
+        int copies
+) {
+}
@@ -0,0 +1,241 @@
+package io.github.onejacklee.library.infrastructure.bulkload;
+
+import io.github.onejacklee.library.application.exception.CatalogEntryConflictException;
+import io.github.onejacklee.library.common.application.IdGenerator;
+import io.github.onejacklee.library.domain.catalogentry.CatalogEntry;
+import io.github.onejacklee.library.domain.catalogentry.Isbn;
+import io.github.onejacklee.library.infrastructure.bulkload.BulkLoadResult.Rejection;
+import io.github.onejacklee.library.infrastructure.persistence.type.UlidColumns;
+import io.github.onejacklee.library.infrastructure.search.CatalogSearchTopHits;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Seeds catalog entries and book copies from a large external source. Rows are validated with the domain
+ * rules and streamed with COPY into a temporary staging table, then ISBN conflicts are resolved and the
+ * surviving rows moved into {@code catalog_entries} and {@code books} with set-based statements.
+ * The whole load is one transaction.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CatalogBulkLoader {
+
+    public static final int MAX_COPIES_PER_ROW = 1000;
+
+    private static final int TEXT_COLUMN_LENGTH = 500;
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_REPORTED_REJECTIONS = 100;
+    private static final int PROGRESS_INTERVAL = 100_000;
+
+    // LIKE books keeps the id column type, so the same staging table works with compact ids
+    private static final String CREATE_STAGING_TABLE_SQL = """
+            CREATE TEMP TABLE bulk_load_books (LIKE books INCLUDING DEFAULTS) ON COMMIT DROP
+            """;
+
+    private static final String ADD_STAGING_COLUMNS_SQL = """
+            ALTER TABLE bulk_load_books
+                ADD COLUMN row_number BIGINT NOT NULL,
+                ADD COLUMN title VARCHAR(500) NOT NULL,
+                ADD COLUMN author VARCHAR(500) NOT NULL,
+                ADD COLUMN rejected BOOLEAN NOT NULL DEFAULT FALSE
+            """;
+
+    private static final String COPY_SQL = """
+            COPY bulk_load_books (id, isbn, row_number, title, author) FROM STDIN WITH (FORMAT csv)
+            """;
+
+    // Same rule as registering a single book: the existing catalog entry wins, otherwise the first row
+    // for the ISBN does, and any row disagreeing with it on title or author (ignoring case) is rejected
+    private static final String REJECT_CONFLICTS_SQL = """
+            UPDATE bulk_load_books s
+            SET rejected = TRUE
+            FROM (
+                SELECT DISTINCT ON (b.isbn) b.isbn,
+                       COALESCE(c.title, b.title) AS title,
+                       COALESCE(c.author, b.author) AS author
+                FROM bulk_load_books b
+                LEFT JOIN catalog_entries c ON c.isbn = b.isbn
+                ORDER BY b.isbn, b.row_number
+            ) canonical
+            WHERE s.isbn = canonical.isbn
+              AND (lower(s.title) <> lower(canonical.title) OR lower(s.author) <> lower(canonical.author))
+            """;
+
+    private static final String INSERT_CATALOG_ENTRIES_SQL = """
+            INSERT INTO catalog_entries (isbn, title, author)
+            SELECT DISTINCT ON (s.isbn) s.isbn, s.title, s.author
+            FROM bulk_load_books s
+            WHERE NOT s.rejected
+              AND NOT EXISTS (SELECT 1 FROM catalog_entries c WHERE c.isbn = s.isbn)
+            ORDER BY s.isbn, s.row_number
+            """;
+
+    // Also covers staged ISBNs that were already in the catalog; their entries did not change, so they rank the same
+    private static final String STAGED_CATALOG_ENTRIES_SQL = "SELECT isbn FROM bulk_load_books WHERE NOT rejected";
+
+    private static final String INSERT_BOOKS_SQL = """
+            INSERT INTO books (id, isbn)
+            SELECT id, isbn
+            FROM bulk_load_books
+            WHERE NOT rejected
+            """;
+
+    private static final String COUNT_REJECTED_ROWS_SQL = """
+            SELECT count(DISTINCT row_number) FROM bulk_load_books WHERE rejected
+            """;
+
+    private static final String REJECTED_ROWS_SQL = """
+            SELECT DISTINCT row_number, isbn
+            FROM bulk_load_books
+            WHERE rejected
+            ORDER BY row_number
+            LIMIT ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final IdGenerator idGenerator;
+    private final UlidColumns ulidColumns;
+    private final CatalogSearchTopHits topHits;
+
+    @Transactional
+    public BulkLoadResult load(Iterator<BulkLoadRow> rows) {
+        jdbcTemplate.execute(CREATE_STAGING_TABLE_SQL);
+        jdbcTemplate.execute(ADD_STAGING_COLUMNS_SQL);
+
+        Staging staging = jdbcTemplate.execute((ConnectionCallback<Staging>) connection ->
+                copyIntoStaging(connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL), rows));
+        log.info("Staged {} rows, {} rejected by validation", staging.rowsRead, staging.rowsRejected);
+
+        // Temporary tables are never auto-analyzed; without statistics the planner guesses badly on the joins below
+        jdbcTemplate.execute("ANALYZE bulk_load_books");
+        jdbcTemplate.update(REJECT_CONFLICTS_SQL);
+        int catalogEntriesCreated = jdbcTemplate.update(INSERT_CATALOG_ENTRIES_SQL);
+        topHits.entriesChanged(STAGED_CATALOG_ENTRIES_SQL);
+        int booksCreated = jdbcTemplate.update(INSERT_BOOKS_SQL);
+
+        long conflicts = jdbcTemplate.queryForObject(COUNT_REJECTED_ROWS_SQL, Long.class);
+        int remaining = MAX_REPORTED_REJECTIONS - staging.rejections.size();
+        if (conflicts > 0 && remaining > 0) {
+            staging.rejections.addAll(jdbcTemplate.query(REJECTED_ROWS_SQL, (resultSet, rowNum) -> new Rejection(
+                    resultSet.getLong("row_number"),
+                    CatalogEntryConflictException.metadataMismatch(resultSet.getString("isbn")).getMessage()
+            ), remaining));
+        }
+
+        return new BulkLoadResult(
+                staging.rowsRead,
+                staging.rowsRejected + conflicts,
+                catalogEntriesCreated,
+                booksCreated,
+                List.copyOf(staging.rejections)
+        );
+    }
+
+    private Staging copyIntoStaging(CopyIn copyIn, Iterator<BulkLoadRow> rows) throws SQLException {
+        Staging staging = new Staging();
+        StringBuilder buffer = new StringBuilder(COPY_BUFFER_SIZE + 4 * 1024);
+        try {
+            while (rows.hasNext()) {
+                BulkLoadRow row = rows.next();
+                staging.rowsRead++;
+                if (staging.rowsRead % PROGRESS_INTERVAL == 0) {
+                    log.info("Read {} rows", staging.rowsRead);
+                }
+
+                CatalogEntry catalogEntry;
+                try {
+                    catalogEntry = validate(row);
+                } catch (IllegalArgumentException e) {
+                    staging.reject(row.rowNumber(), e.getMessage());
+                    continue;
+                }
+
+                for (int copy = 0; copy < row.copies(); copy++) {
+                    buffer.append(ulidColumns.bind(idGenerator.generate())).append(',')
+                            .append(catalogEntry.getIsbn().value()).append(',')
+                            .append(row.rowNumber()).append(',');
+                    appendQuoted(buffer, catalogEntry.getTitle());
+                    buffer.append(',');
+                    appendQuoted(buffer, catalogEntry.getAuthor());
+                    buffer.append('\n');
+                }
+                if (buffer.length() >= COPY_BUFFER_SIZE) {
+                    flush(copyIn, buffer);
+                }
+            }
+            flush(copyIn, buffer);
+            copyIn.endCopy();
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+        return staging;
+    }
+
+    private CatalogEntry validate(BulkLoadRow row) {
+        if (row.isbn() == null || row.title() == null || row.author() == null) {
+            throw new IllegalArgumentException("ISBN, title and author are required");
+        }
+        if (row.copies() < 1 || row.copies() > MAX_COPIES_PER_ROW) {
+            throw new IllegalArgumentException(
+                    "Copies must be between 1 and " + MAX_COPIES_PER_ROW + ". Got: " + row.copies());
+        }
+
+        CatalogEntry catalogEntry = CatalogEntry.create(Isbn.create(row.isbn()), row.title(), row.author());
+        if (catalogEntry.getTitle().length() > TEXT_COLUMN_LENGTH
+                || catalogEntry.getAuthor().length() > TEXT_COLUMN_LENGTH) {
+            throw new IllegalArgumentException(
+                    "Title and author must be at most " + TEXT_COLUMN_LENGTH + " characters");
+        }
+        return catalogEntry;
+    }
+
+    private static void appendQuoted(StringBuilder buffer, String value) {
+        buffer.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                buffer.append('"');
+            }
+            buffer.append(c);
+        }
+        buffer.append('"');
+    }
+
+    private static void flush(CopyIn copyIn, StringBuilder buffer) throws SQLException {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+
+    private static final class Staging {
+
+        private long rowsRead;
+        private long rowsRejected;
+        private final List<Rejection> rejections = new ArrayList<>();
+
+        void reject(long rowNumber, String reason) {
+            rowsRejected++;
+            if (rejections.size() < MAX_REPORTED_REJECTIONS) {
+                rejections.add(new Rejection(rowNumber, reason));
+            }
+        }
+    }
+}
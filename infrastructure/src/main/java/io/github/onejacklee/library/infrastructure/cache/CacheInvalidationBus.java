@@ -0,0 +1,12 @@
+package io.github.onejacklee.library.infrastructure.cache;
+
+public interface CacheInvalidationBus {
+
+    String CATALOG_ENTRIES = "catalog-entries";
+    String BORROWERS = "borrowers";
+
+    // Delivered to every node, including this one, once the surrounding transaction commits
+    void publish(String region, String key);
+
+    void subscribe(String region, CacheInvalidationListener listener);
+}
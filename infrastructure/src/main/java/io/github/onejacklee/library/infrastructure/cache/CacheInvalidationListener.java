@@ -0,0 +1,9 @@
+package io.github.onejacklee.library.infrastructure.cache;
+
+public interface CacheInvalidationListener {
+
+    void invalidate(String key);
+
+    // Called when invalidations may have been missed, e.g. after the bus reconnects
+    void invalidateAll();
+}
@@ -0,0 +1,129 @@
+package io.github.onejacklee.library.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.github.onejacklee.library.domain.borrower.Borrower;
+import io.github.onejacklee.library.domain.borrower.BorrowerId;
+import io.github.onejacklee.library.domain.borrower.BorrowerRepository;
+import io.github.onejacklee.library.domain.borrower.EmailAddress;
+import io.github.onejacklee.library.infrastructure.persistence.repository.BorrowerRepositoryImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Remembers which borrower ids exist, so that checking a borrower before a checkout rarely reaches the database.
+ * Unknown ids are remembered too, but only briefly: a bulk import does not publish an invalidation per borrower,
+ * so a cached miss for an id it inserted on another node lasts until it expires.
+ */
+@Primary
+@Repository
+public class CachingBorrowerRepository implements BorrowerRepository, MeterBinder {
+
+    static final String CACHE_NAME = "borrowerIds";
+
+    private final BorrowerRepositoryImpl delegate;
+    private final Cache<BorrowerId, Boolean> existence;
+
+    public CachingBorrowerRepository(
+            BorrowerRepositoryImpl delegate,
+            CacheInvalidationBus cacheInvalidationBus,
+            @Value("${library.cache.borrowers.maximum-size:100000}") long maximumSize,
+            @Value("${library.cache.borrowers.expire-after-write:1h}") Duration expireAfterWrite,
+            @Value("${library.cache.borrowers.missing-expire-after-write:1m}") Duration missingExpireAfterWrite) {
+        this.delegate = delegate;
+        this.existence = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(Expiry.<BorrowerId, Boolean>writing((id, exists) ->
+                        exists ? expireAfterWrite : missingExpireAfterWrite))
+                .recordStats()
+                .build();
+
+        cacheInvalidationBus.subscribe(CacheInvalidationBus.BORROWERS, new CacheInvalidationListener() {
+            @Override
+            public void invalidate(String key) {
+                existence.invalidate(BorrowerId.create(key));
+            }
+
+            @Override
+            public void invalidateAll() {
+                existence.invalidateAll();
+            }
+        });
+    }
+
+    @Override
+    public void save(Borrower borrower) {
+        delegate.save(borrower);
+        evictAll(List.of(borrower.getId()));
+    }
+
+    @Override
+    public List<Borrower> insertAllIfAbsent(List<Borrower> borrowers) {
+        List<Borrower> inserted = delegate.insertAllIfAbsent(borrowers);
+        evictAll(inserted.stream().map(Borrower::getId).toList());
+        return inserted;
+    }
+
+    @Override
+    public Optional<Borrower> findById(BorrowerId id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public Optional<Borrower> findByEmailAddress(EmailAddress emailAddress) {
+        return delegate.findByEmailAddress(emailAddress);
+    }
+
+    @Override
+    public List<Borrower> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public boolean existsById(BorrowerId id) {
+        Boolean cached = existence.getIfPresent(id);
+        if (cached != null) {
+            return cached;
+        }
+
+        boolean exists = delegate.existsById(id);
+        existence.put(id, exists);
+        return exists;
+    }
+
+    @Override
+    public boolean existsByEmailAddress(EmailAddress emailAddress) {
+        return delegate.existsByEmailAddress(emailAddress);
+    }
+
+    private void evictAll(Collection<BorrowerId> ids) {
+        existence.invalidateAll(ids);
+
+        // A lookup between the insert and its commit still sees no row, so drop what it cached once the row is visible
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    existence.invalidateAll(ids);
+                }
+            });
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, existence, CACHE_NAME);
+    }
+}
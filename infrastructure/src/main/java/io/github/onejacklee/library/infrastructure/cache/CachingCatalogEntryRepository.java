@@ -0,0 +1,166 @@
+package io.github.onejacklee.library.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.onejacklee.library.domain.catalogentry.CatalogEntry;
+import io.github.onejacklee.library.domain.catalogentry.CatalogEntryRepository;
+import io.github.onejacklee.library.domain.catalogentry.CatalogSearchHits;
+import io.github.onejacklee.library.domain.catalogentry.CatalogSearchMode;
+import io.github.onejacklee.library.domain.catalogentry.Isbn;
+import io.github.onejacklee.library.infrastructure.persistence.repository.CatalogEntryRepositoryImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Primary
+@Repository
+public class CachingCatalogEntryRepository implements CatalogEntryRepository, MeterBinder {
+
+    static final String CACHE_NAME = "catalogEntries";
+
+    private final CatalogEntryRepositoryImpl delegate;
+    private final Cache<Isbn, Snapshot> cache;
+
+    public CachingCatalogEntryRepository(
+            CatalogEntryRepositoryImpl delegate,
+            CacheInvalidationBus cacheInvalidationBus,
+            @Value("${library.cache.catalog-entries.maximum-size:10000}") long maximumSize,
+            @Value("${library.cache.catalog-entries.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+
+        cacheInvalidationBus.subscribe(CacheInvalidationBus.CATALOG_ENTRIES, new CacheInvalidationListener() {
+            @Override
+            public void invalidate(String key) {
+                cache.invalidate(Isbn.existing(key));
+            }
+
+            @Override
+            public void invalidateAll() {
+                cache.invalidateAll();
+            }
+        });
+    }
+
+    @Override
+    public void save(CatalogEntry catalogEntry) {
+        try {
+            delegate.save(catalogEntry);
+        } catch (OptimisticLockingFailureException e) {
+            // The cached version may be the stale one; a retry must read the current row
+            cache.invalidate(catalogEntry.getIsbn());
+            throw e;
+        }
+        evict(catalogEntry.getIsbn());
+    }
+
+    @Override
+    public void insertAll(List<CatalogEntry> catalogEntries) {
+        delegate.insertAll(catalogEntries);
+        evictAll(catalogEntries.stream().map(CatalogEntry::getIsbn).toList());
+    }
+
+    @Override
+    public Optional<CatalogEntry> findByIsbn(Isbn isbn) {
+        Snapshot cached = cache.getIfPresent(isbn);
+        if (cached != null) {
+            return Optional.of(cached.toDomain(isbn));
+        }
+
+        Optional<CatalogEntry> loaded = delegate.findByIsbn(isbn);
+        loaded.ifPresent(entry -> cache.put(isbn, Snapshot.of(entry)));
+        return loaded;
+    }
+
+    @Override
+    public List<CatalogEntry> findAllByIsbn(Collection<Isbn> isbns) {
+        List<CatalogEntry> found = new ArrayList<>(isbns.size());
+        List<Isbn> misses = new ArrayList<>();
+        for (Isbn isbn : isbns) {
+            Snapshot cached = cache.getIfPresent(isbn);
+            if (cached != null) {
+                found.add(cached.toDomain(isbn));
+            } else {
+                misses.add(isbn);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            for (CatalogEntry loaded : delegate.findAllByIsbn(misses)) {
+                cache.put(loaded.getIsbn(), Snapshot.of(loaded));
+                found.add(loaded);
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public boolean existsByIsbn(Isbn isbn) {
+        return cache.getIfPresent(isbn) != null || delegate.existsByIsbn(isbn);
+    }
+
+    @Override
+    public CatalogSearchHits search(String text, CatalogSearchMode mode, int limit) {
+        return delegate.search(text, mode, limit);
+    }
+
+    @Override
+    public CatalogSearchHits searchAfter(String text, CatalogSearchMode mode, float afterScore, Isbn afterIsbn,
+                                         int limit) {
+        return delegate.searchAfter(text, mode, afterScore, afterIsbn, limit);
+    }
+
+    public void evict(Isbn isbn) {
+        evictAll(List.of(isbn));
+    }
+
+    public void evictAll(Collection<Isbn> isbns) {
+        cache.invalidateAll(isbns);
+
+        // Evict again once the write is visible, so a concurrent reader cannot re-cache the pre-commit row
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidateAll(isbns);
+                }
+            });
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+    }
+
+    // Cached state is immutable; every hit hands out a fresh aggregate the caller is free to modify
+    private record Snapshot(String title, String author, Long version) {
+
+        static Snapshot of(CatalogEntry catalogEntry) {
+            return new Snapshot(catalogEntry.getTitle(), catalogEntry.getAuthor(), catalogEntry.getVersion());
+        }
+
+        CatalogEntry toDomain(Isbn isbn) {
+            CatalogEntry catalogEntry = CatalogEntry.create(isbn, title, author);
+            catalogEntry.clearDomainEvents();
+            catalogEntry.setVersion(version);
+            return catalogEntry;
+        }
+    }
+}
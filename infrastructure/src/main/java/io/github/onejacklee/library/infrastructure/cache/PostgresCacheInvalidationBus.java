@@ -0,0 +1,164 @@
+package io.github.onejacklee.library.infrastructure.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+@Slf4j
+@Component
+public class PostgresCacheInvalidationBus implements CacheInvalidationBus, SmartLifecycle {
+
+    static final String CHANNEL = "library_cache_invalidation";
+
+    private static final char SEPARATOR = ':';
+    private static final int POLL_TIMEOUT_MILLIS = 500;
+    private static final long RECONNECT_DELAY_MILLIS = 1000;
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<String, List<CacheInvalidationListener>> listeners = new ConcurrentHashMap<>();
+
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    public PostgresCacheInvalidationBus(DataSource dataSource) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    public void publish(String region, String key) {
+        String payload = region + SEPARATOR + key;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            sendNotifications(List.of(payload));
+            return;
+        }
+
+        // Collect the transaction's invalidations and send them in one statement just before commit.
+        // NOTIFY is transactional, so PostgreSQL only delivers them if the commit succeeds.
+        @SuppressWarnings("unchecked")
+        Set<String> pending = (Set<String>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Set<String> payloads = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(this, payloads);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    sendNotifications(payloads);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(PostgresCacheInvalidationBus.this);
+                }
+            });
+            pending = payloads;
+        }
+        pending.add(payload);
+    }
+
+    private void sendNotifications(Collection<String> payloads) {
+        jdbcTemplate.query("SELECT pg_notify(?, payload) FROM unnest(?::text[]) AS payload",
+                resultSet -> null, CHANNEL, payloads.toArray(String[]::new));
+    }
+
+    @Override
+    public void subscribe(String region, CacheInvalidationListener listener) {
+        listeners.computeIfAbsent(region, ignored -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    @Override
+    public synchronized void start() {
+        running = true;
+        listenerThread = new Thread(this::listen, "cache-invalidation-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+            listenerThread = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = dataSource.getConnection();
+                 Statement statement = connection.createStatement()) {
+                connection.setAutoCommit(true);
+                statement.execute("LISTEN " + CHANNEL);
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+
+                // Anything published while we were not listening is lost, so start from a clean slate
+                listeners.values().forEach(regionListeners ->
+                        regionListeners.forEach(CacheInvalidationListener::invalidateAll));
+
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MILLIS);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            dispatch(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (running) {
+                    log.warn("Cache invalidation listener lost its connection, reconnecting", e);
+                    sleepBeforeReconnect();
+                }
+            }
+        }
+    }
+
+    void dispatch(String payload) {
+        int separator = payload.indexOf(SEPARATOR);
+        if (separator < 0) {
+            log.warn("Ignoring malformed cache invalidation: {}", payload);
+            return;
+        }
+
+        String region = payload.substring(0, separator);
+        String key = payload.substring(separator + 1);
+        log.debug("Cache invalidation received for {} {}", region, key);
+        for (CacheInvalidationListener listener : listeners.getOrDefault(region, List.of())) {
+            try {
+                listener.invalidate(key);
+            } catch (RuntimeException e) {
+                log.warn("Cache invalidation listener failed for {} {}", region, key, e);
+            }
+        }
+    }
+
+    private void sleepBeforeReconnect() {
+        try {
+            Thread.sleep(RECONNECT_DELAY_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
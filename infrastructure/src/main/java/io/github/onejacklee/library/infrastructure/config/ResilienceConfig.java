@@ -0,0 +1,10 @@
+package io.github.onejacklee.library.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.resilience.annotation.EnableResilientMethods;
+
+// Activates @Retryable on application handlers; the retry wraps the handler's transaction, so each attempt starts fresh
+@Configuration
+@EnableResilientMethods
+public class ResilienceConfig {
+}
@@ -0,0 +1,178 @@
+package io.github.onejacklee.library.infrastructure.emailfilter;
+
+import io.github.onejacklee.library.application.borrower.BorrowerEmailFilter;
+import io.github.onejacklee.library.domain.borrower.BorrowerRegistered;
+import io.github.onejacklee.library.domain.borrower.EmailAddress;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Answers whether a borrower might already have an email address from a {@link BloomFilter} of every stored
+ * (normalized) address, so registering a new address skips the existence query. Addresses of borrowers registered
+ * on any node are added from {@link BorrowerRegistered} events, and the filter is rebuilt from {@code borrowers}
+ * periodically with room for twice as many addresses, before growth pushes its false positive rate up. Until the
+ * first build every address might exist.
+ *
+ * <p>An address registered moments ago may not have reached the filter yet; the unique constraint on
+ * {@code borrowers.email_address} still rejects it.
+ */
+@Slf4j
+@Component
+public class BloomBorrowerEmailFilter implements BorrowerEmailFilter, SmartLifecycle, MeterBinder {
+
+    public static final String ENTRIES_METER_NAME = "library.email-filter.entries";
+
+    private static final String LOAD_SQL = "SELECT email_address FROM borrowers";
+    private static final int LOAD_FETCH_SIZE = 10_000;
+    private static final int MINIMUM_CAPACITY = 10_000;
+
+    private final Supplier<List<String>> loader;
+    private final Duration rebuildInterval;
+    private final double falsePositiveRate;
+    private final Object lock = new Object();
+
+    private volatile BloomFilter filter;
+    private List<String> addedDuringRebuild;
+    private long entries;
+    private ScheduledExecutorService executor;
+
+    @Autowired
+    public BloomBorrowerEmailFilter(
+            DataSource dataSource,
+            PlatformTransactionManager transactionManager,
+            @Value("${library.email-filter.rebuild-interval:1h}") Duration rebuildInterval,
+            @Value("${library.email-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this(loader(dataSource, transactionManager), rebuildInterval, falsePositiveRate);
+    }
+
+    BloomBorrowerEmailFilter(Supplier<List<String>> loader, Duration rebuildInterval, double falsePositiveRate) {
+        this.loader = loader;
+        this.rebuildInterval = rebuildInterval;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    private static Supplier<List<String>> loader(DataSource dataSource, PlatformTransactionManager transactionManager) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.setFetchSize(LOAD_FETCH_SIZE);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        return () -> transactionTemplate.execute(status -> jdbcTemplate.queryForList(LOAD_SQL, String.class));
+    }
+
+    @Override
+    public boolean mightExist(EmailAddress emailAddress) {
+        BloomFilter current = filter;
+        return current == null || current.mightContain(emailAddress.value());
+    }
+
+    @EventListener
+    public void on(BorrowerRegistered event) {
+        String emailAddress = event.emailAddress().value();
+        synchronized (lock) {
+            if (filter != null) {
+                filter.add(emailAddress);
+                entries++;
+            }
+            if (addedDuringRebuild != null) {
+                addedDuringRebuild.add(emailAddress);
+            }
+        }
+    }
+
+    /**
+     * Builds a new filter from {@code borrowers} and swaps it in. Addresses added while the load runs are added to
+     * the new filter as well, since the load may not see them.
+     */
+    void rebuild() {
+        synchronized (lock) {
+            addedDuringRebuild = new ArrayList<>();
+        }
+
+        List<String> emailAddresses;
+        try {
+            emailAddresses = loader.get();
+        } catch (RuntimeException e) {
+            synchronized (lock) {
+                addedDuringRebuild = null;
+            }
+            throw e;
+        }
+
+        int capacity = Math.max(MINIMUM_CAPACITY, emailAddresses.size() * 2);
+        BloomFilter rebuilt = new BloomFilter(capacity, falsePositiveRate);
+        emailAddresses.forEach(rebuilt::add);
+
+        synchronized (lock) {
+            addedDuringRebuild.forEach(rebuilt::add);
+            entries = emailAddresses.size() + addedDuringRebuild.size();
+            addedDuringRebuild = null;
+            filter = rebuilt;
+        }
+        log.debug("Rebuilt the borrower email filter with {} addresses in {} bits", emailAddresses.size(),
+                rebuilt.bits());
+    }
+
+    private void rebuildQuietly() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.warn("Borrower email filter rebuild failed, keeping the current filter", e);
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "email-filter-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        });
+        rebuild();
+        scheduler.scheduleWithFixedDelay(this::rebuildQuietly, rebuildInterval.toMillis(),
+                rebuildInterval.toMillis(), TimeUnit.MILLISECONDS);
+        executor = scheduler;
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return executor != null;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(ENTRIES_METER_NAME, this, emailFilter -> {
+                    synchronized (emailFilter.lock) {
+                        return emailFilter.entries;
+                    }
+                })
+                .description("Borrower email addresses in the email filter")
+                .register(registry);
+    }
+}
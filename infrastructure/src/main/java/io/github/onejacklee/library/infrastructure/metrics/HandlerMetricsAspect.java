@@ -0,0 +1,61 @@
+package io.github.onejacklee.library.infrastructure.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times every command and query handler and counts the SQL statements it issues. Runs outside the
+ * handler's transaction so commit time and flush statements are included.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class HandlerMetricsAspect {
+
+    public static final String TIMER_NAME = "library.handler";
+    public static final String STATEMENTS_NAME = "library.handler.statements";
+
+    private static final String NO_EXCEPTION = "none";
+
+    private final MeterRegistry meterRegistry;
+    private final SqlStatementCounter statementCounter;
+
+    @Around("execution(public * io.github.onejacklee.library.application..*Handler.handle(..))")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        String handler = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        long statementsBefore = statementCounter.current();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = NO_EXCEPTION;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable ex) {
+            // Exception types line up one-to-one with the GlobalExceptionHandler mappings
+            exception = ex.getClass().getSimpleName();
+            throw ex;
+        } finally {
+            sample.stop(Timer.builder(TIMER_NAME)
+                    .description("Command and query handler latency")
+                    .tag("handler", handler)
+                    .tag("outcome", NO_EXCEPTION.equals(exception) ? "SUCCESS" : "ERROR")
+                    .tag("exception", exception)
+                    // Aggregatable buckets; p50/p99 are derived with histogram_quantile() in Prometheus
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+            DistributionSummary.builder(STATEMENTS_NAME)
+                    .description("SQL statements executed per handler invocation")
+                    .baseUnit("statements")
+                    .tag("handler", handler)
+                    .register(meterRegistry)
+                    .record(statementCounter.current() - statementsBefore);
+        }
+    }
+}
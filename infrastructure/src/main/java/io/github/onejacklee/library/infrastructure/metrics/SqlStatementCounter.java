@@ -0,0 +1,87 @@
+package io.github.onejacklee.library.infrastructure.metrics;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Counts JDBC statement executions (round-trips; a batch counts once), their execution time and, when
+ * result sets are proxied, the rows fetched on the current thread, for Hibernate and {@code JdbcTemplate}
+ * alike. Callers take the difference between two readings.
+ */
+@Component
+public class SqlStatementCounter implements QueryExecutionListener, MethodExecutionListener {
+
+    private final ThreadLocal<Tally> tally = ThreadLocal.withInitial(Tally::new);
+
+    public long current() {
+        return tally.get().statements;
+    }
+
+    public SqlStatistics snapshot() {
+        Tally current = tally.get();
+        return new SqlStatistics(current.statements, current.rows, Duration.ofNanos(current.jdbcNanos));
+    }
+
+    // Records how often each SQL string runs on this thread until stopTrackingRepeats(), to spot N+1 patterns
+    public void trackRepeats() {
+        tally.get().repeats = new HashMap<>();
+    }
+
+    public Map<String, Integer> stopTrackingRepeats() {
+        Tally current = tally.get();
+        Map<String, Integer> repeats = current.repeats == null ? Map.of() : current.repeats;
+        current.repeats = null;
+        return repeats;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        tally.get().queryStartedAt = System.nanoTime();
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Tally current = tally.get();
+        current.statements++;
+        if (current.queryStartedAt != 0) {
+            current.jdbcNanos += System.nanoTime() - current.queryStartedAt;
+            current.queryStartedAt = 0;
+        }
+        if (current.repeats != null) {
+            for (QueryInfo queryInfo : queryInfoList) {
+                current.repeats.merge(queryInfo.getQuery(), 1, Integer::sum);
+            }
+        }
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+    }
+
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        if (executionContext.getTarget() instanceof ResultSet
+                && "next".equals(executionContext.getMethod().getName())
+                && Boolean.TRUE.equals(executionContext.getResult())) {
+            tally.get().rows++;
+        }
+    }
+
+    private static final class Tally {
+        private long statements;
+        private long rows;
+        private long jdbcNanos;
+        private long queryStartedAt;
+        private Map<String, Integer> repeats;
+    }
+}
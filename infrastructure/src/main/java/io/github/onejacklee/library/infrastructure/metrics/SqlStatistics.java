@@ -0,0 +1,14 @@
+package io.github.onejacklee.library.infrastructure.metrics;
+
+import java.time.Duration;
+
+public record SqlStatistics(long statements, long rows, Duration jdbcTime) {
+
+    public SqlStatistics since(SqlStatistics earlier) {
+        return new SqlStatistics(
+                statements - earlier.statements,
+                rows - earlier.rows,
+                jdbcTime.minus(earlier.jdbcTime)
+        );
+    }
+}
@@ -0,0 +1,38 @@
+package io.github.onejacklee.library.infrastructure.metrics;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+@Component
+public class StatementCountingDataSourcePostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<SqlStatementCounter> statementCounter;
+    private final boolean countRows;
+
+    public StatementCountingDataSourcePostProcessor(
+            ObjectProvider<SqlStatementCounter> statementCounter,
+            @Value("${library.sql-statistics.enabled:false}") boolean countRows) {
+        this.statementCounter = statementCounter;
+        this.countRows = countRows;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+            ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create(beanName, dataSource)
+                    .listener(statementCounter.getObject());
+            if (countRows) {
+                // Proxying every ResultSet call costs a reflective hop per row, so only in debug mode
+                builder.proxyResultSet().methodListener(statementCounter.getObject());
+            }
+            return builder.build();
+        }
+        return bean;
+    }
+}
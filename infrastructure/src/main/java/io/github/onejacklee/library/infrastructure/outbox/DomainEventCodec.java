@@ -0,0 +1,45 @@
+package io.github.onejacklee.library.infrastructure.outbox;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility;
+import io.github.onejacklee.library.common.domain.DomainEvent;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Events are stored as their class name and a JSON payload of their record components
+final class DomainEventCodec {
+
+    private final JsonMapper jsonMapper = JsonMapper.builder()
+            // Value objects expose derived properties (Isbn.isIsbn10()) that are not part of their state
+            .changeDefaultVisibility(visibility -> visibility.withIsGetterVisibility(Visibility.NONE))
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+    private final Map<String, Class<? extends DomainEvent>> types = new ConcurrentHashMap<>();
+
+    String typeOf(DomainEvent event) {
+        return event.getClass().getName();
+    }
+
+    String serialize(DomainEvent event) {
+        return jsonMapper.writeValueAsString(event);
+    }
+
+    DomainEvent deserialize(String type, String payload) {
+        return jsonMapper.readValue(payload, types.computeIfAbsent(type, DomainEventCodec::resolve));
+    }
+
+    // Only domain event classes are ever instantiated from the table
+    private static Class<? extends DomainEvent> resolve(String type) {
+        try {
+            Class<?> eventClass = Class.forName(type, false, DomainEventCodec.class.getClassLoader());
+            if (!DomainEvent.class.isAssignableFrom(eventClass)) {
+                throw new IllegalArgumentException("Not a domain event: " + type);
+            }
+            return eventClass.asSubclass(DomainEvent.class);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalArgumentException("Unknown domain event type: " + type, e);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package io.github.onejacklee.library.infrastructure.outbox;
+
+import io.github.onejacklee.library.common.domain.AggregateRoot;
+import io.github.onejacklee.library.common.domain.DomainEvent;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Stores domain events in {@code domain_event_outbox} as part of the transaction that saves the aggregates
+ * raising them, so an event exists if and only if its change was committed. {@link DomainEventRelay}
+ * dispatches them once they are committed.
+ */
+@Component
+public class DomainEventOutbox {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO domain_event_outbox (event_type, payload)
+            SELECT event_type, payload::jsonb
+            FROM unnest(?::text[], ?::text[]) WITH ORDINALITY AS event(event_type, payload, position)
+            ORDER BY position
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DomainEventRelay relay;
+    private final DomainEventCodec codec = new DomainEventCodec();
+
+    public DomainEventOutbox(JdbcTemplate jdbcTemplate, DomainEventRelay relay) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.relay = relay;
+    }
+
+    public void append(AggregateRoot<?> aggregate) {
+        enqueue(aggregate.getDomainEvents());
+        aggregate.clearDomainEvents();
+    }
+
+    public void appendAll(Collection<? extends AggregateRoot<?>> aggregates) {
+        List<DomainEvent> events = new ArrayList<>();
+        aggregates.forEach(aggregate -> {
+            events.addAll(aggregate.getDomainEvents());
+            aggregate.clearDomainEvents();
+        });
+        enqueue(events);
+    }
+
+    // For changes made by a conditional UPDATE rather than by saving an aggregate
+    public void append(DomainEvent event) {
+        enqueue(List.of(event));
+    }
+
+    private void enqueue(List<DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            insert(events);
+            relay.wakeUp();
+            return;
+        }
+
+        // Collect the transaction's events and insert them in one statement just before commit
+        @SuppressWarnings("unchecked")
+        List<DomainEvent> pending = (List<DomainEvent>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            List<DomainEvent> transactionEvents = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, transactionEvents);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    insert(transactionEvents);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(DomainEventOutbox.this);
+                    if (status == STATUS_COMMITTED) {
+                        relay.wakeUp();
+                    }
+                }
+            });
+            pending = transactionEvents;
+        }
+        pending.addAll(events);
+    }
+
+    private void insert(List<DomainEvent> events) {
+        jdbcTemplate.update(INSERT_SQL,
+                events.stream().map(codec::typeOf).toArray(String[]::new),
+                events.stream().map(codec::serialize).toArray(String[]::new));
+    }
+}
@@ -0,0 +1,265 @@
+package io.github.onejacklee.library.infrastructure.outbox;
+
+import io.github.onejacklee.library.common.domain.DomainEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads committed events from {@code domain_event_outbox} in batches and publishes them to this node's
+ * {@code @EventListener}s on a background thread, so in-memory read models on every node see every change.
+ * Each node keeps its own position and starts from the events committed after it came up; what was committed
+ * before is already in the tables its read models load from.
+ *
+ * <p>Rows are read in {@code (transaction_id, id)} order, and only from transactions older than every one
+ * still running. A transaction that started earlier but commits later therefore cannot appear behind the
+ * position. The catch is that one long-running writing transaction holds back dispatch until it finishes.
+ */
+@Slf4j
+@Component
+public class DomainEventRelay implements SmartLifecycle, MeterBinder {
+
+    public static final String DISPATCHED_METER_NAME = "library.outbox.dispatched";
+    public static final String FAILURES_METER_NAME = "library.outbox.failures";
+    public static final String DELAY_METER_NAME = "library.outbox.delay";
+
+    private static final String START_POSITION_SQL = "SELECT pg_snapshot_xmin(pg_current_snapshot())::text";
+
+    private static final String NEXT_BATCH_SQL = """
+            SELECT id, transaction_id::text AS transaction_id, event_type, payload::text AS payload,
+                   (extract(epoch FROM clock_timestamp() - created_at) * 1000)::bigint AS age_millis
+            FROM domain_event_outbox
+            WHERE (transaction_id, id) > (?::xid8, ?)
+              AND transaction_id < pg_snapshot_xmin(pg_current_snapshot())
+            ORDER BY transaction_id, id
+            LIMIT ?
+            """;
+
+    private static final String EVENTS_AFTER_SQL = """
+            SELECT id, event_type, payload::text AS payload
+            FROM domain_event_outbox
+            WHERE (transaction_id, id) > (?::xid8, ?)
+            ORDER BY transaction_id, id
+            """;
+
+    private static final String DELETE_EXPIRED_SQL = """
+            DELETE FROM domain_event_outbox
+            WHERE created_at < clock_timestamp() - ?::interval
+            """;
+
+    private static final Duration CLEANUP_INTERVAL = Duration.ofMinutes(1);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration pollInterval;
+    private final int batchSize;
+    private final Duration retention;
+    private final DomainEventCodec codec = new DomainEventCodec();
+    private final Semaphore wakeUps = new Semaphore(0);
+    // Held while an event is dispatched and the position moved past it
+    private final Object dispatchLock = new Object();
+
+    private volatile boolean running;
+    private Thread relayThread;
+    private OutboxPosition position;
+    private long nextCleanup;
+    private Counter dispatched;
+    private Counter failures;
+    private Timer delay;
+
+    public DomainEventRelay(
+            JdbcTemplate jdbcTemplate,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${library.outbox.poll-interval:1s}") Duration pollInterval,
+            @Value("${library.outbox.batch-size:500}") int batchSize,
+            @Value("${library.outbox.retention:1h}") Duration retention) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.pollInterval = pollInterval;
+        this.batchSize = batchSize;
+        this.retention = retention;
+    }
+
+    // Called after a local commit, so this node's own changes are dispatched without waiting for the next poll
+    void wakeUp() {
+        if (wakeUps.availablePermits() == 0) {
+            wakeUps.release();
+        }
+    }
+
+    /**
+     * Dispatches the next batch of committed events and returns how many there were. An event that cannot be
+     * read or whose listener fails is logged and skipped, so it cannot hold up the ones behind it.
+     */
+    int relayBatch() {
+        OutboxPosition after = currentPosition();
+        List<OutboxRow> rows = jdbcTemplate.query(NEXT_BATCH_SQL, (resultSet, rowNum) -> new OutboxRow(
+                resultSet.getLong("id"),
+                resultSet.getString("transaction_id"),
+                resultSet.getString("event_type"),
+                resultSet.getString("payload"),
+                resultSet.getLong("age_millis")
+        ), after.transactionId(), after.id(), batchSize);
+
+        for (OutboxRow row : rows) {
+            synchronized (dispatchLock) {
+                dispatch(row);
+                position = new OutboxPosition(row.transactionId(), row.id());
+            }
+        }
+        return rows.size();
+    }
+
+    /**
+     * Runs the task between two dispatched events and returns the position of the last one, so every event after
+     * that position reaches the listeners after the task.
+     */
+    public OutboxPosition runAtPosition(Runnable task) {
+        synchronized (dispatchLock) {
+            task.run();
+            return position;
+        }
+    }
+
+    /**
+     * The events after the position that the caller's transaction sees, dispatched yet or not. Read in the same
+     * snapshot as the tables a read model is loaded from, they are the ones that load already includes but that
+     * are still to reach the model's listeners. Events that cannot be read are left out, as dispatching skips them.
+     */
+    public List<DomainEvent> eventsAfter(OutboxPosition after) {
+        List<DomainEvent> events = new ArrayList<>();
+        jdbcTemplate.query(EVENTS_AFTER_SQL, resultSet -> {
+            try {
+                events.add(codec.deserialize(resultSet.getString("event_type"), resultSet.getString("payload")));
+            } catch (RuntimeException e) {
+                log.debug("Leaving out unreadable outbox event {}", resultSet.getLong("id"), e);
+            }
+        }, after.transactionId(), after.id());
+        return events;
+    }
+
+    private OutboxPosition currentPosition() {
+        synchronized (dispatchLock) {
+            return position;
+        }
+    }
+
+    private void dispatch(OutboxRow row) {
+        try {
+            DomainEvent event = codec.deserialize(row.eventType(), row.payload());
+            eventPublisher.publishEvent(event);
+            if (dispatched != null) {
+                dispatched.increment();
+                delay.record(row.ageMillis(), TimeUnit.MILLISECONDS);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Skipping outbox event {} of type {}", row.id(), row.eventType(), e);
+            if (failures != null) {
+                failures.increment();
+            }
+        }
+    }
+
+    void deleteExpired() {
+        int deleted = jdbcTemplate.update(DELETE_EXPIRED_SQL, retention.toSeconds() + " seconds");
+        if (deleted > 0) {
+            log.debug("Deleted {} outbox events older than {}", deleted, retention);
+        }
+    }
+
+    private void relay() {
+        while (running) {
+            try {
+                // A full batch means more are waiting, so keep going without sleeping
+                if (relayBatch() == batchSize) {
+                    continue;
+                }
+                deleteExpiredIfDue();
+            } catch (DataAccessException e) {
+                log.warn("Outbox relay failed, retrying", e);
+            }
+
+            try {
+                awaitWakeUp();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void deleteExpiredIfDue() {
+        if (System.nanoTime() - nextCleanup >= 0) {
+            nextCleanup = System.nanoTime() + CLEANUP_INTERVAL.toNanos();
+            deleteExpired();
+        }
+    }
+
+    private void awaitWakeUp() throws InterruptedException {
+        if (wakeUps.tryAcquire(pollInterval.toMillis(), TimeUnit.MILLISECONDS)) {
+            wakeUps.drainPermits();
+        }
+    }
+
+    void startFromNow() {
+        OutboxPosition now = new OutboxPosition(jdbcTemplate.queryForObject(START_POSITION_SQL, String.class), 0);
+        synchronized (dispatchLock) {
+            position = now;
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        startFromNow();
+        nextCleanup = System.nanoTime();
+        running = true;
+        relayThread = new Thread(this::relay, "domain-event-relay");
+        relayThread.setDaemon(true);
+        relayThread.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        if (relayThread != null) {
+            relayThread.interrupt();
+            relayThread = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        delay = Timer.builder(DELAY_METER_NAME)
+                .description("Time from writing an event to the outbox to dispatching it on this node")
+                .publishPercentileHistogram()
+                .register(registry);
+        failures = Counter.builder(FAILURES_METER_NAME)
+                .description("Outbox events skipped because they could not be read or a listener failed")
+                .register(registry);
+        dispatched = Counter.builder(DISPATCHED_METER_NAME)
+                .description("Outbox events dispatched to this node's listeners")
+                .register(registry);
+    }
+
+    private record OutboxRow(long id, String transactionId, String eventType, String payload, long ageMillis) {
+    }
+}
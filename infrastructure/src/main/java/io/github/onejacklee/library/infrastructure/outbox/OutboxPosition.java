@@ -0,0 +1,8 @@
+package io.github.onejacklee.library.infrastructure.outbox;
+
+// The last outbox event a node has dispatched; events are dispatched in (transaction id, id) order
+public record OutboxPosition(
+        String transactionId,
+        long id
+) {
+}
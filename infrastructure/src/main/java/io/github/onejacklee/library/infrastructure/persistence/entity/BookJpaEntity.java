@@ -4,12 +4,14 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import org.springframework.data.domain.Persistable;
 
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "books")
-public class BookJpaEntity {
+public class BookJpaEntity implements Persistable<String> {
 
     @Id
     @Column(name = "id", length = 26)
@@ -24,16 +26,22 @@ public class BookJpaEntity {
     @Column(name = "borrowed_on")
     private LocalDateTime borrowedOn;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     protected BookJpaEntity() {
     }
 
-    public BookJpaEntity(String id, String isbn, String borrowerId, LocalDateTime borrowedOn) {
+    public BookJpaEntity(String id, String isbn, String borrowerId, LocalDateTime borrowedOn, Long version) {
         this.id = id;
         this.isbn = isbn;
         this.borrowerId = borrowerId;
         this.borrowedOn = borrowedOn;
+        this.version = version;
     }
 
+    @Override
     public String getId() {
         return id;
     }
@@ -65,4 +73,18 @@ public class BookJpaEntity {
     public void setBorrowedOn(LocalDateTime borrowedOn) {
         this.borrowedOn = borrowedOn;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    // Only aggregates that were never saved lack a version, so saving them persists without a SELECT first
+    @Override
+    public boolean isNew() {
+        return version == null;
+    }
 }
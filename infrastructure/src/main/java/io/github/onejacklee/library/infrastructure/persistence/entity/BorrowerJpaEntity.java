@@ -4,10 +4,12 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import org.springframework.data.domain.Persistable;
 
 @Entity
 @Table(name = "borrowers")
-public class BorrowerJpaEntity {
+public class BorrowerJpaEntity implements Persistable<String> {
 
     @Id
     @Column(name = "id", length = 26)
@@ -19,15 +21,21 @@ public class BorrowerJpaEntity {
     @Column(name = "email_address", nullable = false, unique = true, length = 255)
     private String emailAddress;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     protected BorrowerJpaEntity() {
     }
 
-    public BorrowerJpaEntity(String id, String name, String emailAddress) {
+    public BorrowerJpaEntity(String id, String name, String emailAddress, Long version) {
         this.id = id;
         this.name = name;
         this.emailAddress = emailAddress;
+        this.version = version;
     }
 
+    @Override
     public String getId() {
         return id;
     }
@@ -51,4 +59,17 @@ public class BorrowerJpaEntity {
     public void setEmailAddress(String emailAddress) {
         this.emailAddress = emailAddress;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    @Override
+    public boolean isNew() {
+        return version == null;
+    }
 }
@@ -4,10 +4,12 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import org.springframework.data.domain.Persistable;
 
 @Entity
 @Table(name = "catalog_entries")
-public class CatalogEntryJpaEntity {
+public class CatalogEntryJpaEntity implements Persistable<String> {
 
     @Id
     @Column(name = "isbn", length = 13)
@@ -19,13 +21,23 @@ public class CatalogEntryJpaEntity {
     @Column(name = "author", nullable = false, length = 500)
     private String author;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     protected CatalogEntryJpaEntity() {
     }
 
-    public CatalogEntryJpaEntity(String isbn, String title, String author) {
+    public CatalogEntryJpaEntity(String isbn, String title, String author, Long version) {
         this.isbn = isbn;
         this.title = title;
         this.author = author;
+        this.version = version;
+    }
+
+    @Override
+    public String getId() {
+        return isbn;
     }
 
     public String getIsbn() {
@@ -51,4 +63,17 @@ public class CatalogEntryJpaEntity {
     public void setAuthor(String author) {
         this.author = author;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    @Override
+    public boolean isNew() {
+        return version == null;
+    }
 }
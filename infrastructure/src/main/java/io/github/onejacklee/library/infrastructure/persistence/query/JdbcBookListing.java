@@ -0,0 +1,98 @@
+package io.github.onejacklee.library.infrastructure.persistence.query;
+
+import io.github.onejacklee.library.application.book.BookDetailsDto;
+import io.github.onejacklee.library.application.book.BookListing;
+import io.github.onejacklee.library.domain.book.BookId;
+import io.github.onejacklee.library.domain.borrower.BorrowerId;
+import io.github.onejacklee.library.infrastructure.persistence.type.UlidColumns;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+// Plain JDBC rather than JPA, so listed rows skip the persistence context and its dirty-checking snapshots
+@Repository
+@RequiredArgsConstructor
+public class JdbcBookListing implements BookListing {
+
+    // Rows pulled per round-trip while streaming; PostgreSQL only honours this inside a transaction
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    private static final String SELECT_SQL = """
+            SELECT b.id, b.isbn, b.borrower_id, b.borrowed_on, c.title, c.author
+            FROM books b
+            JOIN catalog_entries c ON b.isbn = c.isbn
+            """;
+
+    private static final String ALL_SQL = SELECT_SQL + "ORDER BY b.id";
+
+    private static final String PAGE_SQL = SELECT_SQL + """
+            ORDER BY b.id
+            LIMIT ?
+            """;
+
+    private static final String PAGE_AFTER_SQL = SELECT_SQL + """
+            WHERE b.id > ?
+            ORDER BY b.id
+            LIMIT ?
+            """;
+
+    // Every books column read here is in idx_books_borrower_loans, so the books side is an index-only scan
+    static final String BY_BORROWER_SQL = SELECT_SQL + """
+            WHERE b.borrower_id = ?
+            ORDER BY b.id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UlidColumns ulidColumns;
+
+    @Override
+    public List<BookDetailsDto> findAll() {
+        return jdbcTemplate.query(ALL_SQL, this::mapRow);
+    }
+
+    @Override
+    public void forEach(Consumer<BookDetailsDto> action) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    ALL_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(STREAM_FETCH_SIZE);
+            return statement;
+        }, (RowCallbackHandler) resultSet -> action.accept(mapRow(resultSet, 0)));
+    }
+
+    @Override
+    public List<BookDetailsDto> findPage(int limit) {
+        return jdbcTemplate.query(PAGE_SQL, this::mapRow, limit);
+    }
+
+    @Override
+    public List<BookDetailsDto> findPageAfter(BookId after, int limit) {
+        return jdbcTemplate.query(PAGE_AFTER_SQL, this::mapRow, ulidColumns.bind(after.value()), limit);
+    }
+
+    @Override
+    public List<BookDetailsDto> findByBorrower(BorrowerId borrowerId) {
+        return jdbcTemplate.query(BY_BORROWER_SQL, this::mapRow, ulidColumns.bind(borrowerId.value()));
+    }
+
+    private BookDetailsDto mapRow(ResultSet resultSet, int rowNum) throws SQLException {
+        String borrowerId = ulidColumns.read(resultSet, "borrower_id");
+        return new BookDetailsDto(
+                ulidColumns.read(resultSet, "id"),
+                resultSet.getString("isbn"),
+                resultSet.getString("title"),
+                resultSet.getString("author"),
+                borrowerId == null,
+                borrowerId,
+                resultSet.getObject("borrowed_on", LocalDateTime.class)
+        );
+    }
+}
@@ -0,0 +1,72 @@
+package io.github.onejacklee.library.infrastructure.persistence.query;
+
+import io.github.onejacklee.library.application.borrower.BorrowerDto;
+import io.github.onejacklee.library.application.borrower.BorrowerFilter;
+import io.github.onejacklee.library.application.borrower.BorrowerListing;
+import io.github.onejacklee.library.domain.borrower.BorrowerId;
+import io.github.onejacklee.library.infrastructure.persistence.type.UlidColumns;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class JdbcBorrowerListing implements BorrowerListing {
+
+    private static final String SELECT_SQL = """
+            SELECT id, name, email_address
+            FROM borrowers
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UlidColumns ulidColumns;
+
+    @Override
+    public List<BorrowerDto> findPage(BorrowerFilter filter, int limit) {
+        return findPage(filter, null, limit);
+    }
+
+    @Override
+    public List<BorrowerDto> findPageAfter(BorrowerFilter filter, BorrowerId after, int limit) {
+        return findPage(filter, after, limit);
+    }
+
+    private List<BorrowerDto> findPage(BorrowerFilter filter, BorrowerId after, int limit) {
+        List<String> conditions = new ArrayList<>();
+        List<Object> args = new ArrayList<>();
+        if (after != null) {
+            conditions.add("id > ?");
+            args.add(ulidColumns.bind(after.value()));
+        }
+        if (filter.emailPrefix() != null) {
+            conditions.add("email_address LIKE ?");
+            args.add(escapeLike(filter.emailPrefix()) + "%");
+        }
+        if (filter.name() != null) {
+            conditions.add("name ILIKE ?");
+            args.add("%" + escapeLike(filter.name()) + "%");
+        }
+        args.add(limit);
+
+        String where = conditions.isEmpty() ? "" : "WHERE " + String.join(" AND ", conditions) + "\n";
+        return jdbcTemplate.query(SELECT_SQL + where + "ORDER BY id\nLIMIT ?", this::mapRow, args.toArray());
+    }
+
+    // Backslash is LIKE's default escape character
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private BorrowerDto mapRow(ResultSet resultSet, int rowNum) throws SQLException {
+        return new BorrowerDto(
+                ulidColumns.read(resultSet, "id"),
+                resultSet.getString("name"),
+                resultSet.getString("email_address")
+        );
+    }
+}
@@ -1,15 +1,23 @@
 package io.github.onejacklee.library.infrastructure.persistence.repository;
 
 import io.github.onejacklee.library.domain.book.Book;
+import io.github.onejacklee.library.domain.book.BookBorrowed;
 import io.github.onejacklee.library.domain.book.BookId;
 import io.github.onejacklee.library.domain.book.BookRepository;
-import io.github.onejacklee.library.domain.book.BookWithCatalog;
+import io.github.onejacklee.library.domain.book.BookReturned;
 import io.github.onejacklee.library.domain.borrower.BorrowerId;
 import io.github.onejacklee.library.domain.catalogentry.Isbn;
+import io.github.onejacklee.library.infrastructure.outbox.DomainEventOutbox;
 import io.github.onejacklee.library.infrastructure.persistence.entity.BookJpaEntity;
+import io.github.onejacklee.library.infrastructure.persistence.type.UlidColumns;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Repository;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,12 +25,57 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class BookRepositoryImpl implements BookRepository {
 
+    // Rows per JDBC batch; reWriteBatchedInserts folds each batch into multi-row INSERTs on the wire
+    static final int INSERT_BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO books (id, isbn, borrower_id, borrowed_on)
+            VALUES (?, ?, ?, ?)
+            """;
+
+    private static final String BORROW_IF_AVAILABLE_SQL = """
+            UPDATE books
+            SET borrower_id = ?, borrowed_on = ?, version = version + 1
+            WHERE id = ? AND borrower_id IS NULL
+            RETURNING id, isbn, borrower_id, borrowed_on, version
+            """;
+
+    private static final String RETURN_IF_BORROWED_BY_SQL = """
+            UPDATE books
+            SET borrower_id = NULL, borrowed_on = NULL, version = version + 1
+            WHERE id = ? AND borrower_id = ?
+            RETURNING id, isbn, borrower_id, borrowed_on, version
+            """;
+
     private final BookJpaRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final UlidColumns ulidColumns;
+    private final DomainEventOutbox domainEventOutbox;
 
     @Override
     public void save(Book book) {
-        BookJpaEntity entity = toEntity(book);
-        jpaRepository.save(entity);
+        BookJpaEntity entity;
+        if (book.getVersion() == null) {
+            entity = jpaRepository.save(toEntity(book));
+        } else {
+            entity = loadForUpdate(book);
+            entity.setBorrowerId(book.getBorrowerId().map(BorrowerId::value).orElse(null));
+            entity.setBorrowedOn(book.getBorrowedOn().orElse(null));
+        }
+        book.setVersion(entity.getVersion());
+        domainEventOutbox.append(book);
+    }
+
+    @Override
+    public void insertAll(List<Book> books) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, books, INSERT_BATCH_SIZE, (statement, book) -> {
+            statement.setObject(1, ulidColumns.bind(book.getId().value()));
+            statement.setString(2, book.getIsbn().value());
+            statement.setObject(3, book.getBorrowerId().map(id -> ulidColumns.bind(id.value())).orElse(null));
+            statement.setObject(4, book.getBorrowedOn().orElse(null));
+        });
+        books.forEach(book -> book.setVersion(0L));
+        domainEventOutbox.appendAll(books);
     }
 
     @Override
@@ -31,6 +84,24 @@ public class BookRepositoryImpl implements BookRepository {
                 .map(this::toDomain);
     }
 
+    @Override
+    public Optional<Book> borrowIfAvailable(BookId id, BorrowerId borrowerId, LocalDateTime borrowedOn) {
+        Optional<Book> borrowed = jdbcTemplate.query(BORROW_IF_AVAILABLE_SQL, this::mapBookRow,
+                        ulidColumns.bind(borrowerId.value()), borrowedOn, ulidColumns.bind(id.value())).stream()
+                .findFirst();
+        borrowed.ifPresent(book -> domainEventOutbox.append(new BookBorrowed(id, book.getIsbn(), borrowerId)));
+        return borrowed;
+    }
+
+    @Override
+    public Optional<Book> returnIfBorrowedBy(BookId id, BorrowerId borrowerId) {
+        Optional<Book> returned = jdbcTemplate.query(RETURN_IF_BORROWED_BY_SQL, this::mapBookRow,
+                        ulidColumns.bind(id.value()), ulidColumns.bind(borrowerId.value())).stream()
+                .findFirst();
+        returned.ifPresent(book -> domainEventOutbox.append(new BookReturned(id, book.getIsbn(), borrowerId)));
+        return returned;
+    }
+
     @Override
     public List<Book> findAll() {
         return jpaRepository.findAll().stream()
@@ -38,18 +109,11 @@ public class BookRepositoryImpl implements BookRepository {
                 .toList();
     }
 
-    @Override
-    public List<BookWithCatalog> findAllWithCatalog() {
-        return jpaRepository.findAllWithCatalog().stream()
-                .map(row -> {
-                    BookJpaEntity bookEntity = (BookJpaEntity) row[0];
-                    String title = (String) row[1];
-                    String author = (String) row[2];
-
-                    Book book = toDomain(bookEntity);
-                    return BookWithCatalog.from(book, title, author);
-                })
-                .toList();
+    private BookJpaEntity loadForUpdate(Book book) {
+        String id = book.getId().value();
+        return jpaRepository.findById(id)
+                .filter(entity -> entity.getVersion().equals(book.getVersion()))
+                .orElseThrow(() -> new ObjectOptimisticLockingFailureException(BookJpaEntity.class, id));
     }
 
     private BookJpaEntity toEntity(Book book) {
@@ -57,13 +121,14 @@ public class BookRepositoryImpl implements BookRepository {
                 book.getId().value(),
                 book.getIsbn().value(),
                 book.getBorrowerId().map(BorrowerId::value).orElse(null),
-                book.getBorrowedOn().orElse(null)
+                book.getBorrowedOn().orElse(null),
+                book.getVersion()
         );
     }
 
     private Book toDomain(BookJpaEntity entity) {
         BookId bookId = BookId.create(entity.getId());
-        Isbn isbn = Isbn.create(entity.getIsbn());
+        Isbn isbn = Isbn.existing(entity.getIsbn());
         Book book = Book.register(bookId, isbn);
 
         if (entity.getBorrowerId() != null) {
@@ -71,6 +136,25 @@ public class BookRepositoryImpl implements BookRepository {
             book.borrow(borrowerId, entity.getBorrowedOn());
         }
 
+        // Rebuilt from stored state, so the events raised on the way are not new facts
+        book.clearDomainEvents();
+        book.setVersion(entity.getVersion());
+        return book;
+    }
+
+    private Book mapBookRow(ResultSet resultSet, int rowNum) throws SQLException {
+        Book book = Book.register(
+                BookId.create(ulidColumns.read(resultSet, "id")),
+                Isbn.existing(resultSet.getString("isbn"))
+        );
+
+        String borrowerId = ulidColumns.read(resultSet, "borrower_id");
+        if (borrowerId != null) {
+            book.borrow(BorrowerId.create(borrowerId), resultSet.getObject("borrowed_on", LocalDateTime.class));
+        }
+
+        book.clearDomainEvents();
+        book.setVersion(resultSet.getLong("version"));
         return book;
     }
 }
@@ -4,23 +4,90 @@ import io.github.onejacklee.library.domain.borrower.Borrower;
 import io.github.onejacklee.library.domain.borrower.BorrowerId;
 import io.github.onejacklee.library.domain.borrower.BorrowerRepository;
 import io.github.onejacklee.library.domain.borrower.EmailAddress;
+import io.github.onejacklee.library.infrastructure.cache.CacheInvalidationBus;
+import io.github.onejacklee.library.infrastructure.outbox.DomainEventOutbox;
 import io.github.onejacklee.library.infrastructure.persistence.entity.BorrowerJpaEntity;
+import io.github.onejacklee.library.infrastructure.persistence.type.UlidColumns;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 @RequiredArgsConstructor
 public class BorrowerRepositoryImpl implements BorrowerRepository {
 
+    // Rows per INSERT statement, three parameters each, well below PostgreSQL's 65535 bind parameter limit
+    static final int INSERT_BATCH_SIZE = 1000;
+
+    // Unlike a JDBC batch, one multi-row statement can report which of its rows it inserted
+    private static final String INSERT_IF_ABSENT_SQL = """
+            INSERT INTO borrowers (id, name, email_address)
+            VALUES %s
+            ON CONFLICT (email_address) DO NOTHING
+            RETURNING id
+            """;
+
     private final BorrowerJpaRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final UlidColumns ulidColumns;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final DomainEventOutbox domainEventOutbox;
 
     @Override
     public void save(Borrower borrower) {
-        BorrowerJpaEntity entity = toEntity(borrower);
-        jpaRepository.save(entity);
+        BorrowerJpaEntity entity;
+        if (borrower.getVersion() == null) {
+            entity = insert(toEntity(borrower));
+        } else {
+            entity = loadForUpdate(borrower);
+            entity.setName(borrower.getName());
+            entity.setEmailAddress(borrower.getEmailAddress().value());
+        }
+        borrower.setVersion(entity.getVersion());
+        cacheInvalidationBus.publish(CacheInvalidationBus.BORROWERS, borrower.getId().value());
+        domainEventOutbox.append(borrower);
+    }
+
+    @Override
+    public List<Borrower> insertAllIfAbsent(List<Borrower> borrowers) {
+        Set<String> insertedIds = new HashSet<>();
+        for (int from = 0; from < borrowers.size(); from += INSERT_BATCH_SIZE) {
+            List<Borrower> batch = borrowers.subList(from, Math.min(from + INSERT_BATCH_SIZE, borrowers.size()));
+            String values = String.join(", ", Collections.nCopies(batch.size(), "(?, ?, ?)"));
+            Object[] args = new Object[batch.size() * 3];
+            for (int i = 0; i < batch.size(); i++) {
+                Borrower borrower = batch.get(i);
+                args[3 * i] = ulidColumns.bind(borrower.getId().value());
+                args[3 * i + 1] = borrower.getName();
+                args[3 * i + 2] = borrower.getEmailAddress().value();
+            }
+            insertedIds.addAll(jdbcTemplate.query(INSERT_IF_ABSENT_SQL.formatted(values),
+                    (resultSet, rowNum) -> ulidColumns.read(resultSet, "id"), args));
+        }
+
+        List<Borrower> inserted = new ArrayList<>(insertedIds.size());
+        for (Borrower borrower : borrowers) {
+            if (insertedIds.contains(borrower.getId().value())) {
+                borrower.setVersion(0L);
+                inserted.add(borrower);
+            } else {
+                // Never stored, so the registration it raised did not happen
+                borrower.clearDomainEvents();
+            }
+        }
+        domainEventOutbox.appendAll(inserted);
+        return inserted;
     }
 
     @Override
@@ -42,22 +109,52 @@ public class BorrowerRepositoryImpl implements BorrowerRepository {
                 .toList();
     }
 
+    @Override
+    public boolean existsById(BorrowerId id) {
+        return jpaRepository.existsById(id.value());
+    }
+
     @Override
     public boolean existsByEmailAddress(EmailAddress emailAddress) {
         return jpaRepository.existsByEmailAddress(emailAddress.value());
     }
 
+    // Flushed right away, so a taken email address fails here as a DuplicateKeyException rather than at commit
+    private BorrowerJpaEntity insert(BorrowerJpaEntity entity) {
+        try {
+            return jpaRepository.saveAndFlush(entity);
+        } catch (DataIntegrityViolationException e) {
+            if (e.getCause() instanceof ConstraintViolationException violation
+                    && violation.getKind() == ConstraintViolationException.ConstraintKind.UNIQUE) {
+                throw new DuplicateKeyException(e.getMessage(), e);
+            }
+            throw e;
+        }
+    }
+
+    private BorrowerJpaEntity loadForUpdate(Borrower borrower) {
+        String id = borrower.getId().value();
+        return jpaRepository.findById(id)
+                .filter(entity -> entity.getVersion().equals(borrower.getVersion()))
+                .orElseThrow(() -> new ObjectOptimisticLockingFailureException(BorrowerJpaEntity.class, id));
+    }
+
     private BorrowerJpaEntity toEntity(Borrower borrower) {
         return new BorrowerJpaEntity(
                 borrower.getId().value(),
                 borrower.getName(),
-                borrower.getEmailAddress().value()
+                borrower.getEmailAddress().value(),
+                borrower.getVersion()
         );
     }
 
     private Borrower toDomain(BorrowerJpaEntity entity) {
         BorrowerId id = BorrowerId.create(entity.getId());
         EmailAddress email = EmailAddress.create(entity.getEmailAddress());
-        return Borrower.register(id, entity.getName(), email);
+        Borrower borrower = Borrower.register(id, entity.getName(), email);
+        // Rebuilt from stored state, so the registration event is not a new fact
+        borrower.clearDomainEvents();
+        borrower.setVersion(entity.getVersion());
+        return borrower;
     }
 }
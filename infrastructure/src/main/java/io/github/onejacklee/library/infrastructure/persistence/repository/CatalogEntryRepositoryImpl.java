@@ -2,23 +2,165 @@ package io.github.onejacklee.library.infrastructure.persistence.repository;
 
 import io.github.onejacklee.library.domain.catalogentry.CatalogEntry;
 import io.github.onejacklee.library.domain.catalogentry.CatalogEntryRepository;
+import io.github.onejacklee.library.domain.catalogentry.CatalogSearchHit;
+import io.github.onejacklee.library.domain.catalogentry.CatalogSearchHits;
+import io.github.onejacklee.library.domain.catalogentry.CatalogSearchMode;
 import io.github.onejacklee.library.domain.catalogentry.Isbn;
+import io.github.onejacklee.library.infrastructure.cache.CacheInvalidationBus;
+import io.github.onejacklee.library.infrastructure.outbox.DomainEventOutbox;
 import io.github.onejacklee.library.infrastructure.persistence.entity.CatalogEntryJpaEntity;
-import lombok.RequiredArgsConstructor;
+import io.github.onejacklee.library.infrastructure.search.CatalogSearchTopHits;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-@RequiredArgsConstructor
 public class CatalogEntryRepositoryImpl implements CatalogEntryRepository {
 
+    private static final int INSERT_BATCH_SIZE = 500;
+
+    // Upper bound on matches that get ranked. Very broad terms ("the", a common surname) match a large
+    // share of the catalog, and ranking all of them costs over a second on millions of rows. A word matching more
+    // entries than this has its best ones kept by CatalogSearchTopHits. For any other text that matches too much,
+    // the matches with the lowest ISBNs are the ones ranked, so every page ranks the same set, and Postgres finds
+    // them for a broad term by walking the primary key until enough rows match.
+    public static final int MAX_RANKED_MATCHES = 1000;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO catalog_entries (isbn, title, author)
+            VALUES (?, ?, ?)
+            """;
+
+    private static final String FREQUENT_WORD_SQL = """
+            SELECT lexeme
+            FROM catalog_search_frequent_words
+            WHERE query = websearch_to_tsquery('english', ?)
+              AND cutoff_isbn IS NOT NULL
+            """;
+
+    // Every entry ranking at or above the word's cutoff is kept, so these are exactly its best matches
+    private static final String TOP_HITS_SQL = """
+            SELECT t.isbn, c.title, c.author, t.score, FALSE AS partial
+            FROM catalog_search_top_hits t
+            JOIN catalog_entries c ON c.isbn = t.isbn
+            WHERE t.lexeme = ?
+            """;
+
+    // Matches are capped before they are scored, so only the ranked ones pay for it. One match past the cap is
+    // fetched to tell whether any went unranked.
+    private static final String FULL_TEXT_HITS_SQL = """
+            SELECT isbn, title, author, ts_rank_cd(search_vector, query) AS score, matches > ? AS partial
+            FROM (
+                SELECT m.*, row_number() OVER (ORDER BY isbn) AS position, count(*) OVER () AS matches
+                FROM (
+                    SELECT c.isbn, c.title, c.author, c.search_vector, query
+                    FROM catalog_entries c, websearch_to_tsquery('english', ?) query
+                    WHERE c.search_vector @@ query
+                    ORDER BY c.isbn
+                    LIMIT ?
+                ) m
+            ) candidates
+            WHERE position <= ?
+            """;
+
+    // Text made only of stopwords ("the", "of the") matches nothing as words and is similar to almost everything, so
+    // it is not compared at all
+    private static final String SIMILARITY_HITS_SQL = """
+            SELECT isbn, title, author, greatest(word_similarity(?, title), word_similarity(?, author)) AS score,
+                   matches > ? AS partial
+            FROM (
+                SELECT m.*, row_number() OVER (ORDER BY isbn) AS position, count(*) OVER () AS matches
+                FROM (
+                    SELECT isbn, title, author
+                    FROM catalog_entries
+                    WHERE (? <% title OR ? <% author)
+                      AND numnode(websearch_to_tsquery('english', ?)) > 0
+                    ORDER BY isbn
+                    LIMIT ?
+                ) m
+            ) candidates
+            WHERE position <= ?
+            """;
+
+    private static final String SET_LOCAL_STATEMENT_TIMEOUT_SQL = "SELECT set_config('statement_timeout', ?, true)";
+
+    // Scores are computed in the inner query so the outer one can seek past the previous page's last hit
+    private static final String FIRST_PAGE_SQL = """
+            SELECT isbn, title, author, score, partial FROM (%s) hits
+            ORDER BY score DESC, isbn
+            LIMIT ?
+            """;
+
+    private static final String NEXT_PAGE_SQL = """
+            SELECT isbn, title, author, score, partial FROM (%s) hits
+            WHERE score < ? OR (score = ? AND isbn > ?)
+            ORDER BY score DESC, isbn
+            LIMIT ?
+            """;
+
     private final CatalogEntryJpaRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final DomainEventOutbox domainEventOutbox;
+    private final CatalogSearchTopHits topHits;
+    private final Duration similarityTimeout;
+
+    public CatalogEntryRepositoryImpl(
+            CatalogEntryJpaRepository jpaRepository,
+            JdbcTemplate jdbcTemplate,
+            CacheInvalidationBus cacheInvalidationBus,
+            DomainEventOutbox domainEventOutbox,
+            CatalogSearchTopHits topHits,
+            @Value("${library.search.similarity-timeout:250ms}") Duration similarityTimeout) {
+        this.jpaRepository = jpaRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.domainEventOutbox = domainEventOutbox;
+        this.topHits = topHits;
+        this.similarityTimeout = similarityTimeout;
+    }
 
     @Override
     public void save(CatalogEntry catalogEntry) {
-        CatalogEntryJpaEntity entity = toEntity(catalogEntry);
-        jpaRepository.save(entity);
+        CatalogEntryJpaEntity entity;
+        if (catalogEntry.getVersion() == null) {
+            entity = jpaRepository.save(toEntity(catalogEntry));
+        } else {
+            entity = loadForUpdate(catalogEntry);
+            entity.setTitle(catalogEntry.getTitle());
+            entity.setAuthor(catalogEntry.getAuthor());
+        }
+        catalogEntry.setVersion(entity.getVersion());
+        // The search vector is generated by the database, so the row has to be written before it is ranked
+        jpaRepository.flush();
+        topHits.entriesChanged(List.of(catalogEntry.getIsbn().value()));
+        cacheInvalidationBus.publish(CacheInvalidationBus.CATALOG_ENTRIES, catalogEntry.getIsbn().value());
+        domainEventOutbox.append(catalogEntry);
+    }
+
+    @Override
+    public void insertAll(List<CatalogEntry> catalogEntries) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, catalogEntries, INSERT_BATCH_SIZE, (statement, catalogEntry) -> {
+            statement.setString(1, catalogEntry.getIsbn().value());
+            statement.setString(2, catalogEntry.getTitle());
+            statement.setString(3, catalogEntry.getAuthor());
+        });
+        catalogEntries.forEach(catalogEntry -> catalogEntry.setVersion(0L));
+        topHits.entriesChanged(catalogEntries.stream().map(catalogEntry -> catalogEntry.getIsbn().value()).toList());
+        catalogEntries.forEach(catalogEntry ->
+                cacheInvalidationBus.publish(CacheInvalidationBus.CATALOG_ENTRIES, catalogEntry.getIsbn().value()));
+        domainEventOutbox.appendAll(catalogEntries);
     }
 
     @Override
@@ -27,20 +169,122 @@ public class CatalogEntryRepositoryImpl implements CatalogEntryRepository {
                 .map(this::toDomain);
     }
 
+    @Override
+    public List<CatalogEntry> findAllByIsbn(Collection<Isbn> isbns) {
+        if (isbns.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findAllById(isbns.stream().map(Isbn::value).toList()).stream()
+                .map(this::toDomain)
+                .toList();
+    }
+
     @Override
     public boolean existsByIsbn(Isbn isbn) {
         return jpaRepository.existsById(isbn.value());
     }
 
+    @Override
+    @Transactional(readOnly = true, noRollbackFor = QueryTimeoutException.class)
+    public CatalogSearchHits search(String text, CatalogSearchMode mode, int limit) {
+        limitDuration(mode);
+        Optional<String> frequentWord = frequentWord(text, mode);
+        List<Object> args = new ArrayList<>(hitsArgs(text, mode, frequentWord));
+        args.add(limit);
+        return jdbcTemplate.query(FIRST_PAGE_SQL.formatted(hitsSql(mode, frequentWord)), this::extractSearchHits,
+                args.toArray());
+    }
+
+    @Override
+    @Transactional(readOnly = true, noRollbackFor = QueryTimeoutException.class)
+    public CatalogSearchHits searchAfter(String text, CatalogSearchMode mode, float afterScore, Isbn afterIsbn,
+                                         int limit) {
+        limitDuration(mode);
+        Optional<String> frequentWord = frequentWord(text, mode);
+        List<Object> args = new ArrayList<>(hitsArgs(text, mode, frequentWord));
+        args.addAll(List.of(afterScore, afterScore, afterIsbn.value(), limit));
+        return jdbcTemplate.query(NEXT_PAGE_SQL.formatted(hitsSql(mode, frequentWord)), this::extractSearchHits,
+                args.toArray());
+    }
+
+    // Similarity search has no index that yields the lowest ISBNs first, so a short or common fragment compares
+    // millions of titles. The timeout holds until the surrounding transaction ends. A cancelled search leaves the
+    // transaction unusable but not marked for rollback, so a caller can give up on it and still return.
+    private void limitDuration(CatalogSearchMode mode) {
+        if (mode == CatalogSearchMode.SIMILARITY) {
+            jdbcTemplate.queryForObject(SET_LOCAL_STATEMENT_TIMEOUT_SQL, String.class,
+                    similarityTimeout.toMillis() + "ms");
+        }
+    }
+
+    // Full-text search for a single frequent word, once its best matches have been ranked
+    private Optional<String> frequentWord(String text, CatalogSearchMode mode) {
+        if (mode != CatalogSearchMode.FULL_TEXT) {
+            return Optional.empty();
+        }
+        return jdbcTemplate.queryForList(FREQUENT_WORD_SQL, String.class, text).stream().findFirst();
+    }
+
+    private static String hitsSql(CatalogSearchMode mode, Optional<String> frequentWord) {
+        if (frequentWord.isPresent()) {
+            return TOP_HITS_SQL;
+        }
+        return switch (mode) {
+            case FULL_TEXT -> FULL_TEXT_HITS_SQL;
+            case SIMILARITY -> SIMILARITY_HITS_SQL;
+        };
+    }
+
+    private static List<Object> hitsArgs(String text, CatalogSearchMode mode, Optional<String> frequentWord) {
+        if (frequentWord.isPresent()) {
+            return List.of(frequentWord.get());
+        }
+        return switch (mode) {
+            case FULL_TEXT -> List.of(MAX_RANKED_MATCHES, text, MAX_RANKED_MATCHES + 1, MAX_RANKED_MATCHES);
+            case SIMILARITY -> List.of(text, text, MAX_RANKED_MATCHES, text, text, text, MAX_RANKED_MATCHES + 1,
+                    MAX_RANKED_MATCHES);
+        };
+    }
+
+    // Every row of a page carries the same partial flag
+    private CatalogSearchHits extractSearchHits(ResultSet resultSet) throws SQLException {
+        List<CatalogSearchHit> hits = new ArrayList<>();
+        boolean partial = false;
+        while (resultSet.next()) {
+            hits.add(new CatalogSearchHit(
+                    Isbn.existing(resultSet.getString("isbn")),
+                    resultSet.getString("title"),
+                    resultSet.getString("author"),
+                    resultSet.getFloat("score")
+            ));
+            partial = resultSet.getBoolean("partial");
+        }
+        return new CatalogSearchHits(hits, partial);
+    }
+
+    // The managed entity is updated in place; it is only read if this transaction has not loaded it yet
+    private CatalogEntryJpaEntity loadForUpdate(CatalogEntry catalogEntry) {
+        String isbn = catalogEntry.getIsbn().value();
+        return jpaRepository.findById(isbn)
+                .filter(entity -> entity.getVersion().equals(catalogEntry.getVersion()))
+                .orElseThrow(() -> new ObjectOptimisticLockingFailureException(CatalogEntryJpaEntity.class, isbn));
+    }
+
     private CatalogEntryJpaEntity toEntity(CatalogEntry catalogEntry) {
         return new CatalogEntryJpaEntity(
                 catalogEntry.getIsbn().value(),
                 catalogEntry.getTitle(),
-                catalogEntry.getAuthor()
+                catalogEntry.getAuthor(),
+                catalogEntry.getVersion()
         );
     }
 
     private CatalogEntry toDomain(CatalogEntryJpaEntity entity) {
-        return CatalogEntry.create(entity.getIsbn(), entity.getTitle(), entity.getAuthor());
+        CatalogEntry catalogEntry = CatalogEntry.create(Isbn.existing(entity.getIsbn()), entity.getTitle(),
+                entity.getAuthor());
+        // Rebuilt from stored state, so the creation event is not a new fact
+        catalogEntry.clearDomainEvents();
+        catalogEntry.setVersion(entity.getVersion());
+        return catalogEntry;
     }
 }
@@ -0,0 +1,32 @@
+package io.github.onejacklee.library.infrastructure.persistence.type;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.UUID;
+
+/**
+ * Binds and reads ULID key columns for hand-written SQL, matching whichever storage the JPA mapping uses:
+ * {@code VARCHAR(26)} by default, {@code uuid} when {@code library.persistence.compact-ids} is enabled.
+ */
+@Component
+public class UlidColumns {
+
+    private final boolean compact;
+
+    public UlidColumns(@Value("${library.persistence.compact-ids:false}") boolean compact) {
+        this.compact = compact;
+    }
+
+    public Object bind(String ulid) {
+        return compact ? UlidUuidType.toUuid(ulid) : ulid;
+    }
+
+    public String read(ResultSet resultSet, String column) throws SQLException {
+        return compact
+                ? UlidUuidType.fromUuid(resultSet.getObject(column, UUID.class))
+                : resultSet.getString(column);
+    }
+}
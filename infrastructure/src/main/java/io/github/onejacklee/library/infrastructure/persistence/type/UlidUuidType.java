@@ -0,0 +1,95 @@
+package io.github.onejacklee.library.infrastructure.persistence.type;
+
+import com.github.f4b6a3.ulid.Ulid;
+import org.hibernate.type.SqlTypes;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.usertype.EnhancedUserType;
+
+import java.io.Serializable;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Stores a ULID string as a 16-byte PostgreSQL {@code uuid}. ULIDs are big-endian with the timestamp
+ * first, so {@code uuid} ordering matches ULID string ordering. Applied through
+ * {@code META-INF/compact-ids-orm.xml} when the {@code compact-ids} profile is active.
+ */
+public class UlidUuidType implements EnhancedUserType<String> {
+
+    public static UUID toUuid(String ulid) {
+        return ulid == null ? null : Ulid.from(ulid).toUuid();
+    }
+
+    public static String fromUuid(UUID uuid) {
+        return uuid == null ? null : Ulid.from(uuid).toString();
+    }
+
+    @Override
+    public int getSqlType() {
+        return SqlTypes.UUID;
+    }
+
+    @Override
+    public Class<String> returnedClass() {
+        return String.class;
+    }
+
+    @Override
+    public boolean equals(String x, String y) {
+        return Objects.equals(x, y);
+    }
+
+    @Override
+    public int hashCode(String x) {
+        return Objects.hashCode(x);
+    }
+
+    @Override
+    public String nullSafeGet(ResultSet rs, int position, WrapperOptions options) throws SQLException {
+        return fromUuid(rs.getObject(position, UUID.class));
+    }
+
+    @Override
+    public void nullSafeSet(PreparedStatement st, String value, int position, WrapperOptions options)
+            throws SQLException {
+        st.setObject(position, toUuid(value));
+    }
+
+    @Override
+    public String deepCopy(String value) {
+        return value;
+    }
+
+    @Override
+    public boolean isMutable() {
+        return false;
+    }
+
+    @Override
+    public Serializable disassemble(String value) {
+        return value;
+    }
+
+    @Override
+    public String assemble(Serializable cached, Object owner) {
+        return (String) cached;
+    }
+
+    @Override
+    public String toSqlLiteral(String value) {
+        return "'" + toUuid(value) + "'";
+    }
+
+    @Override
+    public String toString(String value) {
+        return value;
+    }
+
+    @Override
+    public String fromStringValue(CharSequence sequence) {
+        return sequence.toString();
+    }
+}
@@ -0,0 +1,223 @@
+package io.github.onejacklee.library.infrastructure.search;
+
+import io.github.onejacklee.library.infrastructure.persistence.repository.CatalogEntryRepositoryImpl;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the best-ranked catalog entries for every word that matches more entries than a search ranks, so a
+ * one-word search for it returns the best matches rather than the ones with the lowest ISBNs. Words are counted
+ * and their best entries ranked in the background; writers keep the kept entries current in their own transaction.
+ * <p>
+ * Ranking a word replaces its entries and moves its cutoff, so it holds an advisory lock that writers take shared:
+ * a change is either seen by the ranking or applied against the new cutoff, never lost in between.
+ */
+@Slf4j
+@Component
+public class CatalogSearchTopHits implements SmartLifecycle {
+
+    // Kept entries of a ranked word, outside of which it is ranked again
+    private static final int RANKED_WORD_HITS_MIN = CatalogEntryRepositoryImpl.MAX_RANKED_MATCHES;
+    private static final int RANKED_WORD_HITS_MAX = 2 * CatalogEntryRepositoryImpl.MAX_RANKED_MATCHES;
+
+    private static final String LOCK_SQL = "SELECT pg_advisory_xact_lock(hashtext('catalog_search_top_hits'))";
+    private static final String SHARED_LOCK_SQL =
+            "SELECT pg_advisory_xact_lock_shared(hashtext('catalog_search_top_hits'))";
+
+    private static final String COUNT_WORDS_SQL = """
+            SELECT word FROM ts_stat('SELECT search_vector FROM catalog_entries') WHERE ndoc > ?
+            """;
+
+    // A lexeme is quoted for tsquery input, so it is taken as one word whatever it contains
+    private static final String ADD_WORDS_SQL = """
+            INSERT INTO catalog_search_frequent_words (lexeme, query)
+            SELECT lexeme, ('''' || replace(replace(lexeme, '\\', '\\\\'), '''', '''''') || '''')::tsquery
+            FROM unnest(?::text[]) lexeme
+            ON CONFLICT (lexeme) DO NOTHING
+            """;
+
+    private static final String REMOVE_WORDS_SQL = """
+            DELETE FROM catalog_search_frequent_words WHERE lexeme <> ALL(?::text[])
+            """;
+
+    private static final String STALE_WORDS_SQL = """
+            SELECT f.lexeme
+            FROM catalog_search_frequent_words f
+            LEFT JOIN (SELECT lexeme, count(*) AS hits FROM catalog_search_top_hits GROUP BY lexeme) t
+                ON t.lexeme = f.lexeme
+            WHERE (f.cutoff_isbn IS NULL OR coalesce(t.hits, 0) NOT BETWEEN ? AND ?)
+            """;
+
+    private static final String CLEAR_WORD_SQL = "DELETE FROM catalog_search_top_hits WHERE lexeme = ?";
+
+    private static final String RANK_WORD_SQL = """
+            INSERT INTO catalog_search_top_hits (lexeme, isbn, score)
+            SELECT f.lexeme, c.isbn, ts_rank_cd(c.search_vector, f.query) AS score
+            FROM catalog_search_frequent_words f
+            JOIN catalog_entries c ON c.search_vector @@ f.query
+            WHERE f.lexeme = ?
+            ORDER BY score DESC, c.isbn
+            LIMIT ?
+            """;
+
+    private static final String SET_CUTOFF_SQL = """
+            UPDATE catalog_search_frequent_words f
+            SET (cutoff_score, cutoff_isbn) = (
+                SELECT t.score, t.isbn
+                FROM catalog_search_top_hits t
+                WHERE t.lexeme = f.lexeme
+                ORDER BY t.score, t.isbn DESC
+                LIMIT 1
+            )
+            WHERE f.lexeme = ?
+            """;
+
+    private static final String FORGET_ENTRIES_SQL = "DELETE FROM catalog_search_top_hits WHERE isbn IN (%s)";
+
+    // Only entries ranking at or above a word's cutoff are kept; the rest would not have made its ranking either
+    private static final String KEEP_ENTRIES_SQL = """
+            INSERT INTO catalog_search_top_hits (lexeme, isbn, score)
+            SELECT lexeme, isbn, score
+            FROM (
+                SELECT f.lexeme, c.isbn, ts_rank_cd(c.search_vector, f.query) AS score, f.cutoff_score, f.cutoff_isbn
+                FROM catalog_entries c
+                CROSS JOIN LATERAL unnest(tsvector_to_array(c.search_vector)) word(lexeme)
+                JOIN catalog_search_frequent_words f ON f.lexeme = word.lexeme
+                WHERE c.isbn IN (%s)
+                  AND f.cutoff_isbn IS NOT NULL
+            ) ranked
+            WHERE score > cutoff_score OR (score = cutoff_score AND isbn <= cutoff_isbn)
+            """;
+
+    private static final String ISBN_ARRAY_SQL = "SELECT unnest(?::text[])";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration refreshInterval;
+    private final Object lifecycleLock = new Object();
+
+    private ScheduledExecutorService executor;
+
+    public CatalogSearchTopHits(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${library.search.top-hits.refresh-interval:1h}") Duration refreshInterval) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.refreshInterval = refreshInterval;
+    }
+
+    /**
+     * Brings the kept entries up to date with changes to the given catalog entries. Must run in the transaction
+     * that changed them, after the change has been flushed.
+     */
+    public void entriesChanged(Collection<String> isbns) {
+        if (isbns.isEmpty()) {
+            return;
+        }
+        String[] isbnArray = isbns.toArray(String[]::new);
+        jdbcTemplate.execute(SHARED_LOCK_SQL);
+        jdbcTemplate.update(FORGET_ENTRIES_SQL.formatted(ISBN_ARRAY_SQL), (Object) isbnArray);
+        jdbcTemplate.update(KEEP_ENTRIES_SQL.formatted(ISBN_ARRAY_SQL), (Object) isbnArray);
+    }
+
+    /**
+     * Same as {@link #entriesChanged(Collection)}, for the ISBNs returned by a query; meant for changes made with
+     * set-based statements.
+     */
+    public void entriesChanged(String isbnQuery) {
+        jdbcTemplate.execute(SHARED_LOCK_SQL);
+        jdbcTemplate.update(FORGET_ENTRIES_SQL.formatted(isbnQuery));
+        jdbcTemplate.update(KEEP_ENTRIES_SQL.formatted(isbnQuery));
+    }
+
+    /**
+     * Finds the words that match more entries than a search ranks, then ranks each new or stale one in its own
+     * transaction. Counting reads the whole catalog without holding the lock; writers wait only while a word is
+     * ranked.
+     */
+    public void refresh() {
+        long started = System.nanoTime();
+        String[] words = jdbcTemplate.queryForList(COUNT_WORDS_SQL, String.class,
+                CatalogEntryRepositoryImpl.MAX_RANKED_MATCHES).toArray(String[]::new);
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.execute(LOCK_SQL);
+            jdbcTemplate.update(REMOVE_WORDS_SQL, (Object) words);
+            jdbcTemplate.update(ADD_WORDS_SQL, (Object) words);
+        });
+
+        List<String> stale = jdbcTemplate.queryForList(STALE_WORDS_SQL, String.class, RANKED_WORD_HITS_MIN,
+                RANKED_WORD_HITS_MAX);
+        stale.forEach(this::rank);
+        log.info("Catalog search ranked {} of {} frequent words in {} ms", stale.size(), words.length,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    // Another node may have ranked the word while this one waited for the lock
+    private void rank(String word) {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.execute(LOCK_SQL);
+            if (jdbcTemplate.queryForList(STALE_WORDS_SQL + " AND f.lexeme = ?", String.class, RANKED_WORD_HITS_MIN,
+                    RANKED_WORD_HITS_MAX, word).isEmpty()) {
+                return;
+            }
+            jdbcTemplate.update(CLEAR_WORD_SQL, word);
+            jdbcTemplate.update(RANK_WORD_SQL, word, CatalogEntryRepositoryImpl.MAX_RANKED_MATCHES);
+            jdbcTemplate.update(SET_CUTOFF_SQL, word);
+        });
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.warn("Catalog search top hits refresh failed, keeping the current ones", e);
+        }
+    }
+
+    // A zero interval leaves refreshing to the caller
+    @Override
+    public void start() {
+        synchronized (lifecycleLock) {
+            if (refreshInterval.isZero() || executor != null) {
+                return;
+            }
+            executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "catalog-search-top-hits");
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.scheduleWithFixedDelay(this::refreshQuietly, 0, refreshInterval.toMillis(),
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public void stop() {
+        synchronized (lifecycleLock) {
+            if (executor != null) {
+                executor.shutdownNow();
+                executor = null;
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        synchronized (lifecycleLock) {
+            return executor != null;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+-- V3__Domain_event_outbox.sql
+-- Domain events written in the same transaction as the aggregate changes that raised them
+
+CREATE TABLE domain_event_outbox (
+    id BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    -- Relays read in (transaction_id, id) order and only past transactions that are no longer running,
+    -- so a transaction that commits late cannot slip in behind a relay's position
+    transaction_id XID8 NOT NULL DEFAULT pg_current_xact_id(),
+    event_type VARCHAR(255) NOT NULL,
+    payload JSONB NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT clock_timestamp()
+);
+
+CREATE INDEX idx_domain_event_outbox_position ON domain_event_outbox(transaction_id, id);
+CREATE INDEX idx_domain_event_outbox_created_at ON domain_event_outbox(created_at);
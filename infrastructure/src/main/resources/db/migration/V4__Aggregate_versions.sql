@@ -0,0 +1,6 @@
+-- V4__Aggregate_versions.sql
+-- Version columns for optimistic locking; every update of an aggregate increments its row's version
+
+ALTER TABLE catalog_entries ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE borrowers ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE books ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,24 @@
+-- V8__Catalog_search_top_hits.sql
+-- Search ranks at most 1000 matches per query, which for a word matching more entries than that means ranking
+-- the ones with the lowest ISBNs rather than the best ones. For those frequent words the best-ranked entries are
+-- kept here instead, so a one-word search reads its pages straight off an index.
+
+-- The cutoff is the last of the best entries when the word was last ranked; it is null until then. Every entry
+-- containing the word that ranks at or above the cutoff is in catalog_search_top_hits.
+CREATE TABLE catalog_search_frequent_words (
+    lexeme TEXT PRIMARY KEY,
+    query TSQUERY NOT NULL UNIQUE,
+    cutoff_score REAL,
+    cutoff_isbn VARCHAR(13)
+);
+
+CREATE TABLE catalog_search_top_hits (
+    lexeme TEXT NOT NULL REFERENCES catalog_search_frequent_words(lexeme) ON DELETE CASCADE,
+    isbn VARCHAR(13) NOT NULL REFERENCES catalog_entries(isbn) ON DELETE CASCADE,
+    score REAL NOT NULL
+);
+
+-- There is one row per word and entry, since an entry's rows are always deleted before it is ranked again. A key
+-- enforcing that would take another index as large as these two, on a table about two thirds the size of the catalog.
+CREATE INDEX idx_catalog_search_top_hits_rank ON catalog_search_top_hits (lexeme, score DESC, isbn);
+CREATE INDEX idx_catalog_search_top_hits_isbn ON catalog_search_top_hits (isbn);
@@ -0,0 +1,23 @@
+package io.github.onejacklee.library.infrastructure;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+
+/**
+ * Application and infrastructure beans for {@code @SpringBootTest} integration tests in this module.
+ * The actuator is not on this module's classpath, so a simple meter registry stands in for it.
+ */
+@SpringBootConfiguration
+@EnableAutoConfiguration
+@ComponentScan("io.github.onejacklee.library")
+public class InfrastructureTestApplication {
+
+    @Bean
+    MeterRegistry meterRegistry() {
+        return new SimpleMeterRegistry();
+    }
+}
@@ -0,0 +1,172 @@
+package io.github.onejacklee.library.infrastructure.autocomplete;
+
+import io.github.onejacklee.library.application.catalogentry.CatalogSuggestionDto;
+import io.github.onejacklee.library.domain.catalogentry.CatalogEntryChanged;
+import io.github.onejacklee.library.domain.catalogentry.Isbn;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("InMemoryCatalogAutocompleteIndex")
+class InMemoryCatalogAutocompleteIndexTest {
+
+    private static final String CLEAN_CODE = "9780132350884";
+    private static final String EFFECTIVE_JAVA = "9780134685991";
+    private static final String DOMAIN_DRIVEN_DESIGN = "9780321125217";
+    private static final String CLEAN_ARCHITECTURE = "9780134494166";
+    private static final String MARTIN_EDEN = "9780140187724";
+
+    private final List<AutocompleteEntry> catalog = new ArrayList<>();
+    private InMemoryCatalogAutocompleteIndex index;
+
+    @BeforeEach
+    void setUp() {
+        catalog.add(new AutocompleteEntry(CLEAN_CODE, "Clean Code", "Robert C. Martin"));
+        catalog.add(new AutocompleteEntry(EFFECTIVE_JAVA, "Effective Java", "Joshua Bloch"));
+        catalog.add(new AutocompleteEntry(DOMAIN_DRIVEN_DESIGN, "Domain-Driven Design", "Eric Evans"));
+        catalog.add(new AutocompleteEntry(CLEAN_ARCHITECTURE, "Clean Architecture", "Robert C. Martin"));
+        catalog.add(new AutocompleteEntry(MARTIN_EDEN, "Martin Eden", "Jack London"));
+        index = new InMemoryCatalogAutocompleteIndex(() -> List.copyOf(catalog), Duration.ofHours(1));
+        index.reload();
+    }
+
+    private List<String> suggestedIsbns(String text, int limit) {
+        return index.suggest(text, limit).stream().map(CatalogSuggestionDto::isbn).toList();
+    }
+
+    private static CatalogEntryChanged changed(String isbn, String title, String author) {
+        return new CatalogEntryChanged(Isbn.create(isbn), title, author);
+    }
+
+    @Nested
+    @DisplayName("suggest")
+    class Suggest {
+
+        @Test
+        @DisplayName("should match title and author words by prefix in title order")
+        void shouldMatchWordsByPrefixInTitleOrder() {
+            assertThat(suggestedIsbns("mart", 10))
+                    .containsExactly(CLEAN_ARCHITECTURE, CLEAN_CODE, MARTIN_EDEN);
+        }
+
+        @Test
+        @DisplayName("should ignore case and punctuation")
+        void shouldIgnoreCaseAndPunctuation() {
+            assertThat(suggestedIsbns("DRIVEN", 10)).containsExactly(DOMAIN_DRIVEN_DESIGN);
+            assertThat(suggestedIsbns("domain-dri", 10)).containsExactly(DOMAIN_DRIVEN_DESIGN);
+        }
+
+        @Test
+        @DisplayName("should require every word to match")
+        void shouldRequireEveryWordToMatch() {
+            assertThat(suggestedIsbns("clean rob", 10)).containsExactly(CLEAN_ARCHITECTURE, CLEAN_CODE);
+            assertThat(suggestedIsbns("clean java", 10)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should return at most the limit")
+        void shouldReturnAtMostLimit() {
+            assertThat(suggestedIsbns("c", 1)).containsExactly(CLEAN_ARCHITECTURE);
+        }
+
+        @Test
+        @DisplayName("should return nothing for text without words")
+        void shouldReturnNothingForTextWithoutWords() {
+            assertThat(suggestedIsbns("--", 10)).isEmpty();
+            assertThat(suggestedIsbns("zzz", 10)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should match the last word in the dictionary")
+        void shouldMatchLastWordInDictionary() {
+            catalog.clear();
+            catalog.add(new AutocompleteEntry(CLEAN_CODE, "Clean Code", "Robert Martin"));
+            catalog.add(new AutocompleteEntry(DOMAIN_DRIVEN_DESIGN, "Domain Driven Design", "Eric Evans"));
+            index.reload();
+
+            assertThat(suggestedIsbns("rob", 10)).containsExactly(CLEAN_CODE);
+        }
+
+        @Test
+        @DisplayName("should return title and author with each ISBN")
+        void shouldReturnTitleAndAuthor() {
+            assertThat(index.suggest("effective", 10))
+                    .containsExactly(new CatalogSuggestionDto(EFFECTIVE_JAVA, "Effective Java", "Joshua Bloch"));
+        }
+    }
+
+    @Nested
+    @DisplayName("changes")
+    class Changes {
+
+        @Test
+        @DisplayName("should suggest new entries immediately")
+        void shouldSuggestNewEntries() {
+            index.on(changed("9780134757599", "Refactoring", "Martin Fowler"));
+
+            assertThat(suggestedIsbns("mart", 10))
+                    .containsExactly(CLEAN_ARCHITECTURE, CLEAN_CODE, MARTIN_EDEN, "9780134757599");
+        }
+
+        @Test
+        @DisplayName("should replace the indexed words of updated entries")
+        void shouldReplaceWordsOfUpdatedEntries() {
+            index.on(changed(CLEAN_CODE, "A Handbook of Agile Software Craftsmanship", "Robert C. Martin"));
+
+            assertThat(suggestedIsbns("clean", 10)).containsExactly(CLEAN_ARCHITECTURE);
+            assertThat(suggestedIsbns("mart", 10)).containsExactly(CLEAN_CODE, CLEAN_ARCHITECTURE, MARTIN_EDEN);
+        }
+
+        @Test
+        @DisplayName("should keep changes after compaction")
+        void shouldKeepChangesAfterCompaction() {
+            index.on(changed(CLEAN_CODE, "A Handbook of Agile Software Craftsmanship", "Robert C. Martin"));
+            index.on(changed("9780134757599", "Refactoring", "Martin Fowler"));
+
+            index.compact();
+
+            assertThat(suggestedIsbns("clean", 10)).containsExactly(CLEAN_ARCHITECTURE);
+            assertThat(suggestedIsbns("refac", 10)).containsExactly("9780134757599");
+        }
+
+        @Test
+        @DisplayName("should serve reloaded entries and later changes")
+        void shouldServeReloadedEntriesAndLaterChanges() {
+            index.on(changed("9780134757599", "Refactoring", "Martin Fowler"));
+            catalog.add(new AutocompleteEntry("9780134757599", "Refactoring", "Martin Fowler"));
+            index.reload();
+            index.on(changed(EFFECTIVE_JAVA, "Effective Java, Third Edition", "Joshua Bloch"));
+
+            assertThat(suggestedIsbns("refac", 10)).containsExactly("9780134757599");
+            assertThat(suggestedIsbns("third", 10)).containsExactly(EFFECTIVE_JAVA);
+            assertThat(suggestedIsbns("java", 10)).containsExactly(EFFECTIVE_JAVA);
+        }
+    }
+
+    @Nested
+    @DisplayName("metrics")
+    class Metrics {
+
+        @Test
+        @DisplayName("should report entries, terms and estimated memory")
+        void shouldReportSizeAndMemory() {
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            index.bindTo(registry);
+
+            assertThat(registry.get(InMemoryCatalogAutocompleteIndex.ENTRIES_METER_NAME).gauge().value())
+                    .isEqualTo(5);
+            assertThat(registry.get(InMemoryCatalogAutocompleteIndex.TERMS_METER_NAME).gauge().value())
+                    .isEqualTo(18);
+            assertThat(registry.get(InMemoryCatalogAutocompleteIndex.MEMORY_METER_NAME).gauge().value())
+                    .isGreaterThan(0);
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package io.github.onejacklee.library.infrastructure.availability;
+
+import io.github.onejacklee.library.application.catalogentry.AvailabilitySummary;
+import io.github.onejacklee.library.domain.book.BookBorrowed;
+import io.github.onejacklee.library.domain.book.BookId;
+import io.github.onejacklee.library.domain.book.BookRegistered;
+import io.github.onejacklee.library.domain.book.BookReturned;
+import io.github.onejacklee.library.domain.borrower.BorrowerId;
+import io.github.onejacklee.library.domain.catalogentry.Isbn;
+import io.github.onejacklee.library.infrastructure.availability.InMemoryAvailabilitySummaries.Recount;
+import io.github.onejacklee.library.infrastructure.outbox.OutboxPosition;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("InMemoryAvailabilitySummaries")
+class InMemoryAvailabilitySummariesTest {
+
+    private static final Isbn CLEAN_CODE = Isbn.create("9780132350884");
+    private static final Isbn EFFECTIVE_JAVA = Isbn.create("9780134685991");
+    private static final BookId BOOK_ID = BookId.create("01ARZ3NDEKTSV4RRFFQ69G5FAV");
+    private static final BorrowerId BORROWER_ID = BorrowerId.create("01ARZ3NDEKTSV4RRFFQ69G5FAW");
+
+    private static final OutboxPosition POSITION = new OutboxPosition("1000", 7);
+
+    private final Map<String, Long> books = new HashMap<>();
+    private Supplier<Recount> counter = () -> new Recount(Map.copyOf(books), List.of());
+    private final List<OutboxPosition> countedAfter = new ArrayList<>();
+    private InMemoryAvailabilitySummaries summaries;
+
+    @BeforeEach
+    void setUp() {
+        books.put(CLEAN_CODE.value(), InMemoryAvailabilitySummaries.pack(3, 2));
+        summaries = new InMemoryAvailabilitySummaries(
+                task -> {
+                    task.run();
+                    return POSITION;
+                },
+                position -> {
+                    countedAfter.add(position);
+                    return counter.get();
+                },
+                Duration.ofMinutes(5));
+        summaries.reconcile();
+    }
+
+    private static BookRegistered registered(Isbn isbn) {
+        return new BookRegistered(BOOK_ID, isbn);
+    }
+
+    @Nested
+    @DisplayName("findByIsbn")
+    class FindByIsbn {
+
+        @Test
+        @DisplayName("should return the loaded counts")
+        void shouldReturnLoadedCounts() {
+            assertThat(summaries.findByIsbn(CLEAN_CODE)).isEqualTo(new AvailabilitySummary(3, 2));
+        }
+
+        @Test
+        @DisplayName("should return no copies for an unknown ISBN")
+        void shouldReturnNoCopiesForUnknownIsbn() {
+            assertThat(summaries.findByIsbn(EFFECTIVE_JAVA)).isEqualTo(AvailabilitySummary.NONE);
+        }
+    }
+
+    @Nested
+    @DisplayName("events")
+    class Events {
+
+        @Test
+        @DisplayName("should count a registered copy as available")
+        void shouldCountRegisteredCopy() {
+            summaries.on(registered(EFFECTIVE_JAVA));
+            summaries.on(registered(CLEAN_CODE));
+
+            assertThat(summaries.findByIsbn(EFFECTIVE_JAVA)).isEqualTo(new AvailabilitySummary(1, 1));
+            assertThat(summaries.findByIsbn(CLEAN_CODE)).isEqualTo(new AvailabilitySummary(4, 3));
+        }
+
+        @Test
+        @DisplayName("should track borrowed and returned copies")
+        void shouldTrackBorrowedAndReturnedCopies() {
+            summaries.on(new BookBorrowed(BOOK_ID, CLEAN_CODE, BORROWER_ID));
+            summaries.on(new BookBorrowed(BOOK_ID, CLEAN_CODE, BORROWER_ID));
+            assertThat(summaries.findByIsbn(CLEAN_CODE)).isEqualTo(new AvailabilitySummary(3, 0));
+
+            summaries.on(new BookReturned(BOOK_ID, CLEAN_CODE, BORROWER_ID));
+            assertThat(summaries.findByIsbn(CLEAN_CODE)).isEqualTo(new AvailabilitySummary(3, 1));
+        }
+
+        @Test
+        @DisplayName("should not report negative counts for events applied out of order")
+        void shouldNotReportNegativeCounts() {
+            summaries.on(new BookBorrowed(BOOK_ID, EFFECTIVE_JAVA, BORROWER_ID));
+            assertThat(summaries.findByIsbn(EFFECTIVE_JAVA)).isEqualTo(new AvailabilitySummary(0, 0));
+
+            summaries.on(registered(EFFECTIVE_JAVA));
+            assertThat(summaries.findByIsbn(EFFECTIVE_JAVA)).isEqualTo(new AvailabilitySummary(1, 0));
+        }
+    }
+
+    @Nested
+    @DisplayName("reconcile")
+    class Reconcile {
+
+        @Test
+        @DisplayName("should replace drifted counts with the counted ones")
+        void shouldReplaceDriftedCounts() {
+            summaries.on(registered(CLEAN_CODE));
+            books.put(EFFECTIVE_JAVA.value(), InMemoryAvailabilitySummaries.pack(2, 1));
+
+            summaries.reconcile();
+
+            assertThat(summaries.findByIsbn(CLEAN_CODE)).isEqualTo(new AvailabilitySummary(3, 2));
+            assertThat(summaries.findByIsbn(EFFECTIVE_JAVA)).isEqualTo(new AvailabilitySummary(2, 1));
+        }
+
+        @Test
+        @DisplayName("should keep changes applied while counting")
+        void shouldKeepChangesAppliedWhileCounting() {
+            counter = () -> {
+                Recount recount = new Recount(Map.copyOf(books), List.of());
+                summaries.on(new BookBorrowed(BOOK_ID, CLEAN_CODE, BORROWER_ID));
+                return recount;
+            };
+
+            summaries.reconcile();
+
+            assertThat(summaries.findByIsbn(CLEAN_CODE)).isEqualTo(new AvailabilitySummary(3, 1));
+        }
+
+        @Test
+        @DisplayName("should apply each relayed event once when the count already includes it")
+        void shouldApplyEventsOnceWhenCountAlreadyIncludesThem() {
+            BookBorrowed dispatchedWhileCounting = new BookBorrowed(BOOK_ID, CLEAN_CODE, BORROWER_ID);
+            BookBorrowed dispatchedAfterCounting = new BookBorrowed(BOOK_ID, CLEAN_CODE, BORROWER_ID);
+            BookReturned committedAfterCounting = new BookReturned(BOOK_ID, CLEAN_CODE, BORROWER_ID);
+            // Both borrows were committed before the count and are in it, but neither was dispatched yet
+            books.put(CLEAN_CODE.value(), InMemoryAvailabilitySummaries.pack(3, 0));
+            counter = () -> {
+                Recount recount = new Recount(Map.copyOf(books),
+                        List.of(dispatchedWhileCounting, dispatchedAfterCounting));
+                summaries.on(dispatchedWhileCounting);
+                summaries.on(committedAfterCounting);
+                return recount;
+            };
+
+            summaries.reconcile();
+            summaries.on(dispatchedAfterCounting);
+
+            assertThat(countedAfter).containsOnly(POSITION);
+            assertThat(summaries.findByIsbn(CLEAN_CODE)).isEqualTo(new AvailabilitySummary(3, 1));
+        }
+
+        @Test
+        @DisplayName("should keep the current counts when counting fails")
+        void shouldKeepCurrentCountsWhenCountingFails() {
+            counter = () -> {
+                throw new IllegalStateException("database unavailable");
+            };
+
+            assertThatThrownBy(summaries::reconcile).isInstanceOf(IllegalStateException.class);
+            summaries.on(registered(CLEAN_CODE));
+
+            assertThat(summaries.findByIsbn(CLEAN_CODE)).isEqualTo(new AvailabilitySummary(4, 3));
+        }
+    }
+
+    @Nested
+    @DisplayName("packing")
+    class Packing {
+
+        @Test
+        @DisplayName("should unpack summed deltas including negative available counts")
+        void shouldUnpackSummedDeltas() {
+            long packed = InMemoryAvailabilitySummaries.pack(2, 0) + InMemoryAvailabilitySummaries.pack(0, -1);
+
+            assertThat(InMemoryAvailabilitySummaries.totalOf(packed)).isEqualTo(2);
+            assertThat(InMemoryAvailabilitySummaries.availableOf(packed)).isEqualTo(-1);
+        }
+    }
+
+    @Nested
+    @DisplayName("metrics")
+    class Metrics {
+
+        @Test
+        @DisplayName("should report tracked ISBNs and corrected counts")
+        void shouldReportIsbnsAndCorrections() {
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            summaries.bindTo(registry);
+
+            summaries.on(registered(CLEAN_CODE));
+            summaries.on(registered(EFFECTIVE_JAVA));
+            summaries.reconcile();
+
+            assertThat(registry.get(InMemoryAvailabilitySummaries.ISBNS_METER_NAME).gauge().value()).isEqualTo(1);
+            assertThat(registry.get(InMemoryAvailabilitySummaries.CORRECTIONS_METER_NAME).counter().count())
+                    .isEqualTo(2);
+        }
+    }
+}
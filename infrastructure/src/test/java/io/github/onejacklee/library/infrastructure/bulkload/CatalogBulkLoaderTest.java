@@ -0,0 +1,108 @@
+package io.github.onejacklee.library.infrastructure.bulkload;
+
+import io.github.onejacklee.library.domain.catalogentry.CatalogEntry;
+import io.github.onejacklee.library.domain.catalogentry.CatalogEntryRepository;
+import io.github.onejacklee.library.domain.catalogentry.Isbn;
+import io.github.onejacklee.library.infrastructure.bulkload.BulkLoadResult.Rejection;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.hibernate.ddl-auto=validate")
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("CatalogBulkLoader")
+class CatalogBulkLoaderTest {
+
+    private static final String CLEAN_CODE_ISBN = "9780132350884";
+    private static final String EFFECTIVE_JAVA_ISBN = "9780134685991";
+    private static final String REFACTORING_ISBN = "9780134757599";
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:18.1-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private CatalogBulkLoader loader;
+
+    @Autowired
+    private CatalogEntryRepository catalogEntryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("TRUNCATE books, catalog_entries CASCADE");
+        transactionTemplate.executeWithoutResult(status ->
+                catalogEntryRepository.save(CatalogEntry.create(CLEAN_CODE_ISBN, "Clean Code", "Robert C. Martin")));
+    }
+
+    @Test
+    @DisplayName("should load valid rows and report rejected ones")
+    void shouldLoadValidRowsAndReportRejectedOnes() {
+        BulkLoadResult result = loader.load(List.of(
+                new BulkLoadRow(1, CLEAN_CODE_ISBN, "clean code", "Robert C. Martin", 2),
+                new BulkLoadRow(2, "978-0-13-468599-1", "Effective Java", "Joshua \"Josh\" Bloch", 3),
+                new BulkLoadRow(3, EFFECTIVE_JAVA_ISBN, "Effective Java, 3rd", "Joshua \"Josh\" Bloch", 1),
+                new BulkLoadRow(4, CLEAN_CODE_ISBN, "Clean Architecture", "Robert C. Martin", 1),
+                new BulkLoadRow(5, "1234567890", "Bad Check Digit", "Nobody", 1),
+                new BulkLoadRow(6, REFACTORING_ISBN, "Refactoring", "Martin Fowler", 0),
+                new BulkLoadRow(7, REFACTORING_ISBN, "  Refactoring  ", "Martin Fowler", 1)
+        ).iterator());
+
+        assertThat(result.rowsRead()).isEqualTo(7);
+        assertThat(result.rowsRejected()).isEqualTo(4);
+        assertThat(result.catalogEntriesCreated()).isEqualTo(2);
+        assertThat(result.booksCreated()).isEqualTo(6);
+        assertThat(result.rejections())
+                .extracting(Rejection::rowNumber)
+                .containsExactlyInAnyOrder(3L, 4L, 5L, 6L);
+
+        assertThat(catalogEntryRepository.findByIsbn(Isbn.create(EFFECTIVE_JAVA_ISBN)))
+                .get()
+                .extracting(CatalogEntry::getTitle, CatalogEntry::getAuthor)
+                .containsExactly("Effective Java", "Joshua \"Josh\" Bloch");
+        assertThat(catalogEntryRepository.findByIsbn(Isbn.create(REFACTORING_ISBN)))
+                .get()
+                .extracting(CatalogEntry::getTitle)
+                .isEqualTo("Refactoring");
+        assertThat(jdbcTemplate.queryForList("SELECT isbn FROM books ORDER BY isbn", String.class))
+                .containsExactly(CLEAN_CODE_ISBN, CLEAN_CODE_ISBN,
+                        EFFECTIVE_JAVA_ISBN, EFFECTIVE_JAVA_ISBN, EFFECTIVE_JAVA_ISBN,
+                        REFACTORING_ISBN);
+    }
+
+    @Test
+    @DisplayName("should leave nothing behind when every row is rejected")
+    void shouldLeaveNothingBehindWhenEveryRowIsRejected() {
+        BulkLoadResult result = loader.load(List.of(
+                new BulkLoadRow(1, "not-an-isbn", "Title", "Author", 1)
+        ).iterator());
+
+        assertThat(result.rowsRejected()).isEqualTo(1);
+        assertThat(result.booksCreated()).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM books", Long.class)).isZero();
+    }
+}
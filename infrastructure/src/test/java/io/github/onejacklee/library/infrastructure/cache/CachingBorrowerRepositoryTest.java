@@ -0,0 +1,140 @@
+package io.github.onejacklee.library.infrastructure.cache;
+
+import io.github.onejacklee.library.domain.borrower.Borrower;
+import io.github.onejacklee.library.domain.borrower.BorrowerId;
+import io.github.onejacklee.library.domain.borrower.EmailAddress;
+import io.github.onejacklee.library.infrastructure.persistence.repository.BorrowerRepositoryImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CachingBorrowerRepository")
+class CachingBorrowerRepositoryTest {
+
+    private static final BorrowerId BORROWER_ID = BorrowerId.create("01ARZ3NDEKTSV4RRFFQ69G5FAV");
+
+    @Mock
+    private BorrowerRepositoryImpl delegate;
+
+    @Mock
+    private CacheInvalidationBus cacheInvalidationBus;
+
+    private CachingBorrowerRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new CachingBorrowerRepository(delegate, cacheInvalidationBus, 100, Duration.ofHours(1),
+                Duration.ofMinutes(1));
+    }
+
+    private Borrower borrower() {
+        return Borrower.register(BORROWER_ID, "Jane Doe", EmailAddress.create("jane.doe@example.com"));
+    }
+
+    @Nested
+    @DisplayName("existsById")
+    class ExistsById {
+
+        @Test
+        @DisplayName("should ask the delegate only once for a known borrower")
+        void shouldAskDelegateOnceForKnownBorrower() {
+            when(delegate.existsById(BORROWER_ID)).thenReturn(true);
+
+            repository.existsById(BORROWER_ID);
+
+            assertThat(repository.existsById(BORROWER_ID)).isTrue();
+            verify(delegate, times(1)).existsById(BORROWER_ID);
+        }
+
+        @Test
+        @DisplayName("should ask the delegate only once for an unknown id")
+        void shouldAskDelegateOnceForUnknownId() {
+            when(delegate.existsById(BORROWER_ID)).thenReturn(false);
+
+            repository.existsById(BORROWER_ID);
+
+            assertThat(repository.existsById(BORROWER_ID)).isFalse();
+            verify(delegate, times(1)).existsById(BORROWER_ID);
+        }
+
+        @Test
+        @DisplayName("should ask the delegate again once an unknown id expires")
+        void shouldAskDelegateAgainOnceUnknownIdExpires() {
+            repository = new CachingBorrowerRepository(delegate, cacheInvalidationBus, 100, Duration.ofHours(1),
+                    Duration.ZERO);
+            when(delegate.existsById(BORROWER_ID)).thenReturn(false).thenReturn(true);
+
+            repository.existsById(BORROWER_ID);
+
+            assertThat(repository.existsById(BORROWER_ID)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("save should evict a cached miss for the borrower")
+    void saveShouldEvictCachedMiss() {
+        when(delegate.existsById(BORROWER_ID)).thenReturn(false).thenReturn(true);
+        repository.existsById(BORROWER_ID);
+        Borrower borrower = borrower();
+
+        repository.save(borrower);
+
+        verify(delegate).save(borrower);
+        assertThat(repository.existsById(BORROWER_ID)).isTrue();
+    }
+
+    @Test
+    @DisplayName("insertAllIfAbsent should evict cached misses for the inserted borrowers")
+    void insertAllIfAbsentShouldEvictCachedMisses() {
+        when(delegate.existsById(BORROWER_ID)).thenReturn(false).thenReturn(true);
+        repository.existsById(BORROWER_ID);
+        List<Borrower> borrowers = List.of(borrower());
+        when(delegate.insertAllIfAbsent(borrowers)).thenReturn(borrowers);
+
+        assertThat(repository.insertAllIfAbsent(borrowers)).isEqualTo(borrowers);
+        assertThat(repository.existsById(BORROWER_ID)).isTrue();
+    }
+
+    @Test
+    @DisplayName("should evict ids invalidated by another node")
+    void shouldEvictIdsInvalidatedByAnotherNode() {
+        var listener = ArgumentCaptor.forClass(CacheInvalidationListener.class);
+        verify(cacheInvalidationBus).subscribe(eq(CacheInvalidationBus.BORROWERS), listener.capture());
+        when(delegate.existsById(BORROWER_ID)).thenReturn(false).thenReturn(true);
+        repository.existsById(BORROWER_ID);
+
+        listener.getValue().invalidate(BORROWER_ID.value());
+
+        assertThat(repository.existsById(BORROWER_ID)).isTrue();
+    }
+
+    @Test
+    @DisplayName("should expose hit and miss metrics")
+    void shouldExposeHitAndMissMetrics() {
+        var registry = new SimpleMeterRegistry();
+        repository.bindTo(registry);
+        when(delegate.existsById(BORROWER_ID)).thenReturn(true);
+
+        repository.existsById(BORROWER_ID);
+        repository.existsById(BORROWER_ID);
+
+        assertThat(registry.get("cache.gets").tag("cache", CachingBorrowerRepository.CACHE_NAME)
+                .tag("result", "hit").functionCounter().count()).isEqualTo(1.0);
+        assertThat(registry.get("cache.gets").tag("cache", CachingBorrowerRepository.CACHE_NAME)
+                .tag("result", "miss").functionCounter().count()).isEqualTo(1.0);
+    }
+}
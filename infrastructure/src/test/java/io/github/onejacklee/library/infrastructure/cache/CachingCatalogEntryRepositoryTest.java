@@ -0,0 +1,196 @@
+package io.github.onejacklee.library.infrastructure.cache;
+
+import io.github.onejacklee.library.domain.catalogentry.CatalogEntry;
+import io.github.onejacklee.library.domain.catalogentry.Isbn;
+import io.github.onejacklee.library.infrastructure.persistence.repository.CatalogEntryRepositoryImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CachingCatalogEntryRepository")
+class CachingCatalogEntryRepositoryTest {
+
+    private static final Isbn ISBN = Isbn.create("9780132350884");
+    private static final String TITLE = "Clean Code";
+    private static final String AUTHOR = "Robert C. Martin";
+
+    @Mock
+    private CatalogEntryRepositoryImpl delegate;
+
+    @Mock
+    private CacheInvalidationBus cacheInvalidationBus;
+
+    private CachingCatalogEntryRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new CachingCatalogEntryRepository(delegate, cacheInvalidationBus, 100, Duration.ofMinutes(10));
+    }
+
+    @Nested
+    @DisplayName("findByIsbn")
+    class FindByIsbn {
+
+        @Test
+        @DisplayName("should load from delegate only once")
+        void shouldLoadFromDelegateOnlyOnce() {
+            when(delegate.findByIsbn(ISBN)).thenReturn(Optional.of(CatalogEntry.create(ISBN, TITLE, AUTHOR)));
+
+            repository.findByIsbn(ISBN);
+            Optional<CatalogEntry> result = repository.findByIsbn(ISBN);
+
+            assertThat(result).isPresent();
+            assertThat(result.get().getTitle()).isEqualTo(TITLE);
+            assertThat(result.get().getAuthor()).isEqualTo(AUTHOR);
+            verify(delegate, times(1)).findByIsbn(ISBN);
+        }
+
+        @Test
+        @DisplayName("should hand out a fresh aggregate on every hit")
+        void shouldHandOutFreshAggregateOnEveryHit() {
+            when(delegate.findByIsbn(ISBN)).thenReturn(Optional.of(CatalogEntry.create(ISBN, TITLE, AUTHOR)));
+
+            CatalogEntry first = repository.findByIsbn(ISBN).orElseThrow();
+            first.updateTitle("Modified without saving");
+            CatalogEntry second = repository.findByIsbn(ISBN).orElseThrow();
+
+            assertThat(second).isNotSameAs(first);
+            assertThat(second.getTitle()).isEqualTo(TITLE);
+        }
+
+        @Test
+        @DisplayName("should not cache missing entries")
+        void shouldNotCacheMissingEntries() {
+            when(delegate.findByIsbn(ISBN)).thenReturn(Optional.empty());
+
+            repository.findByIsbn(ISBN);
+            repository.findByIsbn(ISBN);
+
+            verify(delegate, times(2)).findByIsbn(ISBN);
+        }
+    }
+
+    @Nested
+    @DisplayName("findAllByIsbn")
+    class FindAllByIsbn {
+
+        private static final Isbn OTHER_ISBN = Isbn.create("9780134685991");
+
+        @Test
+        @DisplayName("should load only the misses, in one delegate call")
+        void shouldLoadOnlyMisses() {
+            when(delegate.findByIsbn(ISBN)).thenReturn(Optional.of(CatalogEntry.create(ISBN, TITLE, AUTHOR)));
+            when(delegate.findAllByIsbn(List.of(OTHER_ISBN)))
+                    .thenReturn(List.of(CatalogEntry.create(OTHER_ISBN, "Effective Java", "Joshua Bloch")));
+            repository.findByIsbn(ISBN);
+
+            List<CatalogEntry> result = repository.findAllByIsbn(List.of(ISBN, OTHER_ISBN));
+
+            assertThat(result).extracting(CatalogEntry::getIsbn).containsExactlyInAnyOrder(ISBN, OTHER_ISBN);
+            verify(delegate).findAllByIsbn(List.of(OTHER_ISBN));
+        }
+
+        @Test
+        @DisplayName("should cache loaded entries")
+        void shouldCacheLoadedEntries() {
+            when(delegate.findAllByIsbn(List.of(ISBN))).thenReturn(List.of(CatalogEntry.create(ISBN, TITLE, AUTHOR)));
+
+            repository.findAllByIsbn(List.of(ISBN));
+            List<CatalogEntry> result = repository.findAllByIsbn(List.of(ISBN));
+
+            assertThat(result).singleElement().extracting(CatalogEntry::getTitle).isEqualTo(TITLE);
+            verify(delegate, times(1)).findAllByIsbn(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("save")
+    class Save {
+
+        @Test
+        @DisplayName("should write through and evict the cached entry")
+        void shouldWriteThroughAndEvict() {
+            when(delegate.findByIsbn(ISBN))
+                    .thenReturn(Optional.of(CatalogEntry.create(ISBN, TITLE, AUTHOR)))
+                    .thenReturn(Optional.of(CatalogEntry.create(ISBN, "Clean Code 2nd Edition", AUTHOR)));
+            CatalogEntry entry = repository.findByIsbn(ISBN).orElseThrow();
+
+            entry.updateTitle("Clean Code 2nd Edition");
+            repository.save(entry);
+
+            verify(delegate).save(entry);
+            assertThat(repository.findByIsbn(ISBN).orElseThrow().getTitle()).isEqualTo("Clean Code 2nd Edition");
+            verify(delegate, times(2)).findByIsbn(ISBN);
+        }
+
+        @Test
+        @DisplayName("should evict the cached entry when the save loses an optimistic lock race")
+        void shouldEvictOnOptimisticLockFailure() {
+            when(delegate.findByIsbn(ISBN)).thenReturn(Optional.of(CatalogEntry.create(ISBN, TITLE, AUTHOR)));
+            CatalogEntry entry = repository.findByIsbn(ISBN).orElseThrow();
+            doThrow(new OptimisticLockingFailureException("stale")).when(delegate).save(entry);
+
+            assertThatThrownBy(() -> repository.save(entry)).isInstanceOf(OptimisticLockingFailureException.class);
+            repository.findByIsbn(ISBN);
+
+            verify(delegate, times(2)).findByIsbn(ISBN);
+        }
+    }
+
+    @Test
+    @DisplayName("existsByIsbn should skip the delegate for cached entries")
+    void existsByIsbnShouldSkipDelegateForCachedEntries() {
+        when(delegate.findByIsbn(ISBN)).thenReturn(Optional.of(CatalogEntry.create(ISBN, TITLE, AUTHOR)));
+        repository.findByIsbn(ISBN);
+
+        assertThat(repository.existsByIsbn(ISBN)).isTrue();
+        verify(delegate, never()).existsByIsbn(any());
+    }
+
+    @Test
+    @DisplayName("should expose hit and miss metrics")
+    void shouldExposeHitAndMissMetrics() {
+        var registry = new SimpleMeterRegistry();
+        repository.bindTo(registry);
+        when(delegate.findByIsbn(ISBN)).thenReturn(Optional.of(CatalogEntry.create(ISBN, TITLE, AUTHOR)));
+
+        repository.findByIsbn(ISBN);
+        repository.findByIsbn(ISBN);
+
+        assertThat(registry.get("cache.gets").tag("cache", CachingCatalogEntryRepository.CACHE_NAME)
+                .tag("result", "hit").functionCounter().count()).isEqualTo(1.0);
+        assertThat(registry.get("cache.gets").tag("cache", CachingCatalogEntryRepository.CACHE_NAME)
+                .tag("result", "miss").functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("should evict entries invalidated by another node")
+    void shouldEvictEntriesInvalidatedByAnotherNode() {
+        var listener = ArgumentCaptor.forClass(CacheInvalidationListener.class);
+        verify(cacheInvalidationBus).subscribe(eq(CacheInvalidationBus.CATALOG_ENTRIES), listener.capture());
+        when(delegate.findByIsbn(ISBN)).thenReturn(Optional.of(CatalogEntry.create(ISBN, TITLE, AUTHOR)));
+        repository.findByIsbn(ISBN);
+
+        listener.getValue().invalidate(ISBN.value());
+        repository.findByIsbn(ISBN);
+
+        verify(delegate, times(2)).findByIsbn(ISBN);
+    }
+}
@@ -0,0 +1,122 @@
+package io.github.onejacklee.library.infrastructure.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("PostgresCacheInvalidationBus")
+class PostgresCacheInvalidationBusTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:18.1-alpine");
+
+    private Node nodeA;
+    private Node nodeB;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        nodeA = new Node();
+        nodeB = new Node();
+        nodeA.awaitListening();
+        nodeB.awaitListening();
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodeA.bus.stop();
+        nodeB.bus.stop();
+    }
+
+    @Test
+    @DisplayName("should deliver committed invalidations to every node")
+    void shouldDeliverCommittedInvalidationsToEveryNode() throws InterruptedException {
+        nodeA.transactionTemplate.executeWithoutResult(status ->
+                nodeA.bus.publish(CacheInvalidationBus.CATALOG_ENTRIES, "9780132350884"));
+
+        assertThat(nodeB.invalidated.poll(5, TimeUnit.SECONDS)).isEqualTo("9780132350884");
+        assertThat(nodeA.invalidated.poll(5, TimeUnit.SECONDS)).isEqualTo("9780132350884");
+    }
+
+    @Test
+    @DisplayName("should deduplicate invalidations within one transaction")
+    void shouldDeduplicateInvalidationsWithinOneTransaction() throws InterruptedException {
+        nodeA.transactionTemplate.executeWithoutResult(status -> {
+            nodeA.bus.publish(CacheInvalidationBus.CATALOG_ENTRIES, "9780132350884");
+            nodeA.bus.publish(CacheInvalidationBus.CATALOG_ENTRIES, "9780132350884");
+            nodeA.bus.publish(CacheInvalidationBus.CATALOG_ENTRIES, "9780134685991");
+        });
+
+        assertThat(List.of(
+                nodeB.invalidated.poll(5, TimeUnit.SECONDS),
+                nodeB.invalidated.poll(5, TimeUnit.SECONDS)
+        )).containsExactly("9780132350884", "9780134685991");
+        assertThat(nodeB.invalidated.poll(1, TimeUnit.SECONDS)).isNull();
+    }
+
+    @Test
+    @DisplayName("should not deliver invalidations from rolled back transactions")
+    void shouldNotDeliverInvalidationsFromRolledBackTransactions() throws InterruptedException {
+        nodeA.transactionTemplate.executeWithoutResult(status -> {
+            nodeA.bus.publish(CacheInvalidationBus.CATALOG_ENTRIES, "9780132350884");
+            status.setRollbackOnly();
+        });
+
+        assertThat(nodeB.invalidated.poll(1, TimeUnit.SECONDS)).isNull();
+    }
+
+    @Test
+    @DisplayName("should only notify listeners of the published region")
+    void shouldOnlyNotifyListenersOfPublishedRegion() throws InterruptedException {
+        nodeA.transactionTemplate.executeWithoutResult(status ->
+                nodeA.bus.publish(CacheInvalidationBus.BORROWERS, "01ARZ3NDEKTSV4RRFFQ69G5FAV"));
+
+        assertThat(nodeB.invalidated.poll(1, TimeUnit.SECONDS)).isNull();
+    }
+
+    private static final class Node {
+
+        private final PostgresCacheInvalidationBus bus;
+        private final TransactionTemplate transactionTemplate;
+        private final BlockingQueue<String> invalidated = new LinkedBlockingQueue<>();
+        private final CountDownLatch listening = new CountDownLatch(1);
+
+        private Node() {
+            var dataSource = new DriverManagerDataSource(
+                    POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+            bus = new PostgresCacheInvalidationBus(dataSource);
+            transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+            bus.subscribe(CacheInvalidationBus.CATALOG_ENTRIES, new CacheInvalidationListener() {
+                @Override
+                public void invalidate(String key) {
+                    invalidated.add(key);
+                }
+
+                @Override
+                public void invalidateAll() {
+                    listening.countDown();
+                }
+            });
+            bus.start();
+        }
+
+        private void awaitListening() throws InterruptedException {
+            assertThat(listening.await(10, TimeUnit.SECONDS)).isTrue();
+        }
+    }
+}
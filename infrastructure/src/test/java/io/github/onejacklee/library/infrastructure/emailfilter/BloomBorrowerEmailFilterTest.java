@@ -0,0 +1,89 @@
+package io.github.onejacklee.library.infrastructure.emailfilter;
+
+import io.github.onejacklee.library.domain.borrower.BorrowerId;
+import io.github.onejacklee.library.domain.borrower.BorrowerRegistered;
+import io.github.onejacklee.library.domain.borrower.EmailAddress;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BloomBorrowerEmailFilter")
+class BloomBorrowerEmailFilterTest {
+
+    private static final EmailAddress JANE = EmailAddress.create("jane.doe@example.com");
+    private static final EmailAddress JOHN = EmailAddress.create("john.doe@example.com");
+    private static final BorrowerId BORROWER_ID = BorrowerId.create("01ARZ3NDEKTSV4RRFFQ69G5FAV");
+
+    private final List<String> borrowers = new ArrayList<>();
+    private Supplier<List<String>> loader = () -> List.copyOf(borrowers);
+    private BloomBorrowerEmailFilter emailFilter;
+
+    @BeforeEach
+    void setUp() {
+        borrowers.add(JANE.value());
+        emailFilter = new BloomBorrowerEmailFilter(() -> loader.get(), Duration.ofHours(1), 0.01);
+    }
+
+    @Test
+    @DisplayName("should report every address as possibly taken until built")
+    void shouldReportEveryAddressUntilBuilt() {
+        assertThat(emailFilter.mightExist(JOHN)).isTrue();
+    }
+
+    @Test
+    @DisplayName("should tell loaded addresses from new ones")
+    void shouldTellLoadedAddressesFromNewOnes() {
+        emailFilter.rebuild();
+
+        assertThat(emailFilter.mightExist(JANE)).isTrue();
+        assertThat(emailFilter.mightExist(JOHN)).isFalse();
+    }
+
+    @Test
+    @DisplayName("should add the address of a registered borrower")
+    void shouldAddRegisteredAddress() {
+        emailFilter.rebuild();
+
+        emailFilter.on(new BorrowerRegistered(BORROWER_ID, JOHN));
+
+        assertThat(emailFilter.mightExist(JOHN)).isTrue();
+    }
+
+    @Test
+    @DisplayName("should keep an address registered while rebuilding")
+    void shouldKeepAddressRegisteredWhileRebuilding() {
+        emailFilter.rebuild();
+        loader = () -> {
+            List<String> loaded = List.copyOf(borrowers);
+            emailFilter.on(new BorrowerRegistered(BORROWER_ID, JOHN));
+            return loaded;
+        };
+
+        emailFilter.rebuild();
+
+        assertThat(emailFilter.mightExist(JOHN)).isTrue();
+    }
+
+    @Test
+    @DisplayName("should keep the current filter when a rebuild fails")
+    void shouldKeepCurrentFilterWhenRebuildFails() {
+        emailFilter.rebuild();
+        loader = () -> {
+            throw new IllegalStateException("database down");
+        };
+
+        assertThatThrownBy(emailFilter::rebuild).isInstanceOf(IllegalStateException.class);
+        emailFilter.on(new BorrowerRegistered(BORROWER_ID, JOHN));
+
+        assertThat(emailFilter.mightExist(JANE)).isTrue();
+        assertThat(emailFilter.mightExist(JOHN)).isTrue();
+    }
+}
@@ -0,0 +1,56 @@
+package io.github.onejacklee.library.infrastructure.emailfilter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BloomFilter")
+class BloomFilterTest {
+
+    private static final int ENTRIES = 10_000;
+
+    @Test
+    @DisplayName("should contain every added value")
+    void shouldContainEveryAddedValue() {
+        BloomFilter filter = new BloomFilter(ENTRIES, 0.01);
+        IntStream.range(0, ENTRIES).forEach(i -> filter.add("borrower" + i + "@example.com"));
+
+        assertThat(IntStream.range(0, ENTRIES))
+                .allMatch(i -> filter.mightContain("borrower" + i + "@example.com"));
+    }
+
+    @Test
+    @DisplayName("should keep false positives near the target rate when full")
+    void shouldKeepFalsePositivesNearTargetRate() {
+        BloomFilter filter = new BloomFilter(ENTRIES, 0.01);
+        IntStream.range(0, ENTRIES).forEach(i -> filter.add("borrower" + i + "@example.com"));
+
+        long falsePositives = IntStream.range(0, 100_000)
+                .filter(i -> filter.mightContain("stranger" + i + "@example.com"))
+                .count();
+
+        assertThat(falsePositives).isLessThan(2_000);
+    }
+
+    @Test
+    @DisplayName("should size bits and hash functions for the target rate")
+    void shouldSizeForTargetRate() {
+        BloomFilter filter = new BloomFilter(ENTRIES, 0.01);
+
+        assertThat(filter.bits()).isEqualTo(95_851);
+        assertThat(filter.hashes()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("should reject a false positive rate outside (0, 1)")
+    void shouldRejectInvalidFalsePositiveRate() {
+        assertThatThrownBy(() -> new BloomFilter(ENTRIES, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new BloomFilter(ENTRIES, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
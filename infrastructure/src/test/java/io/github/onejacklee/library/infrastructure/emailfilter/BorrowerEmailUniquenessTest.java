@@ -0,0 +1,79 @@
+package io.github.onejacklee.library.infrastructure.emailfilter;
+
+import io.github.onejacklee.library.application.borrower.RegisterBorrowerCommand;
+import io.github.onejacklee.library.application.borrower.RegisterBorrowerCommandHandler;
+import io.github.onejacklee.library.application.exception.BorrowerEmailAlreadyExistsException;
+import io.github.onejacklee.library.domain.borrower.EmailAddress;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "spring.jpa.hibernate.ddl-auto=validate")
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Borrower email uniqueness")
+class BorrowerEmailUniquenessTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:18.1-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private RegisterBorrowerCommandHandler registerBorrowerHandler;
+
+    @Autowired
+    private BloomBorrowerEmailFilter emailFilter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String email;
+
+    @BeforeEach
+    void setUp() {
+        email = UUID.randomUUID() + "@example.com";
+    }
+
+    @Test
+    @DisplayName("should reject an email taken after the filter was built")
+    void shouldRejectEmailTakenAfterFilterWasBuilt() {
+        // Written without an event, like a registration on another node the relay has not dispatched yet
+        jdbcTemplate.update("INSERT INTO borrowers (id, name, email_address) VALUES (?, ?, ?)",
+                "01ARZ3NDEKTSV4RRFFQ69G5FAV", "Jane Doe", email);
+        assertThat(emailFilter.mightExist(EmailAddress.create(email))).isFalse();
+
+        assertThatThrownBy(() -> registerBorrowerHandler.handle(new RegisterBorrowerCommand("John Doe", email)))
+                .isInstanceOf(BorrowerEmailAlreadyExistsException.class);
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM borrowers WHERE email_address = ?",
+                Integer.class, email)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should reject an email once the filter has it")
+    void shouldRejectEmailFilterHas() {
+        registerBorrowerHandler.handle(new RegisterBorrowerCommand("Jane Doe", email));
+        emailFilter.rebuild();
+
+        assertThat(emailFilter.mightExist(EmailAddress.create(email))).isTrue();
+        assertThatThrownBy(() -> registerBorrowerHandler.handle(new RegisterBorrowerCommand("John Doe", email)))
+                .isInstanceOf(BorrowerEmailAlreadyExistsException.class);
+    }
+}
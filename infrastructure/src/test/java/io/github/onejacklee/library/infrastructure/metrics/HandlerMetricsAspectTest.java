@@ -0,0 +1,83 @@
+package io.github.onejacklee.library.infrastructure.metrics;
+
+import io.github.onejacklee.library.application.book.BorrowBookCommandHandler;
+import io.github.onejacklee.library.application.exception.BookNotFoundException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HandlerMetricsAspect")
+class HandlerMetricsAspectTest {
+
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+
+    @Mock
+    private Signature signature;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SqlStatementCounter statementCounter;
+    private HandlerMetricsAspect aspect;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        statementCounter = new SqlStatementCounter();
+        aspect = new HandlerMetricsAspect(meterRegistry, statementCounter);
+
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(signature.getDeclaringType()).thenReturn(BorrowBookCommandHandler.class);
+    }
+
+    @Test
+    @DisplayName("should time successful invocations and count their statements")
+    void shouldTimeSuccessfulInvocations() throws Throwable {
+        when(joinPoint.proceed()).thenAnswer(invocation -> {
+            statementCounter.afterQuery(null, List.of());
+            statementCounter.afterQuery(null, List.of());
+            return "result";
+        });
+
+        Object result = aspect.record(joinPoint);
+
+        assertThat(result).isEqualTo("result");
+        Timer timer = meterRegistry.get(HandlerMetricsAspect.TIMER_NAME)
+                .tags("handler", "BorrowBookCommandHandler", "outcome", "SUCCESS", "exception", "none")
+                .timer();
+        assertThat(timer.count()).isEqualTo(1);
+        DistributionSummary statements = meterRegistry.get(HandlerMetricsAspect.STATEMENTS_NAME)
+                .tag("handler", "BorrowBookCommandHandler")
+                .summary();
+        assertThat(statements.totalAmount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should tag failed invocations with the exception type and rethrow")
+    void shouldTagFailedInvocations() throws Throwable {
+        when(joinPoint.proceed()).thenThrow(new BookNotFoundException("01ARZ3NDEKTSV4RRFFQ69G5FAV"));
+
+        assertThatThrownBy(() -> aspect.record(joinPoint))
+                .isInstanceOf(BookNotFoundException.class);
+
+        Timer timer = meterRegistry.get(HandlerMetricsAspect.TIMER_NAME)
+                .tags("handler", "BorrowBookCommandHandler", "outcome", "ERROR",
+                        "exception", "BookNotFoundException")
+                .timer();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,181 @@
+package io.github.onejacklee.library.infrastructure.metrics;
+
+import io.github.onejacklee.library.application.book.*;
+import io.github.onejacklee.library.application.borrower.RegisterBorrowerCommand;
+import io.github.onejacklee.library.application.borrower.RegisterBorrowerCommandHandler;
+import io.github.onejacklee.library.application.catalogentry.CatalogEntryDto;
+import io.github.onejacklee.library.application.catalogentry.UpdateCatalogEntryCommand;
+import io.github.onejacklee.library.application.catalogentry.UpdateCatalogEntryCommandHandler;
+import io.github.onejacklee.library.domain.borrower.BorrowerId;
+import io.github.onejacklee.library.domain.borrower.BorrowerRepository;
+import io.github.onejacklee.library.domain.catalogentry.CatalogEntryRepository;
+import io.github.onejacklee.library.domain.catalogentry.Isbn;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.hibernate.ddl-auto=validate")
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Handler statement budgets")
+class HandlerStatementBudgetTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:18.1-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private RegisterBorrowerCommandHandler registerBorrowerHandler;
+
+    @Autowired
+    private RegisterBookCommandHandler registerBookHandler;
+
+    @Autowired
+    private RegisterBooksInBulkCommandHandler registerInBulkHandler;
+
+    @Autowired
+    private BorrowBookCommandHandler borrowHandler;
+
+    @Autowired
+    private ReturnBookCommandHandler returnHandler;
+
+    @Autowired
+    private GetBooksPageQueryHandler getPageHandler;
+
+    @Autowired
+    private GetBorrowerLoansQueryHandler getLoansHandler;
+
+    @Autowired
+    private UpdateCatalogEntryCommandHandler updateCatalogEntryHandler;
+
+    @Autowired
+    private CatalogEntryRepository catalogEntryRepository;
+
+    @Autowired
+    private BorrowerRepository borrowerRepository;
+
+    private String borrowerId;
+    private String bookId;
+
+    @BeforeEach
+    void setUp() {
+        borrowerId = registerBorrowerHandler.handle(
+                new RegisterBorrowerCommand("Jane Doe", UUID.randomUUID() + "@example.com")).id();
+        bookId = registerBookHandler.handle(
+                new RegisterBookCommand("9780132350884", "Clean Code", "Robert C. Martin")).id();
+        // Counts are for the steady state, where the catalog entry and the borrower are already cached
+        catalogEntryRepository.findByIsbn(Isbn.create("9780132350884"));
+        borrowerRepository.existsById(BorrowerId.create(borrowerId));
+    }
+
+    @Test
+    @StatementBudget(value = 2, exact = true)
+    @DisplayName("register book")
+    void registerBook() {
+        registerBookHandler.handle(new RegisterBookCommand("9780132350884", "Clean Code", "Robert C. Martin"));
+    }
+
+    @Test
+    @StatementBudget(value = 3, exact = true)
+    @DisplayName("register 1000 books in bulk")
+    void registerBooksInBulk() {
+        var row = new RegisterBooksInBulkCommand.Row("9780132350884", "Clean Code", "Robert C. Martin", 100);
+
+        BulkRegistrationDto result = registerInBulkHandler.handle(
+                new RegisterBooksInBulkCommand(Collections.nCopies(10, row)));
+
+        assertThat(result.registeredCount()).isEqualTo(10);
+    }
+
+    @Test
+    @StatementBudget(value = 3, exact = true)
+    @DisplayName("register borrower")
+    void registerBorrower() {
+        registerBorrowerHandler.handle(new RegisterBorrowerCommand("John Doe", UUID.randomUUID() + "@example.com"));
+    }
+
+    @Test
+    @StatementBudget(value = 2, exact = true)
+    @DisplayName("borrow book")
+    void borrowBook() {
+        BookDetailsDto result = borrowHandler.handle(new BorrowBookCommand(bookId, borrowerId));
+
+        assertThat(result.available()).isFalse();
+    }
+
+    @Nested
+    @DisplayName("when borrowed")
+    class WhenBorrowed {
+
+        @BeforeEach
+        void borrow() {
+            borrowHandler.handle(new BorrowBookCommand(bookId, borrowerId));
+        }
+
+        @Test
+        @StatementBudget(value = 2, exact = true)
+        @DisplayName("return book")
+        void returnBook() {
+            BookDetailsDto result = returnHandler.handle(new ReturnBookCommand(bookId, borrowerId));
+
+            assertThat(result.available()).isTrue();
+        }
+
+        @Test
+        @StatementBudget(value = 1, exact = true)
+        @DisplayName("get borrower loans")
+        void getBorrowerLoans() {
+            List<BookDetailsDto> result = getLoansHandler.handle(new GetBorrowerLoansQuery(borrowerId));
+
+            assertThat(result).extracting(BookDetailsDto::id).containsExactly(bookId);
+        }
+    }
+
+    @Nested
+    @DisplayName("with a catalog entry of its own")
+    class WithOwnCatalogEntry {
+
+        // A separate ISBN, so the rename does not clash with the catalog entry the other tests register books under
+        @BeforeEach
+        void register() {
+            registerBookHandler.handle(new RegisterBookCommand("9780134685991", "Effective Java", "Joshua Bloch"));
+        }
+
+        // Three of them keep the entry's kept search hits current
+        @Test
+        @StatementBudget(value = 7, exact = true)
+        @DisplayName("update catalog entry")
+        void updateCatalogEntry() {
+            CatalogEntryDto result = updateCatalogEntryHandler.handle(
+                    new UpdateCatalogEntryCommand("9780134685991", "Effective Java 3rd Edition", "Joshua Bloch"));
+
+            assertThat(result.title()).isEqualTo("Effective Java 3rd Edition");
+        }
+    }
+
+    @Test
+    @StatementBudget(1)
+    @DisplayName("get books page")
+    void getBooksPage() {
+        getPageHandler.handle(new GetBooksPageQuery(50, null));
+    }
+}
@@ -0,0 +1,23 @@
+package io.github.onejacklee.library.infrastructure.metrics;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Fails a Spring integration test whose body runs more SQL statements than declared, or with {@link #exact()}
+ * any other number than declared. Setup in {@code @BeforeEach} methods is not counted.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(StatementBudgetExtension.class)
+public @interface StatementBudget {
+
+    int value();
+
+    // Pins the count, so a change that saves statements has to update the test along with it
+    boolean exact() default false;
+}
@@ -0,0 +1,38 @@
+package io.github.onejacklee.library.infrastructure.metrics;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+class StatementBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE =
+            ExtensionContext.Namespace.create(StatementBudgetExtension.class);
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        context.getStore(NAMESPACE).put(SqlStatistics.class, counter(context).snapshot());
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        SqlStatistics before = context.getStore(NAMESPACE).remove(SqlStatistics.class, SqlStatistics.class);
+        if (before == null || context.getExecutionException().isPresent()) {
+            return;
+        }
+        StatementBudget budget = AnnotationSupport
+                .findAnnotation(context.getRequiredTestMethod(), StatementBudget.class)
+                .orElseThrow();
+        long statements = counter(context).snapshot().since(before).statements();
+        if (statements > budget.value() || (budget.exact() && statements != budget.value())) {
+            throw new AssertionError("%s executed %d SQL statements, %s %d".formatted(context.getDisplayName(),
+                    statements, budget.exact() ? "expected exactly" : "budget is", budget.value()));
+        }
+    }
+
+    private static SqlStatementCounter counter(ExtensionContext context) {
+        return SpringExtension.getApplicationContext(context).getBean(SqlStatementCounter.class);
+    }
+}
@@ -0,0 +1,57 @@
+package io.github.onejacklee.library.infrastructure.outbox;
+
+import io.github.onejacklee.library.common.domain.DomainEvent;
+import io.github.onejacklee.library.domain.book.BookBorrowed;
+import io.github.onejacklee.library.domain.book.BookId;
+import io.github.onejacklee.library.domain.borrower.BorrowerId;
+import io.github.onejacklee.library.domain.borrower.BorrowerRegistered;
+import io.github.onejacklee.library.domain.borrower.EmailAddress;
+import io.github.onejacklee.library.domain.catalogentry.CatalogEntryChanged;
+import io.github.onejacklee.library.domain.catalogentry.Isbn;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("DomainEventCodec")
+class DomainEventCodecTest {
+
+    private final DomainEventCodec codec = new DomainEventCodec();
+
+    private DomainEvent roundTrip(DomainEvent event) {
+        return codec.deserialize(codec.typeOf(event), codec.serialize(event));
+    }
+
+    @Test
+    @DisplayName("should restore events from their type and payload")
+    void shouldRestoreEvents() {
+        var borrowed = new BookBorrowed(BookId.create("01ARZ3NDEKTSV4RRFFQ69G5FAV"), Isbn.create("0134685997"),
+                BorrowerId.create("01ARZ3NDEKTSV4RRFFQ69G5FAW"));
+        var registered = new BorrowerRegistered(BorrowerId.create("01ARZ3NDEKTSV4RRFFQ69G5FAW"),
+                EmailAddress.create("jane@example.com"));
+        var changed = new CatalogEntryChanged(Isbn.create("9780132350884"), "Clean Code", "Robert C. Martin");
+
+        assertThat(roundTrip(borrowed)).isEqualTo(borrowed);
+        assertThat(roundTrip(registered)).isEqualTo(registered);
+        assertThat(roundTrip(changed)).isEqualTo(changed);
+    }
+
+    @Test
+    @DisplayName("should store only the state of value objects")
+    void shouldStoreOnlyValueObjectState() {
+        var changed = new CatalogEntryChanged(Isbn.create("9780132350884"), "Clean Code", "Robert C. Martin");
+
+        assertThat(codec.serialize(changed))
+                .isEqualTo("{\"isbn\":{\"value\":\"9780132350884\"},\"title\":\"Clean Code\",\"author\":\"Robert C. Martin\"}");
+    }
+
+    @Test
+    @DisplayName("should refuse types that are not domain events")
+    void shouldRefuseNonEventTypes() {
+        assertThatThrownBy(() -> codec.deserialize(String.class.getName(), "\"text\""))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> codec.deserialize("io.github.onejacklee.library.Missing", "{}"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
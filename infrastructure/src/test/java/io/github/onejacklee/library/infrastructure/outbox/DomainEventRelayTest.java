@@ -0,0 +1,219 @@
+package io.github.onejacklee.library.infrastructure.outbox;
+
+import io.github.onejacklee.library.application.book.BorrowBookCommand;
+import io.github.onejacklee.library.application.book.BorrowBookCommandHandler;
+import io.github.onejacklee.library.application.book.RegisterBookCommand;
+import io.github.onejacklee.library.application.book.RegisterBookCommandHandler;
+import io.github.onejacklee.library.application.book.ReturnBookCommand;
+import io.github.onejacklee.library.application.book.ReturnBookCommandHandler;
+import io.github.onejacklee.library.application.borrower.RegisterBorrowerCommand;
+import io.github.onejacklee.library.application.borrower.RegisterBorrowerCommandHandler;
+import io.github.onejacklee.library.common.application.IdGenerator;
+import io.github.onejacklee.library.common.domain.DomainEvent;
+import io.github.onejacklee.library.domain.book.Book;
+import io.github.onejacklee.library.domain.book.BookBorrowed;
+import io.github.onejacklee.library.domain.book.BookId;
+import io.github.onejacklee.library.domain.book.BookRegistered;
+import io.github.onejacklee.library.domain.book.BookRepository;
+import io.github.onejacklee.library.domain.book.BookReturned;
+import io.github.onejacklee.library.domain.borrower.BorrowerId;
+import io.github.onejacklee.library.domain.borrower.BorrowerRegistered;
+import io.github.onejacklee.library.domain.borrower.EmailAddress;
+import io.github.onejacklee.library.domain.catalogentry.CatalogEntryChanged;
+import io.github.onejacklee.library.domain.catalogentry.Isbn;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.hibernate.ddl-auto=validate")
+@Testcontainers(disabledWithoutDocker = true)
+@RecordApplicationEvents
+@DisplayName("DomainEventRelay")
+class DomainEventRelayTest {
+
+    private static final String ISBN = "9780132350884";
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:18.1-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private DomainEventRelay relay;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    @Autowired
+    private RegisterBookCommandHandler registerBookHandler;
+
+    @Autowired
+    private RegisterBorrowerCommandHandler registerBorrowerHandler;
+
+    @Autowired
+    private BorrowBookCommandHandler borrowHandler;
+
+    @Autowired
+    private ReturnBookCommandHandler returnHandler;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private IdGenerator idGenerator;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // Relay batches from the test thread instead of the background one
+        relay.stop();
+        jdbcTemplate.execute("TRUNCATE books, borrowers, catalog_entries, domain_event_outbox CASCADE");
+        relay.startFromNow();
+        applicationEvents.clear();
+    }
+
+    @Test
+    @DisplayName("should dispatch the events of committed changes in order")
+    void shouldDispatchEventsOfCommittedChanges() {
+        String email = UUID.randomUUID() + "@example.com";
+        String borrowerId = registerBorrowerHandler.handle(new RegisterBorrowerCommand("Jane Doe", email)).id();
+        String bookId = registerBookHandler.handle(new RegisterBookCommand(ISBN, "Clean Code", "Robert C. Martin")).id();
+        borrowHandler.handle(new BorrowBookCommand(bookId, borrowerId));
+        returnHandler.handle(new ReturnBookCommand(bookId, borrowerId));
+
+        assertThat(relay.relayBatch()).isEqualTo(5);
+
+        assertThat(dispatchedEvents()).containsExactly(
+                new BorrowerRegistered(BorrowerId.create(borrowerId), EmailAddress.create(email)),
+                new CatalogEntryChanged(Isbn.create(ISBN), "Clean Code", "Robert C. Martin"),
+                new BookRegistered(BookId.create(bookId), Isbn.create(ISBN)),
+                new BookBorrowed(BookId.create(bookId), Isbn.create(ISBN), BorrowerId.create(borrowerId)),
+                new BookReturned(BookId.create(bookId), Isbn.create(ISBN), BorrowerId.create(borrowerId)));
+        assertThat(relay.relayBatch()).isZero();
+    }
+
+    @Test
+    @DisplayName("should not dispatch the events of rolled back changes")
+    void shouldNotDispatchEventsOfRolledBackChanges() {
+        transactionTemplate.executeWithoutResult(status -> {
+            registerBookHandler.handle(new RegisterBookCommand(ISBN, "Clean Code", "Robert C. Martin"));
+            status.setRollbackOnly();
+        });
+
+        assertThat(relay.relayBatch()).isZero();
+        assertThat(dispatchedEvents()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should wait for an older transaction that commits after a newer one")
+    void shouldWaitForOlderTransactionCommittingLater() throws Exception {
+        registerBookHandler.handle(new RegisterBookCommand(ISBN, "Clean Code", "Robert C. Martin"));
+        relay.relayBatch();
+        applicationEvents.clear();
+
+        BookId olderBook = BookId.create(idGenerator.generate());
+        BookId newerBook = BookId.create(idGenerator.generate());
+        CountDownLatch olderWritten = new CountDownLatch(1);
+        CountDownLatch commitOlder = new CountDownLatch(1);
+        CompletableFuture<Void> older = CompletableFuture.runAsync(() ->
+                transactionTemplate.executeWithoutResult(status -> {
+                    bookRepository.insertAll(List.of(Book.register(olderBook, Isbn.create(ISBN))));
+                    olderWritten.countDown();
+                    await(commitOlder);
+                }));
+        await(olderWritten);
+
+        transactionTemplate.executeWithoutResult(status ->
+                bookRepository.insertAll(List.of(Book.register(newerBook, Isbn.create(ISBN)))));
+        assertThat(relay.relayBatch()).isZero();
+
+        commitOlder.countDown();
+        older.get(10, TimeUnit.SECONDS);
+        assertThat(relay.relayBatch()).isEqualTo(2);
+        assertThat(dispatchedEvents()).containsExactly(
+                new BookRegistered(olderBook, Isbn.create(ISBN)),
+                new BookRegistered(newerBook, Isbn.create(ISBN)));
+    }
+
+    @Test
+    @DisplayName("should read the events after a position that are still to be dispatched")
+    void shouldReadEventsAfterPosition() {
+        registerBookHandler.handle(new RegisterBookCommand(ISBN, "Clean Code", "Robert C. Martin"));
+        relay.relayBatch();
+        OutboxPosition position = relay.runAtPosition(() -> { });
+        BookId secondBook = BookId.create(idGenerator.generate());
+        transactionTemplate.executeWithoutResult(status ->
+                bookRepository.insertAll(List.of(Book.register(secondBook, Isbn.create(ISBN)))));
+
+        assertThat(relay.eventsAfter(position)).containsExactly(new BookRegistered(secondBook, Isbn.create(ISBN)));
+
+        assertThat(relay.relayBatch()).isEqualTo(1);
+        assertThat(relay.eventsAfter(relay.runAtPosition(() -> { }))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should skip an unreadable event without holding up the next")
+    void shouldSkipUnreadableEvent() {
+        jdbcTemplate.update("INSERT INTO domain_event_outbox (event_type, payload) VALUES (?, ?::jsonb)",
+                "io.github.onejacklee.library.domain.book.Missing", "{}");
+        registerBookHandler.handle(new RegisterBookCommand(ISBN, "Clean Code", "Robert C. Martin"));
+
+        assertThat(relay.relayBatch()).isEqualTo(3);
+        assertThat(dispatchedEvents()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("should delete events past the retention period")
+    void shouldDeleteExpiredEvents() {
+        registerBookHandler.handle(new RegisterBookCommand(ISBN, "Clean Code", "Robert C. Martin"));
+        jdbcTemplate.update("UPDATE domain_event_outbox SET created_at = created_at - interval '2 hours' "
+                + "WHERE event_type = ?", BookRegistered.class.getName());
+
+        relay.deleteExpired();
+
+        assertThat(jdbcTemplate.queryForList("SELECT event_type FROM domain_event_outbox", String.class))
+                .containsExactly(CatalogEntryChanged.class.getName());
+    }
+
+    private List<DomainEvent> dispatchedEvents() {
+        return applicationEvents.stream(DomainEvent.class).toList();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
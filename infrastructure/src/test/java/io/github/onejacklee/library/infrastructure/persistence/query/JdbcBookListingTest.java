@@ -0,0 +1,140 @@
+package io.github.onejacklee.library.infrastructure.persistence.query;
+
+import io.github.onejacklee.library.application.book.BookDetailsDto;
+import io.github.onejacklee.library.domain.book.BookId;
+import io.github.onejacklee.library.domain.borrower.BorrowerId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.hibernate.ddl-auto=validate")
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("JdbcBookListing")
+class JdbcBookListingTest {
+
+    private static final String ISBN = "9780132350884";
+    private static final String BORROWER_ID = "01ARZ3NDEKTSV4RRFFQ69G5FAX";
+    private static final String FIRST_BOOK_ID = "01ARZ3NDEKTSV4RRFFQ69G5FA1";
+    private static final String SECOND_BOOK_ID = "01ARZ3NDEKTSV4RRFFQ69G5FA2";
+    private static final String THIRD_BOOK_ID = "01ARZ3NDEKTSV4RRFFQ69G5FA3";
+    private static final LocalDateTime BORROWED_ON = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:18.1-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private JdbcBookListing bookListing;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("TRUNCATE books, borrowers, catalog_entries CASCADE");
+        jdbcTemplate.update("INSERT INTO catalog_entries (isbn, title, author) VALUES (?, ?, ?)",
+                ISBN, "Clean Code", "Robert C. Martin");
+        jdbcTemplate.update("INSERT INTO borrowers (id, name, email_address) VALUES (?, ?, ?)",
+                BORROWER_ID, "Jane Doe", "jane.doe@example.com");
+        // Inserted out of order, so the listing's order comes from the query
+        insertBook(THIRD_BOOK_ID, null, null);
+        insertBook(FIRST_BOOK_ID, null, null);
+        insertBook(SECOND_BOOK_ID, BORROWER_ID, BORROWED_ON);
+    }
+
+    @Test
+    @DisplayName("should map available and borrowed books with their catalog entry")
+    void shouldMapAvailableAndBorrowedBooks() {
+        assertThat(bookListing.findAll()).containsExactly(
+                new BookDetailsDto(FIRST_BOOK_ID, ISBN, "Clean Code", "Robert C. Martin", true, null, null),
+                new BookDetailsDto(SECOND_BOOK_ID, ISBN, "Clean Code", "Robert C. Martin", false,
+                        BORROWER_ID, BORROWED_ON),
+                new BookDetailsDto(THIRD_BOOK_ID, ISBN, "Clean Code", "Robert C. Martin", true, null, null));
+    }
+
+    @Test
+    @DisplayName("should stream every book in id order")
+    void shouldStreamEveryBookInIdOrder() {
+        List<String> ids = new ArrayList<>();
+
+        transactionTemplate.executeWithoutResult(status -> bookListing.forEach(book -> ids.add(book.id())));
+
+        assertThat(ids).containsExactly(FIRST_BOOK_ID, SECOND_BOOK_ID, THIRD_BOOK_ID);
+    }
+
+    @Test
+    @DisplayName("should return the page after a given book")
+    void shouldReturnPageAfterBook() {
+        assertThat(bookListing.findPage(2)).extracting(BookDetailsDto::id)
+                .containsExactly(FIRST_BOOK_ID, SECOND_BOOK_ID);
+        assertThat(bookListing.findPageAfter(BookId.create(SECOND_BOOK_ID), 2)).extracting(BookDetailsDto::id)
+                .containsExactly(THIRD_BOOK_ID);
+    }
+
+    @Test
+    @DisplayName("should list the books a borrower holds")
+    void shouldListBooksBorrowerHolds() {
+        assertThat(bookListing.findByBorrower(BorrowerId.create(BORROWER_ID))).containsExactly(
+                new BookDetailsDto(SECOND_BOOK_ID, ISBN, "Clean Code", "Robert C. Martin", false,
+                        BORROWER_ID, BORROWED_ON));
+    }
+
+    @Test
+    @DisplayName("should read a borrower's books from the loans index alone")
+    void shouldReadBorrowersBooksFromIndexAlone() {
+        List<String> plan = explain("EXPLAIN (COSTS OFF) " + JdbcBookListing.BY_BORROWER_SQL);
+
+        assertThat(plan).anyMatch(line -> line.contains("Index Only Scan using idx_books_borrower_loans on books"));
+        assertThat(plan).noneMatch(line -> line.contains("Sort"));
+    }
+
+    @Test
+    @DisplayName("should check a borrower's books through the loans index")
+    void shouldCheckBorrowersBooksThroughLoansIndex() {
+        // The lookup PostgreSQL runs for the borrower_id foreign key when a borrower is deleted or re-keyed
+        List<String> plan = explain("EXPLAIN (COSTS OFF) SELECT 1 FROM ONLY books x WHERE borrower_id = ? FOR KEY SHARE OF x");
+
+        assertThat(plan).anyMatch(line -> line.contains("idx_books_borrower_loans"));
+        // No other index leads with borrower_id, so this one is all the check has
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM pg_indexes WHERE tablename = 'books' "
+                + "AND indexdef LIKE '%(borrower_id%'", Long.class)).isOne();
+    }
+
+    private List<String> explain(String sql) {
+        return transactionTemplate.execute(status -> {
+            // The table is too small for the planner to prefer an index on its own
+            jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+            jdbcTemplate.execute("SET LOCAL enable_bitmapscan = off");
+            return jdbcTemplate.queryForList(sql, String.class, BORROWER_ID);
+        });
+    }
+
+    private void insertBook(String id, String borrowerId, LocalDateTime borrowedOn) {
+        jdbcTemplate.update("INSERT INTO books (id, isbn, borrower_id, borrowed_on) VALUES (?, ?, ?, ?)",
+                id, ISBN, borrowerId, borrowedOn);
+    }
+}
@@ -0,0 +1,92 @@
+package io.github.onejacklee.library.infrastructure.persistence.query;
+
+import io.github.onejacklee.library.application.borrower.BorrowerDto;
+import io.github.onejacklee.library.application.borrower.BorrowerFilter;
+import io.github.onejacklee.library.domain.borrower.BorrowerId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.hibernate.ddl-auto=validate")
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("JdbcBorrowerListing")
+class JdbcBorrowerListingTest {
+
+    private static final String JANE_ID = "01ARZ3NDEKTSV4RRFFQ69G5FA1";
+    private static final String JOHN_ID = "01ARZ3NDEKTSV4RRFFQ69G5FA2";
+    private static final String JANET_ID = "01ARZ3NDEKTSV4RRFFQ69G5FA3";
+    private static final BorrowerFilter NO_FILTER = new BorrowerFilter(null, null);
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:18.1-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private JdbcBorrowerListing borrowerListing;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("TRUNCATE books, borrowers CASCADE");
+        // Inserted out of order, so the listing's order comes from the query
+        insertBorrower(JANET_ID, "Janet Smith", "janet_smith@example.com");
+        insertBorrower(JANE_ID, "Jane Doe", "jane.doe@example.com");
+        insertBorrower(JOHN_ID, "John Doe", "john.doe@example.com");
+    }
+
+    @Test
+    @DisplayName("should return the page after a given borrower")
+    void shouldReturnPageAfterBorrower() {
+        assertThat(borrowerListing.findPage(NO_FILTER, 2)).containsExactly(
+                new BorrowerDto(JANE_ID, "Jane Doe", "jane.doe@example.com"),
+                new BorrowerDto(JOHN_ID, "John Doe", "john.doe@example.com"));
+        assertThat(borrowerListing.findPageAfter(NO_FILTER, BorrowerId.create(JOHN_ID), 2))
+                .extracting(BorrowerDto::id)
+                .containsExactly(JANET_ID);
+    }
+
+    @Test
+    @DisplayName("should filter by email prefix, matching wildcard characters literally")
+    void shouldFilterByEmailPrefix() {
+        assertThat(borrowerListing.findPage(new BorrowerFilter("jane", null), 10))
+                .extracting(BorrowerDto::id)
+                .containsExactly(JANE_ID, JANET_ID);
+        assertThat(borrowerListing.findPage(new BorrowerFilter("jane_", null), 10))
+                .extracting(BorrowerDto::id)
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("should filter by name ignoring case, combined with the other filters")
+    void shouldFilterByName() {
+        assertThat(borrowerListing.findPage(new BorrowerFilter(null, "DOE"), 10))
+                .extracting(BorrowerDto::id)
+                .containsExactly(JANE_ID, JOHN_ID);
+        assertThat(borrowerListing.findPageAfter(new BorrowerFilter("j", "doe"), BorrowerId.create(JANE_ID), 10))
+                .extracting(BorrowerDto::id)
+                .containsExactly(JOHN_ID);
+    }
+
+    private void insertBorrower(String id, String name, String emailAddress) {
+        jdbcTemplate.update("INSERT INTO borrowers (id, name, email_address) VALUES (?, ?, ?)",
+                id, name, emailAddress);
+    }
+}
@@ -0,0 +1,92 @@
+package io.github.onejacklee.library.infrastructure.persistence.repository;
+
+import io.github.onejacklee.library.application.borrower.BorrowerImportDto;
+import io.github.onejacklee.library.application.borrower.BorrowerImportDto.Outcome;
+import io.github.onejacklee.library.application.borrower.BorrowerImportDto.RowResult;
+import io.github.onejacklee.library.application.borrower.ImportBorrowersCommand;
+import io.github.onejacklee.library.application.borrower.ImportBorrowersCommandHandler;
+import io.github.onejacklee.library.application.borrower.RegisterBorrowerCommand;
+import io.github.onejacklee.library.application.borrower.RegisterBorrowerCommandHandler;
+import io.github.onejacklee.library.domain.borrower.BorrowerRegistered;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.hibernate.ddl-auto=validate")
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Borrower import")
+class BorrowerImportTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:18.1-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private ImportBorrowersCommandHandler importHandler;
+
+    @Autowired
+    private RegisterBorrowerCommandHandler registerHandler;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("TRUNCATE books, borrowers, domain_event_outbox CASCADE");
+        registerHandler.handle(new RegisterBorrowerCommand("Jane Doe", "jane.doe@example.com"));
+    }
+
+    @Test
+    @DisplayName("should insert new borrowers and skip email addresses already registered")
+    void shouldInsertNewBorrowersAndSkipRegisteredEmails() {
+        BorrowerImportDto result = importHandler.handle(new ImportBorrowersCommand(Stream.of(
+                new ImportBorrowersCommand.Row("Jane Smith", "JANE.DOE@example.com"),
+                new ImportBorrowersCommand.Row("John Doe", "john.doe@example.com")).iterator()));
+
+        assertThat(result.rows()).extracting(RowResult::outcome)
+                .containsExactly(Outcome.ALREADY_REGISTERED, Outcome.IMPORTED);
+        assertThat(jdbcTemplate.queryForObject("SELECT name FROM borrowers WHERE id = ?", String.class,
+                result.rows().get(1).borrowerId())).isEqualTo("John Doe");
+        assertThat(jdbcTemplate.queryForObject("SELECT name FROM borrowers WHERE email_address = ?", String.class,
+                "jane.doe@example.com")).isEqualTo("Jane Doe");
+        assertThat(registrationEvents()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should import more rows than fit in one insert")
+    void shouldImportMoreRowsThanFitInOneInsert() {
+        int rows = BorrowerRepositoryImpl.INSERT_BATCH_SIZE * 2 + 1;
+
+        BorrowerImportDto result = importHandler.handle(new ImportBorrowersCommand(IntStream.range(0, rows)
+                .mapToObj(i -> new ImportBorrowersCommand.Row("Student " + i, "student" + i + "@example.com"))
+                .iterator()));
+
+        assertThat(result.count(Outcome.IMPORTED)).isEqualTo(rows);
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM borrowers", Integer.class)).isEqualTo(rows + 1);
+        assertThat(registrationEvents()).isEqualTo(rows + 1);
+    }
+
+    private int registrationEvents() {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM domain_event_outbox WHERE event_type = ?",
+                Integer.class, BorrowerRegistered.class.getName());
+    }
+}
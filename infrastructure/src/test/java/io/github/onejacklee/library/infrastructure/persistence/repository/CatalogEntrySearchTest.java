@@ -0,0 +1,184 @@
+package io.github.onejacklee.library.infrastructure.persistence.repository;
+
+import io.github.onejacklee.library.domain.catalogentry.CatalogEntry;
+import io.github.onejacklee.library.domain.catalogentry.CatalogSearchHit;
+import io.github.onejacklee.library.domain.catalogentry.CatalogSearchHits;
+import io.github.onejacklee.library.domain.catalogentry.CatalogSearchMode;
+import io.github.onejacklee.library.domain.catalogentry.Isbn;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "library.search.top-hits.refresh-interval=0"
+})
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("CatalogEntryRepositoryImpl search")
+class CatalogEntrySearchTest {
+
+    // More entries share this word than get ranked
+    private static final int ATLAS_ENTRIES = CatalogEntryRepositoryImpl.MAX_RANKED_MATCHES + 200;
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:18.1-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @BeforeAll
+    static void seed(@Autowired CatalogEntryRepositoryImpl repository, @Autowired JdbcTemplate jdbcTemplate,
+                     @Autowired TransactionTemplate transactionTemplate) {
+        jdbcTemplate.execute("TRUNCATE books, catalog_entries CASCADE");
+        transactionTemplate.executeWithoutResult(status -> repository.insertAll(List.of(
+                CatalogEntry.create("9780132350884", "Clean Code", "Robert C. Martin"),
+                CatalogEntry.create("9780134494166", "Clean Architecture", "Robert C. Martin"),
+                CatalogEntry.create("9780134757599", "Refactoring", "Martin Fowler"),
+                CatalogEntry.create("9780134685991", "Effective Java", "Joshua Bloch"),
+                CatalogEntry.create("9780321125217", "Domain-Driven Design", "Eric Evans"),
+                CatalogEntry.create("9780140187724", "Martin Eden", "Jack London"),
+                CatalogEntry.create("9780135957059", "The Pragmatic Programmer", "David Thomas")
+        )));
+        // Inserted highest ISBN first, so the ranked matches are not simply the first rows in the table. Half of the
+        // entries have the word in the title and half in the author, so most hits tie on score.
+        transactionTemplate.executeWithoutResult(status -> repository.insertAll(
+                IntStream.range(0, ATLAS_ENTRIES)
+                        .map(i -> ATLAS_ENTRIES - 1 - i)
+                        .mapToObj(i -> i % 2 == 0
+                                ? CatalogEntry.create(atlasIsbn(i), "Atlas Volume " + i, "Gerardus Mercator")
+                                : CatalogEntry.create(atlasIsbn(i), "Volume " + i, "Atlas Press"))
+                        .toList()));
+    }
+
+    private static String atlasIsbn(int i) {
+        String digits = "979%09d".formatted(i);
+        int sum = 0;
+        for (int d = 0; d < digits.length(); d++) {
+            sum += (digits.charAt(d) - '0') * (d % 2 == 0 ? 1 : 3);
+        }
+        return digits + (10 - sum % 10) % 10;
+    }
+
+    @Autowired
+    private CatalogEntryRepositoryImpl repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("should rank title matches above author matches")
+    void shouldRankTitleMatchesAboveAuthorMatches() {
+        List<CatalogSearchHit> hits = repository.search("martin", CatalogSearchMode.FULL_TEXT, 10).hits();
+
+        assertThat(hits).extracting(CatalogSearchHit::title)
+                .hasSize(4)
+                .first()
+                .isEqualTo("Martin Eden");
+        assertThat(hits).extracting(CatalogSearchHit::score).isSortedAccordingTo((a, b) -> Float.compare(b, a));
+    }
+
+    @Test
+    @DisplayName("should match stemmed words")
+    void shouldMatchStemmedWords() {
+        assertThat(repository.search("designs", CatalogSearchMode.FULL_TEXT, 10).hits())
+                .extracting(CatalogSearchHit::title)
+                .containsExactly("Domain-Driven Design");
+    }
+
+    @Test
+    @DisplayName("should find misspelled words by similarity")
+    void shouldFindMisspelledWordsBySimilarity() {
+        assertThat(repository.search("refactorng", CatalogSearchMode.FULL_TEXT, 10).hits()).isEmpty();
+        assertThat(repository.search("refactorng", CatalogSearchMode.SIMILARITY, 10).hits())
+                .extracting(CatalogSearchHit::title)
+                .first()
+                .isEqualTo("Refactoring");
+    }
+
+    @Test
+    @DisplayName("should not compare stopword-only text by similarity")
+    void shouldNotCompareStopwordsBySimilarity() {
+        assertThat(repository.search("the", CatalogSearchMode.SIMILARITY, 10).hits()).isEmpty();
+        assertThat(repository.search("the pragmatc", CatalogSearchMode.SIMILARITY, 10).hits())
+                .extracting(CatalogSearchHit::title)
+                .first()
+                .isEqualTo("The Pragmatic Programmer");
+    }
+
+    @Test
+    @DisplayName("should limit how long similarity search runs for the rest of the transaction")
+    void shouldLimitSimilaritySearchDuration() {
+        assertThat(statementTimeoutAfterSearch("refactoring", CatalogSearchMode.FULL_TEXT)).isEqualTo("0");
+        assertThat(statementTimeoutAfterSearch("refactorng", CatalogSearchMode.SIMILARITY)).isEqualTo("250ms");
+        assertThat(jdbcTemplate.queryForObject("SHOW statement_timeout", String.class)).isEqualTo("0");
+    }
+
+    @Test
+    @DisplayName("should page through hits without gaps or repeats")
+    void shouldPageThroughHitsWithoutGapsOrRepeats() {
+        List<CatalogSearchHit> all = repository.search("martin", CatalogSearchMode.FULL_TEXT, 10).hits();
+
+        CatalogSearchHits first = repository.search("martin", CatalogSearchMode.FULL_TEXT, 2);
+        CatalogSearchHit last = first.hits().get(first.hits().size() - 1);
+        CatalogSearchHits second = repository.searchAfter(
+                "martin", CatalogSearchMode.FULL_TEXT, last.score(), last.isbn(), 2);
+
+        assertThat(first.hits()).hasSize(2);
+        assertThat(second.hits()).hasSize(2);
+        assertThat(List.of(first.hits().get(0), first.hits().get(1), second.hits().get(0), second.hits().get(1)))
+                .containsExactlyElementsOf(all);
+        assertThat(first.partial()).isFalse();
+        assertThat(second.partial()).isFalse();
+    }
+
+    @Test
+    @DisplayName("should page through capped hits without gaps or repeats")
+    void shouldPageThroughCappedHitsWithoutGapsOrRepeats() {
+        CatalogSearchHits page = repository.search("atlas", CatalogSearchMode.FULL_TEXT, 100);
+        List<CatalogSearchHit> paged = new ArrayList<>(page.hits());
+        while (!page.hits().isEmpty()) {
+            assertThat(page.partial()).isTrue();
+            CatalogSearchHit last = page.hits().get(page.hits().size() - 1);
+            page = repository.searchAfter("atlas", CatalogSearchMode.FULL_TEXT, last.score(), last.isbn(), 100);
+            paged.addAll(page.hits());
+        }
+
+        assertThat(paged).containsExactlyElementsOf(
+                repository.search("atlas", CatalogSearchMode.FULL_TEXT, ATLAS_ENTRIES).hits());
+        // The ranked matches are the ones with the lowest ISBNs
+        assertThat(paged).extracting(CatalogSearchHit::isbn)
+                .doesNotHaveDuplicates()
+                .containsExactlyInAnyOrderElementsOf(IntStream.range(0, CatalogEntryRepositoryImpl.MAX_RANKED_MATCHES)
+                        .mapToObj(i -> Isbn.create(atlasIsbn(i)))
+                        .toList());
+    }
+
+    private String statementTimeoutAfterSearch(String text, CatalogSearchMode mode) {
+        return transactionTemplate.execute(status -> {
+            repository.search(text, mode, 10);
+            return jdbcTemplate.queryForObject("SHOW statement_timeout", String.class);
+        });
+    }
+}
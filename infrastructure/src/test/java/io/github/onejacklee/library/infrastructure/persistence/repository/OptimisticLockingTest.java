@@ -0,0 +1,135 @@
+package io.github.onejacklee.library.infrastructure.persistence.repository;
+
+import io.github.onejacklee.library.application.book.BorrowBookCommand;
+import io.github.onejacklee.library.application.book.BorrowBookCommandHandler;
+import io.github.onejacklee.library.application.book.RegisterBookCommand;
+import io.github.onejacklee.library.application.book.RegisterBookCommandHandler;
+import io.github.onejacklee.library.application.book.ReturnBookCommand;
+import io.github.onejacklee.library.application.book.ReturnBookCommandHandler;
+import io.github.onejacklee.library.application.borrower.RegisterBorrowerCommand;
+import io.github.onejacklee.library.application.borrower.RegisterBorrowerCommandHandler;
+import io.github.onejacklee.library.application.catalogentry.GetCatalogEntryByIsbnQuery;
+import io.github.onejacklee.library.application.catalogentry.GetCatalogEntryByIsbnQueryHandler;
+import io.github.onejacklee.library.application.catalogentry.UpdateCatalogEntryCommand;
+import io.github.onejacklee.library.application.catalogentry.UpdateCatalogEntryCommandHandler;
+import io.github.onejacklee.library.domain.catalogentry.CatalogEntry;
+import io.github.onejacklee.library.domain.catalogentry.Isbn;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "spring.jpa.hibernate.ddl-auto=validate")
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Optimistic locking")
+class OptimisticLockingTest {
+
+    private static final String ISBN = "9780132350884";
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:18.1-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private CatalogEntryRepositoryImpl catalogEntryRepository;
+
+    @Autowired
+    private RegisterBookCommandHandler registerBookHandler;
+
+    @Autowired
+    private RegisterBorrowerCommandHandler registerBorrowerHandler;
+
+    @Autowired
+    private BorrowBookCommandHandler borrowHandler;
+
+    @Autowired
+    private ReturnBookCommandHandler returnHandler;
+
+    @Autowired
+    private GetCatalogEntryByIsbnQueryHandler getCatalogEntryHandler;
+
+    @Autowired
+    private UpdateCatalogEntryCommandHandler updateCatalogEntryHandler;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private String bookId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("TRUNCATE books, borrowers, catalog_entries CASCADE");
+        bookId = registerBookHandler.handle(new RegisterBookCommand(ISBN, "Clean Code", "Robert C. Martin")).id();
+    }
+
+    @Test
+    @DisplayName("should reject saving an aggregate loaded before a concurrent update")
+    void shouldRejectStaleSave() {
+        CatalogEntry stale = catalogEntryRepository.findByIsbn(Isbn.create(ISBN)).orElseThrow();
+        concurrentlyRetitle("Clean Code (Concurrent Edition)");
+
+        stale.updateTitle("Clean Code (Lost Edition)");
+
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status ->
+                catalogEntryRepository.save(stale))).isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(titleInDatabase()).isEqualTo("Clean Code (Concurrent Edition)");
+    }
+
+    @Test
+    @DisplayName("should retry an update that read a version changed underneath it")
+    void shouldRetryUpdateOfChangedVersion() {
+        // Caches the entry at its current version, which the concurrent write then makes stale
+        getCatalogEntryHandler.handle(new GetCatalogEntryByIsbnQuery(ISBN));
+        concurrentlyRetitle("Clean Code (Concurrent Edition)");
+
+        updateCatalogEntryHandler.handle(
+                new UpdateCatalogEntryCommand(ISBN, "Clean Code 2nd Edition", "Robert C. Martin"));
+
+        assertThat(titleInDatabase()).isEqualTo("Clean Code 2nd Edition");
+        assertThat(jdbcTemplate.queryForObject("SELECT version FROM catalog_entries", Long.class)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should increment a book's version on borrow and return")
+    void shouldIncrementBookVersionOnBorrowAndReturn() {
+        String borrowerId = registerBorrowerHandler.handle(
+                new RegisterBorrowerCommand("Jane Doe", UUID.randomUUID() + "@example.com")).id();
+
+        borrowHandler.handle(new BorrowBookCommand(bookId, borrowerId));
+        returnHandler.handle(new ReturnBookCommand(bookId, borrowerId));
+
+        assertThat(jdbcTemplate.queryForObject("SELECT version FROM books", Long.class)).isEqualTo(2);
+    }
+
+    // A write from another node, which neither this node's cache nor its persistence context knows about
+    private void concurrentlyRetitle(String title) {
+        jdbcTemplate.update("UPDATE catalog_entries SET title = ?, version = version + 1 WHERE isbn = ?", title, ISBN);
+    }
+
+    private String titleInDatabase() {
+        return jdbcTemplate.queryForObject("SELECT title FROM catalog_entries WHERE isbn = ?", String.class, ISBN);
+    }
+}
@@ -0,0 +1,97 @@
+package io.github.onejacklee.library.infrastructure.persistence.repository;
+
+import io.github.onejacklee.library.application.book.BorrowBookCommand;
+import io.github.onejacklee.library.application.book.BorrowBookCommandHandler;
+import io.github.onejacklee.library.application.borrower.RegisterBorrowerCommand;
+import io.github.onejacklee.library.application.borrower.RegisterBorrowerCommandHandler;
+import io.github.onejacklee.library.application.catalogentry.CatalogSearchHitDto;
+import io.github.onejacklee.library.application.catalogentry.GetCatalogEntryByIsbnQuery;
+import io.github.onejacklee.library.application.catalogentry.GetCatalogEntryByIsbnQueryHandler;
+import io.github.onejacklee.library.application.catalogentry.SearchCatalogEntriesQuery;
+import io.github.onejacklee.library.application.catalogentry.SearchCatalogEntriesQueryHandler;
+import io.github.onejacklee.library.application.catalogentry.UpdateCatalogEntryCommand;
+import io.github.onejacklee.library.application.catalogentry.UpdateCatalogEntryCommandHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Rows written before check digits were validated must stay readable
+@SpringBootTest(properties = "spring.jpa.hibernate.ddl-auto=validate")
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("ISBNs stored with an invalid check digit")
+class StoredIsbnTest {
+
+    private static final String ISBN = "9780132350885";
+    private static final String BOOK_ID = "01ARZ3NDEKTSV4RRFFQ69G5FAV";
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:18.1-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private GetCatalogEntryByIsbnQueryHandler getCatalogEntryHandler;
+
+    @Autowired
+    private UpdateCatalogEntryCommandHandler updateCatalogEntryHandler;
+
+    @Autowired
+    private SearchCatalogEntriesQueryHandler searchHandler;
+
+    @Autowired
+    private RegisterBorrowerCommandHandler registerBorrowerHandler;
+
+    @Autowired
+    private BorrowBookCommandHandler borrowHandler;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("TRUNCATE books, borrowers, catalog_entries CASCADE");
+        jdbcTemplate.update("INSERT INTO catalog_entries (isbn, title, author) VALUES (?, ?, ?)",
+                ISBN, "Clean Code", "Robert C. Martin");
+        jdbcTemplate.update("INSERT INTO books (id, isbn) VALUES (?, ?)", BOOK_ID, ISBN);
+    }
+
+    @Test
+    @DisplayName("should get, update and search the catalog entry")
+    void shouldReadCatalogEntry() {
+        assertThat(getCatalogEntryHandler.handle(new GetCatalogEntryByIsbnQuery(ISBN)).title())
+                .isEqualTo("Clean Code");
+
+        updateCatalogEntryHandler.handle(new UpdateCatalogEntryCommand(ISBN, "Clean Code 2nd Edition",
+                "Robert C. Martin"));
+
+        assertThat(searchHandler.handle(new SearchCatalogEntriesQuery("clean code", 10, null)).items())
+                .extracting(CatalogSearchHitDto::isbn)
+                .containsExactly(ISBN);
+    }
+
+    @Test
+    @DisplayName("should borrow a copy")
+    void shouldBorrowCopy() {
+        String borrowerId = registerBorrowerHandler.handle(
+                new RegisterBorrowerCommand("Jane Doe", "jane.doe@example.com")).id();
+
+        borrowHandler.handle(new BorrowBookCommand(BOOK_ID, borrowerId));
+
+        assertThat(jdbcTemplate.queryForObject("SELECT borrower_id FROM books", String.class)).isEqualTo(borrowerId);
+    }
+}
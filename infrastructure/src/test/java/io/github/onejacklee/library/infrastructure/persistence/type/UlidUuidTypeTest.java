@@ -0,0 +1,107 @@
+package io.github.onejacklee.library.infrastructure.persistence.type;
+
+import com.github.f4b6a3.ulid.UlidCreator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@DisplayName("UlidUuidType")
+class UlidUuidTypeTest {
+
+    private static final String ULID = "01ARZ3NDEKTSV4RRFFQ69G5FAV";
+
+    private final UlidUuidType type = new UlidUuidType();
+
+    @Nested
+    @DisplayName("conversion")
+    class Conversion {
+
+        @Test
+        @DisplayName("should round-trip a ULID through uuid")
+        void shouldRoundTripThroughUuid() {
+            UUID uuid = UlidUuidType.toUuid(ULID);
+
+            assertThat(uuid).isEqualTo(UUID.fromString("01563e3a-b5d3-d676-4c61-efb99302bd5b"));
+            assertThat(UlidUuidType.fromUuid(uuid)).isEqualTo(ULID);
+        }
+
+        @Test
+        @DisplayName("should pass null through")
+        void shouldPassNullThrough() {
+            assertThat(UlidUuidType.toUuid(null)).isNull();
+            assertThat(UlidUuidType.fromUuid(null)).isNull();
+        }
+
+        @Test
+        @DisplayName("should preserve ULID ordering as unsigned byte ordering")
+        void shouldPreserveOrdering() {
+            List<String> ulids = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                ulids.add(UlidCreator.getUlid().toString());
+            }
+
+            // PostgreSQL compares uuid values byte by byte, i.e. as unsigned 128-bit numbers
+            Comparator<UUID> unsigned = Comparator
+                    .comparing((UUID uuid) -> uuid.getMostSignificantBits(), Long::compareUnsigned)
+                    .thenComparing(UUID::getLeastSignificantBits, Long::compareUnsigned);
+            List<String> sortedByUuid = ulids.stream()
+                    .map(UlidUuidType::toUuid)
+                    .sorted(unsigned)
+                    .map(UlidUuidType::fromUuid)
+                    .toList();
+
+            assertThat(sortedByUuid).isEqualTo(ulids.stream().sorted().toList());
+        }
+    }
+
+    @Nested
+    @DisplayName("JDBC binding")
+    class JdbcBinding {
+
+        @Test
+        @DisplayName("should bind the uuid form")
+        void shouldBindUuid() throws Exception {
+            PreparedStatement statement = mock(PreparedStatement.class);
+
+            type.nullSafeSet(statement, ULID, 1, null);
+
+            verify(statement).setObject(1, UlidUuidType.toUuid(ULID));
+        }
+
+        @Test
+        @DisplayName("should read the ULID string form")
+        void shouldReadUlid() throws Exception {
+            ResultSet resultSet = mock(ResultSet.class);
+            when(resultSet.getObject(1, UUID.class)).thenReturn(UlidUuidType.toUuid(ULID));
+
+            assertThat(type.nullSafeGet(resultSet, 1, null)).isEqualTo(ULID);
+        }
+    }
+
+    @Nested
+    @DisplayName("UlidColumns")
+    class Columns {
+
+        @Test
+        @DisplayName("should bind strings as-is by default")
+        void shouldBindStringsByDefault() {
+            assertThat(new UlidColumns(false).bind(ULID)).isEqualTo(ULID);
+        }
+
+        @Test
+        @DisplayName("should bind uuid in compact mode")
+        void shouldBindUuidInCompactMode() {
+            assertThat(new UlidColumns(true).bind(ULID)).isEqualTo(UlidUuidType.toUuid(ULID));
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package io.github.onejacklee.library.infrastructure.search;
+
+import io.github.onejacklee.library.domain.catalogentry.CatalogEntry;
+import io.github.onejacklee.library.domain.catalogentry.CatalogSearchHit;
+import io.github.onejacklee.library.domain.catalogentry.CatalogSearchHits;
+import io.github.onejacklee.library.domain.catalogentry.CatalogSearchMode;
+import io.github.onejacklee.library.domain.catalogentry.Isbn;
+import io.github.onejacklee.library.infrastructure.persistence.repository.CatalogEntryRepositoryImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "library.search.top-hits.refresh-interval=0"
+})
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("CatalogSearchTopHits")
+class CatalogSearchTopHitsTest {
+
+    private static final int RIVER_ENTRIES = CatalogEntryRepositoryImpl.MAX_RANKED_MATCHES + 200;
+    // Entries from here on have the word in the title, so the best matches are not the ones with the lowest ISBNs
+    private static final int FIRST_TITLE_MATCH = RIVER_ENTRIES / 2;
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:18.1-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private CatalogSearchTopHits topHits;
+
+    @Autowired
+    private CatalogEntryRepositoryImpl repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("TRUNCATE books, catalog_entries, catalog_search_frequent_words CASCADE");
+        transactionTemplate.executeWithoutResult(status -> repository.insertAll(
+                IntStream.range(0, RIVER_ENTRIES)
+                        .mapToObj(i -> i >= FIRST_TITLE_MATCH
+                                ? CatalogEntry.create(riverIsbn(i), "River Guide " + i, "Anna Lee")
+                                : CatalogEntry.create(riverIsbn(i), "Guide " + i, "River Press"))
+                        .toList()));
+    }
+
+    private static String riverIsbn(int i) {
+        String digits = "979%09d".formatted(i);
+        int sum = 0;
+        for (int d = 0; d < digits.length(); d++) {
+            sum += (digits.charAt(d) - '0') * (d % 2 == 0 ? 1 : 3);
+        }
+        return digits + (10 - sum % 10) % 10;
+    }
+
+    @Test
+    @DisplayName("should rank only the lowest ISBNs of a frequent word until its best matches are kept")
+    void shouldRankLowestIsbnsUntilRefreshed() {
+        CatalogSearchHits hits = search("river");
+
+        assertThat(hits.partial()).isTrue();
+        assertThat(hits.hits()).extracting(CatalogSearchHit::isbn)
+                .doesNotContain(Isbn.create(riverIsbn(RIVER_ENTRIES - 1)));
+    }
+
+    @Test
+    @DisplayName("should return the best matches of a frequent word once refreshed")
+    void shouldReturnBestMatchesOnceRefreshed() {
+        topHits.refresh();
+
+        CatalogSearchHits hits = search("river");
+
+        assertThat(hits.partial()).isFalse();
+        assertThat(hits.hits()).extracting(hit -> hit.isbn().value()).containsExactlyElementsOf(bestMatches("river"));
+        assertThat(hits.hits()).extracting(CatalogSearchHit::title)
+                .first()
+                .asString()
+                .startsWith("River Guide");
+    }
+
+    @Test
+    @DisplayName("should keep the best matches current as entries change")
+    void shouldKeepBestMatchesCurrent() {
+        topHits.refresh();
+        String demoted = riverIsbn(RIVER_ENTRIES - 1);
+        transactionTemplate.executeWithoutResult(status -> {
+            repository.save(CatalogEntry.create("9780132350884", "River River River", "Anna Lee"));
+            CatalogEntry entry = repository.findByIsbn(Isbn.create(demoted)).orElseThrow();
+            repository.save(entry.updateTitle("Lake Guide"));
+        });
+
+        CatalogSearchHits hits = search("river");
+
+        assertThat(hits.partial()).isFalse();
+        assertThat(hits.hits()).extracting(hit -> hit.isbn().value())
+                .startsWith("9780132350884")
+                .doesNotContain(demoted)
+                .containsExactlyElementsOf(bestMatches("river"));
+    }
+
+    @Test
+    @DisplayName("should page through the best matches without gaps or repeats")
+    void shouldPageThroughBestMatches() {
+        topHits.refresh();
+
+        CatalogSearchHits page = repository.search("river", CatalogSearchMode.FULL_TEXT, 100);
+        List<CatalogSearchHit> paged = new ArrayList<>(page.hits());
+        while (!page.hits().isEmpty()) {
+            assertThat(page.partial()).isFalse();
+            CatalogSearchHit last = page.hits().get(page.hits().size() - 1);
+            page = repository.searchAfter("river", CatalogSearchMode.FULL_TEXT, last.score(), last.isbn(), 100);
+            paged.addAll(page.hits());
+        }
+
+        assertThat(paged).containsExactlyElementsOf(search("river").hits());
+    }
+
+    @Test
+    @DisplayName("should forget a word that no longer matches too many entries")
+    void shouldForgetWordNoLongerFrequent() {
+        topHits.refresh();
+        jdbcTemplate.update("DELETE FROM catalog_entries WHERE title LIKE 'Guide %'");
+
+        topHits.refresh();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM catalog_search_frequent_words", Long.class))
+                .isZero();
+        assertThat(search("river").partial()).isFalse();
+    }
+
+    private CatalogSearchHits search(String text) {
+        return repository.search(text, CatalogSearchMode.FULL_TEXT, RIVER_ENTRIES);
+    }
+
+    // Ranks every match, which is what keeping the best ones saves a search from doing
+    private List<String> bestMatches(String text) {
+        return jdbcTemplate.queryForList("""
+                SELECT isbn
+                FROM catalog_entries, websearch_to_tsquery('english', ?) query
+                WHERE search_vector @@ query
+                ORDER BY ts_rank_cd(search_vector, query) DESC, isbn
+                LIMIT ?
+                """, String.class, text, CatalogEntryRepositoryImpl.MAX_RANKED_MATCHES);
+    }
+}
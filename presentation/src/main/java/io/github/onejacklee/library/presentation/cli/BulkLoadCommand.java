@@ -0,0 +1,75 @@
+package io.github.onejacklee.library.presentation.cli;
+
+import io.github.onejacklee.library.infrastructure.bulkload.BulkLoadResult;
+import io.github.onejacklee.library.infrastructure.bulkload.BulkLoadRow;
+import io.github.onejacklee.library.infrastructure.bulkload.CatalogBulkLoader;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.MappingIterator;
+import tools.jackson.dataformat.csv.CsvMapper;
+import tools.jackson.dataformat.csv.CsvSchema;
+
+import java.nio.file.Path;
+import java.util.Iterator;
+
+/**
+ * Loads a catalog/inventory CSV export (header {@code isbn,title,author,copies}; copies defaults to 1)
+ * through {@link CatalogBulkLoader}. Runs once at startup when {@code library.bulk-load.file} is set;
+ * the {@code bulk-load} profile also switches off the web server so the process exits when done.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty("library.bulk-load.file")
+public class BulkLoadCommand implements ApplicationRunner {
+
+    private final CatalogBulkLoader loader;
+    private final Path file;
+
+    public BulkLoadCommand(CatalogBulkLoader loader, @Value("${library.bulk-load.file}") Path file) {
+        this.loader = loader;
+        this.file = file;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        log.info("Bulk loading {}", file);
+        long startedAt = System.nanoTime();
+
+        CsvSchema schema = CsvSchema.emptySchema().withHeader();
+        BulkLoadResult result;
+        try (MappingIterator<CsvRow> rows = new CsvMapper().readerFor(CsvRow.class).with(schema).readValues(file)) {
+            result = loader.load(numbered(rows));
+        }
+
+        result.rejections().forEach(rejection ->
+                log.warn("Rejected row {}: {}", rejection.rowNumber(), rejection.reason()));
+        log.info("Bulk load finished in {} ms: {} rows read, {} rejected, {} catalog entries and {} books created",
+                (System.nanoTime() - startedAt) / 1_000_000, result.rowsRead(), result.rowsRejected(),
+                result.catalogEntriesCreated(), result.booksCreated());
+    }
+
+    private static Iterator<BulkLoadRow> numbered(Iterator<CsvRow> rows) {
+        return new Iterator<>() {
+            private long rowNumber;
+
+            @Override
+            public boolean hasNext() {
+                return rows.hasNext();
+            }
+
+            @Override
+            public BulkLoadRow next() {
+                CsvRow row = rows.next();
+                return new BulkLoadRow(++rowNumber, row.isbn(), row.title(), row.author(),
+                        row.copies() == null ? 1 : row.copies());
+            }
+        };
+    }
+
+    private record CsvRow(String isbn, String title, String author, Integer copies) {
+    }
+}
@@ -3,16 +3,24 @@ package io.github.onejacklee.library.presentation.controller;
 import io.github.onejacklee.library.application.book.*;
 import io.github.onejacklee.library.presentation.dto.request.BorrowBookRequest;
 import io.github.onejacklee.library.presentation.dto.request.RegisterBookRequest;
+import io.github.onejacklee.library.presentation.dto.request.RegisterBooksInBulkRequest;
 import io.github.onejacklee.library.presentation.dto.request.ReturnBookRequest;
+import io.github.onejacklee.library.presentation.dto.response.BookPageResponse;
 import io.github.onejacklee.library.presentation.dto.response.BookResponse;
+import io.github.onejacklee.library.presentation.dto.response.BulkRegistrationResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import tools.jackson.databind.ObjectMapper;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 
 @RestController
 @RequestMapping("/api/books")
@@ -21,9 +29,12 @@ import java.util.List;
 public class BooksController {
 
     private final RegisterBookCommandHandler registerHandler;
+    private final RegisterBooksInBulkCommandHandler registerInBulkHandler;
+    private final GetBooksPageQueryHandler getPageHandler;
     private final GetAllBooksQueryHandler getAllHandler;
     private final BorrowBookCommandHandler borrowHandler;
     private final ReturnBookCommandHandler returnHandler;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
@@ -33,12 +44,38 @@ public class BooksController {
         return BookResponse.from(registerHandler.handle(command));
     }
 
+    @PostMapping("/bulk")
+    @Operation(summary = "Register many books in one request, reporting the outcome of every row")
+    public BulkRegistrationResponse registerInBulk(@Valid @RequestBody RegisterBooksInBulkRequest request) {
+        var command = new RegisterBooksInBulkCommand(request.books().stream()
+                .map(row -> new RegisterBooksInBulkCommand.Row(
+                        row.isbn(), row.title(), row.author(), row.copiesOrDefault()))
+                .toList());
+        return BulkRegistrationResponse.from(registerInBulkHandler.handle(command));
+    }
+
     @GetMapping
-    @Operation(summary = "Get all books")
-    public List<BookResponse> getAll() {
-        return getAllHandler.handle(new GetAllBooksQuery()).stream()
-                .map(BookResponse::from)
-                .toList();
+    @Operation(summary = "Get books, one keyset page at a time")
+    public BookPageResponse getAll(@RequestParam(defaultValue = "50") int pageSize,
+                                   @RequestParam(required = false) String continuationToken) {
+        var query = new GetBooksPageQuery(pageSize, continuationToken);
+        return BookPageResponse.from(getPageHandler.handle(query));
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Export all books as newline-delimited JSON")
+    public void exportAll(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        OutputStream out = response.getOutputStream();
+        getAllHandler.handle(new GetAllBooksQuery(), dto -> {
+            try {
+                out.write(objectMapper.writeValueAsBytes(BookResponse.from(dto)));
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        out.flush();
     }
 
     @PostMapping("/{bookId}/borrow")
@@ -1,18 +1,35 @@
 package io.github.onejacklee.library.presentation.controller;
 
-import io.github.onejacklee.library.application.borrower.GetAllBorrowersQuery;
-import io.github.onejacklee.library.application.borrower.GetAllBorrowersQueryHandler;
+import io.github.onejacklee.library.application.book.GetBorrowerLoansQuery;
+import io.github.onejacklee.library.application.book.GetBorrowerLoansQueryHandler;
+import io.github.onejacklee.library.application.borrower.GetBorrowersPageQuery;
+import io.github.onejacklee.library.application.borrower.GetBorrowersPageQueryHandler;
+import io.github.onejacklee.library.application.borrower.ImportBorrowersCommand;
+import io.github.onejacklee.library.application.borrower.ImportBorrowersCommandHandler;
 import io.github.onejacklee.library.application.borrower.RegisterBorrowerCommand;
 import io.github.onejacklee.library.application.borrower.RegisterBorrowerCommandHandler;
+import io.github.onejacklee.library.presentation.dto.request.ImportBorrowerRow;
 import io.github.onejacklee.library.presentation.dto.request.RegisterBorrowerRequest;
+import io.github.onejacklee.library.presentation.dto.response.BookResponse;
+import io.github.onejacklee.library.presentation.dto.response.BorrowerImportResponse;
+import io.github.onejacklee.library.presentation.dto.response.BorrowerPageResponse;
 import io.github.onejacklee.library.presentation.dto.response.BorrowerResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.MappingIterator;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.dataformat.csv.CsvMapper;
+import tools.jackson.dataformat.csv.CsvSchema;
 
+import java.io.InputStream;
+import java.util.Iterator;
 import java.util.List;
 
 @RestController
@@ -21,8 +38,17 @@ import java.util.List;
 @Tag(name = "Borrowers", description = "Borrower management endpoints")
 public class BorrowersController {
 
+    private static final String TEXT_CSV_VALUE = "text/csv";
+
+    private static final ObjectReader CSV_ROW_READER = new CsvMapper()
+            .readerFor(ImportBorrowerRow.class)
+            .with(CsvSchema.emptySchema().withHeader());
+
     private final RegisterBorrowerCommandHandler registerHandler;
-    private final GetAllBorrowersQueryHandler getAllHandler;
+    private final ImportBorrowersCommandHandler importHandler;
+    private final GetBorrowersPageQueryHandler getPageHandler;
+    private final GetBorrowerLoansQueryHandler getLoansHandler;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
@@ -32,11 +58,57 @@ public class BorrowersController {
         return BorrowerResponse.from(registerHandler.handle(command));
     }
 
+    @PostMapping(path = "/import", consumes = TEXT_CSV_VALUE)
+    @Operation(summary = "Import borrowers from a CSV body with a name,emailAddress header, reporting every row")
+    public BorrowerImportResponse importCsv(InputStream body) {
+        return importRows(CSV_ROW_READER, body);
+    }
+
+    @PostMapping(path = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Import borrowers from newline-delimited JSON, reporting every row")
+    public BorrowerImportResponse importNdjson(InputStream body) {
+        return importRows(objectMapper.readerFor(ImportBorrowerRow.class), body);
+    }
+
+    // The body is parsed while the import runs rather than read up front
+    private BorrowerImportResponse importRows(ObjectReader reader, InputStream body) {
+        try (MappingIterator<ImportBorrowerRow> rows = reader.readValues(body)) {
+            return BorrowerImportResponse.from(importHandler.handle(new ImportBorrowersCommand(commandRows(rows))));
+        } catch (JacksonException e) {
+            throw new IllegalArgumentException("Malformed import: " + e.getOriginalMessage(), e);
+        }
+    }
+
+    private static Iterator<ImportBorrowersCommand.Row> commandRows(Iterator<ImportBorrowerRow> rows) {
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return rows.hasNext();
+            }
+
+            @Override
+            public ImportBorrowersCommand.Row next() {
+                ImportBorrowerRow row = rows.next();
+                return new ImportBorrowersCommand.Row(row.name(), row.emailAddress());
+            }
+        };
+    }
+
     @GetMapping
-    @Operation(summary = "Get all borrowers")
-    public List<BorrowerResponse> getAll() {
-        return getAllHandler.handle(new GetAllBorrowersQuery()).stream()
-                .map(BorrowerResponse::from)
+    @Operation(summary = "Get borrowers, one keyset page at a time, optionally filtered by email prefix or name")
+    public BorrowerPageResponse getAll(@RequestParam(defaultValue = "50") int pageSize,
+                                       @RequestParam(required = false) String continuationToken,
+                                       @RequestParam(required = false) String emailPrefix,
+                                       @RequestParam(required = false) String name) {
+        var query = new GetBorrowersPageQuery(pageSize, continuationToken, emailPrefix, name);
+        return BorrowerPageResponse.from(getPageHandler.handle(query));
+    }
+
+    @GetMapping("/{borrowerId}/loans")
+    @Operation(summary = "Get the books a borrower currently holds")
+    public List<BookResponse> getLoans(@PathVariable String borrowerId) {
+        return getLoansHandler.handle(new GetBorrowerLoansQuery(borrowerId)).stream()
+                .map(BookResponse::from)
                 .toList();
     }
 }
@@ -1,17 +1,25 @@
 package io.github.onejacklee.library.presentation.controller;
 
+import io.github.onejacklee.library.application.catalogentry.AutocompleteCatalogEntriesQuery;
+import io.github.onejacklee.library.application.catalogentry.AutocompleteCatalogEntriesQueryHandler;
 import io.github.onejacklee.library.application.catalogentry.GetCatalogEntryByIsbnQuery;
 import io.github.onejacklee.library.application.catalogentry.GetCatalogEntryByIsbnQueryHandler;
+import io.github.onejacklee.library.application.catalogentry.SearchCatalogEntriesQuery;
+import io.github.onejacklee.library.application.catalogentry.SearchCatalogEntriesQueryHandler;
 import io.github.onejacklee.library.application.catalogentry.UpdateCatalogEntryCommand;
 import io.github.onejacklee.library.application.catalogentry.UpdateCatalogEntryCommandHandler;
 import io.github.onejacklee.library.presentation.dto.request.UpdateCatalogEntryRequest;
 import io.github.onejacklee.library.presentation.dto.response.CatalogEntryResponse;
+import io.github.onejacklee.library.presentation.dto.response.CatalogSearchPageResponse;
+import io.github.onejacklee.library.presentation.dto.response.CatalogSuggestionResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/catalog-entries")
 @RequiredArgsConstructor
@@ -20,6 +28,27 @@ public class CatalogEntriesController {
 
     private final GetCatalogEntryByIsbnQueryHandler getByIsbnHandler;
     private final UpdateCatalogEntryCommandHandler updateHandler;
+    private final SearchCatalogEntriesQueryHandler searchHandler;
+    private final AutocompleteCatalogEntriesQueryHandler autocompleteHandler;
+
+    @GetMapping
+    @Operation(summary = "Search catalog entries by title and author, best matches first")
+    public CatalogSearchPageResponse search(@RequestParam("q") String text,
+                                            @RequestParam(defaultValue = "20") int pageSize,
+                                            @RequestParam(required = false) String continuationToken) {
+        var query = new SearchCatalogEntriesQuery(text, pageSize, continuationToken);
+        return CatalogSearchPageResponse.from(searchHandler.handle(query));
+    }
+
+    @GetMapping("/autocomplete")
+    @Operation(summary = "Suggest catalog entries whose title or author words start with the typed text")
+    public List<CatalogSuggestionResponse> autocomplete(@RequestParam("q") String text,
+                                                        @RequestParam(defaultValue = "10") int limit) {
+        var query = new AutocompleteCatalogEntriesQuery(text, limit);
+        return autocompleteHandler.handle(query).stream()
+                .map(CatalogSuggestionResponse::from)
+                .toList();
+    }
 
     @GetMapping("/{isbn}")
     @Operation(summary = "Get catalog entry by ISBN")
@@ -0,0 +1,60 @@
+package io.github.onejacklee.library.presentation.diagnostics;
+
+import io.github.onejacklee.library.infrastructure.metrics.SqlStatementCounter;
+import io.github.onejacklee.library.infrastructure.metrics.SqlStatistics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Debug mode: logs the SQL statements, rows and JDBC time of each request, and warns when one statement
+ * repeats often enough to look like an N+1. Headers are added by {@link SqlStatisticsResponseAdvice}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "library.sql-statistics.enabled", havingValue = "true")
+public class SqlStatisticsFilter extends OncePerRequestFilter {
+
+    static final String START_ATTRIBUTE = SqlStatisticsFilter.class.getName() + ".start";
+
+    private final SqlStatementCounter statementCounter;
+    private final int repeatedStatementThreshold;
+
+    public SqlStatisticsFilter(SqlStatementCounter statementCounter,
+                               @Value("${library.sql-statistics.repeated-statement-threshold:5}")
+                               int repeatedStatementThreshold) {
+        this.statementCounter = statementCounter;
+        this.repeatedStatementThreshold = repeatedStatementThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        SqlStatistics start = statementCounter.snapshot();
+        request.setAttribute(START_ATTRIBUTE, start);
+        statementCounter.trackRepeats();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            SqlStatistics statistics = statementCounter.snapshot().since(start);
+            Map<String, Integer> repeats = statementCounter.stopTrackingRepeats();
+            log.debug("{} {} -> {} statements, {} rows, {} ms JDBC", request.getMethod(), request.getRequestURI(),
+                    statistics.statements(), statistics.rows(), statistics.jdbcTime().toMillis());
+            repeats.forEach((sql, count) -> {
+                if (count >= repeatedStatementThreshold) {
+                    log.warn("Possible N+1 in {} {}: statement executed {} times: {}",
+                            request.getMethod(), request.getRequestURI(), count, sql);
+                }
+            });
+        }
+    }
+}
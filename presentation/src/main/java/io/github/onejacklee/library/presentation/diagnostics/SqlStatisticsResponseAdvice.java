@@ -0,0 +1,52 @@
+package io.github.onejacklee.library.presentation.diagnostics;
+
+import io.github.onejacklee.library.infrastructure.metrics.SqlStatementCounter;
+import io.github.onejacklee.library.infrastructure.metrics.SqlStatistics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Debug mode: reports the request's SQL statistics in response headers. Added just before the body is
+ * written, since the response is committed by the time the filter chain returns.
+ */
+@RestControllerAdvice
+@ConditionalOnProperty(name = "library.sql-statistics.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class SqlStatisticsResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String STATEMENTS_HEADER = "X-SQL-Statements";
+    public static final String ROWS_HEADER = "X-SQL-Rows";
+    public static final String JDBC_TIME_HEADER = "X-SQL-Time-Ms";
+
+    private final SqlStatementCounter statementCounter;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest
+                && servletRequest.getServletRequest().getAttribute(SqlStatisticsFilter.START_ATTRIBUTE)
+                instanceof SqlStatistics start) {
+            SqlStatistics statistics = statementCounter.snapshot().since(start);
+            HttpHeaders headers = response.getHeaders();
+            headers.set(STATEMENTS_HEADER, Long.toString(statistics.statements()));
+            headers.set(ROWS_HEADER, Long.toString(statistics.rows()));
+            headers.set(JDBC_TIME_HEADER, Long.toString(statistics.jdbcTime().toMillis()));
+        }
+        return body;
+    }
+}
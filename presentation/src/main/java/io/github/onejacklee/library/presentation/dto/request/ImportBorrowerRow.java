@@ -0,0 +1,8 @@
+package io.github.onejacklee.library.presentation.dto.request;
+
+// One CSV record (header name,emailAddress) or NDJSON line of a borrower import
+public record ImportBorrowerRow(
+        String name,
+        String emailAddress
+) {
+}
@@ -0,0 +1,23 @@
+package io.github.onejacklee.library.presentation.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+// Rows are validated one by one by the handler so a bad row is reported in the results instead of failing the batch
+public record RegisterBooksInBulkRequest(
+        @NotEmpty(message = "At least one book is required")
+        List<@NotNull Row> books
+) {
+    public record Row(
+            String isbn,
+            String title,
+            String author,
+            Integer copies
+    ) {
+        public int copiesOrDefault() {
+            return copies == null ? 1 : copies;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package io.github.onejacklee.library.presentation.dto.response;
+
+import io.github.onejacklee.library.application.book.BookPageDto;
+
+import java.util.List;
+
+public record BookPageResponse(
+        List<BookResponse> items,
+        String continuationToken
+) {
+    public static BookPageResponse from(BookPageDto dto) {
+        return new BookPageResponse(
+                dto.items().stream()
+                        .map(BookResponse::from)
+                        .toList(),
+                dto.continuationToken()
+        );
+    }
+}
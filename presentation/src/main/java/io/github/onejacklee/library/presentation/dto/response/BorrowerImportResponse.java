@@ -0,0 +1,36 @@
+package io.github.onejacklee.library.presentation.dto.response;
+
+import io.github.onejacklee.library.application.borrower.BorrowerImportDto;
+import io.github.onejacklee.library.application.borrower.BorrowerImportDto.Outcome;
+
+import java.util.List;
+
+public record BorrowerImportResponse(
+        long imported,
+        long duplicates,
+        long alreadyRegistered,
+        long rejected,
+        List<RowResult> results
+) {
+    public static BorrowerImportResponse from(BorrowerImportDto dto) {
+        return new BorrowerImportResponse(
+                dto.count(Outcome.IMPORTED),
+                dto.count(Outcome.DUPLICATE),
+                dto.count(Outcome.ALREADY_REGISTERED),
+                dto.count(Outcome.REJECTED),
+                dto.rows().stream()
+                        .map(row -> new RowResult(row.row(), row.emailAddress(), row.borrowerId(),
+                                row.outcome().name(), row.error()))
+                        .toList()
+        );
+    }
+
+    public record RowResult(
+            int row,
+            String emailAddress,
+            String borrowerId,
+            String outcome,
+            String error
+    ) {
+    }
+}
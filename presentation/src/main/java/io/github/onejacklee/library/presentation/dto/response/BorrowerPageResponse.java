@@ -0,0 +1,19 @@
+package io.github.onejacklee.library.presentation.dto.response;
+
+import io.github.onejacklee.library.application.borrower.BorrowerPageDto;
+
+import java.util.List;
+
+public record BorrowerPageResponse(
+        List<BorrowerResponse> items,
+        String continuationToken
+) {
+    public static BorrowerPageResponse from(BorrowerPageDto dto) {
+        return new BorrowerPageResponse(
+                dto.items().stream()
+                        .map(BorrowerResponse::from)
+                        .toList(),
+                dto.continuationToken()
+        );
+    }
+}
@@ -0,0 +1,29 @@
+package io.github.onejacklee.library.presentation.dto.response;
+
+import io.github.onejacklee.library.application.book.BulkRegistrationDto;
+
+import java.util.List;
+
+public record BulkRegistrationResponse(
+        long registered,
+        long rejected,
+        List<RowResult> results
+) {
+    public static BulkRegistrationResponse from(BulkRegistrationDto dto) {
+        return new BulkRegistrationResponse(
+                dto.registeredCount(),
+                dto.rejectedCount(),
+                dto.rows().stream()
+                        .map(row -> new RowResult(row.row(), row.isbn(), row.bookIds(), row.error()))
+                        .toList()
+        );
+    }
+
+    public record RowResult(
+            int row,
+            String isbn,
+            List<String> bookIds,
+            String error
+    ) {
+    }
+}
@@ -5,13 +5,17 @@ import io.github.onejacklee.library.application.catalogentry.CatalogEntryDto;
 public record CatalogEntryResponse(
         String isbn,
         String title,
-        String author
+        String author,
+        int totalCopies,
+        int availableCopies
 ) {
     public static CatalogEntryResponse from(CatalogEntryDto dto) {
         return new CatalogEntryResponse(
                 dto.isbn(),
                 dto.title(),
-                dto.author()
+                dto.author(),
+                dto.totalCopies(),
+                dto.availableCopies()
         );
     }
 }
@@ -0,0 +1,33 @@
+package io.github.onejacklee.library.presentation.dto.response;
+
+import io.github.onejacklee.library.application.catalogentry.CatalogSearchPageDto;
+
+import java.util.List;
+
+public record CatalogSearchPageResponse(
+        List<Hit> items,
+        boolean fuzzy,
+        boolean fuzzyUnavailable,
+        boolean partial,
+        String continuationToken
+) {
+    public static CatalogSearchPageResponse from(CatalogSearchPageDto dto) {
+        return new CatalogSearchPageResponse(
+                dto.items().stream()
+                        .map(hit -> new Hit(hit.isbn(), hit.title(), hit.author(), hit.score()))
+                        .toList(),
+                dto.fuzzy(),
+                dto.fuzzyUnavailable(),
+                dto.partial(),
+                dto.continuationToken()
+        );
+    }
+
+    public record Hit(
+            String isbn,
+            String title,
+            String author,
+            float score
+    ) {
+    }
+}
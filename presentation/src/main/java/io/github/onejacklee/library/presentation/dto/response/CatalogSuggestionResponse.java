@@ -0,0 +1,17 @@
+package io.github.onejacklee.library.presentation.dto.response;
+
+import io.github.onejacklee.library.application.catalogentry.CatalogSuggestionDto;
+
+public record CatalogSuggestionResponse(
+        String isbn,
+        String title,
+        String author
+) {
+    public static CatalogSuggestionResponse from(CatalogSuggestionDto dto) {
+        return new CatalogSuggestionResponse(
+                dto.isbn(),
+                dto.title(),
+                dto.author()
+        );
+    }
+}
@@ -0,0 +1,58 @@
+-- V1_1__Compact_ulid_keys.sql
+-- Opt-in (compact-ids profile): store ULID keys as 16-byte uuid instead of VARCHAR(26).
+-- ULIDs are big-endian with the timestamp first, so uuid ordering matches ULID string ordering.
+
+CREATE FUNCTION ulid_to_uuid(ulid TEXT) RETURNS UUID
+LANGUAGE plpgsql IMMUTABLE STRICT AS $$
+DECLARE
+    alphabet CONSTANT TEXT := '0123456789ABCDEFGHJKMNPQRSTVWXYZ';
+    bits TEXT := '';
+    digit INT;
+    hex TEXT := '';
+BEGIN
+    IF length(ulid) <> 26 THEN
+        RAISE EXCEPTION 'Invalid ULID: %', ulid;
+    END IF;
+    FOR i IN 1..26 LOOP
+        digit := strpos(alphabet, upper(substr(ulid, i, 1))) - 1;
+        IF digit < 0 THEN
+            RAISE EXCEPTION 'Invalid ULID: %', ulid;
+        END IF;
+        bits := bits || digit::BIT(5)::TEXT;
+    END LOOP;
+    -- 26 * 5 = 130 bits; the first two are always zero for a valid ULID
+    FOR i IN 0..31 LOOP
+        hex := hex || to_hex(substr(bits, 3 + i * 4, 4)::BIT(4)::INT);
+    END LOOP;
+    RETURN hex::UUID;
+END;
+$$;
+
+CREATE FUNCTION uuid_to_ulid(id UUID) RETURNS TEXT
+LANGUAGE plpgsql IMMUTABLE STRICT AS $$
+DECLARE
+    alphabet CONSTANT TEXT := '0123456789ABCDEFGHJKMNPQRSTVWXYZ';
+    bits TEXT := '00';
+    ulid TEXT := '';
+BEGIN
+    FOR i IN 1..32 LOOP
+        bits := bits || ('x' || substr(replace(id::TEXT, '-', ''), i, 1))::BIT(4)::TEXT;
+    END LOOP;
+    FOR i IN 0..25 LOOP
+        ulid := ulid || substr(alphabet, substr(bits, 1 + i * 5, 5)::BIT(5)::INT + 1, 1);
+    END LOOP;
+    RETURN ulid;
+END;
+$$;
+
+ALTER TABLE books DROP CONSTRAINT books_borrower_id_fkey;
+
+ALTER TABLE borrowers
+    ALTER COLUMN id TYPE UUID USING ulid_to_uuid(id);
+
+ALTER TABLE books
+    ALTER COLUMN id TYPE UUID USING ulid_to_uuid(id),
+    ALTER COLUMN borrower_id TYPE UUID USING ulid_to_uuid(borrower_id);
+
+ALTER TABLE books
+    ADD CONSTRAINT books_borrower_id_fkey FOREIGN KEY (borrower_id) REFERENCES borrowers(id);
@@ -0,0 +1,13 @@
+-- V2__Catalog_search.sql
+-- Full-text and fuzzy title/author search over catalog entries
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Titles weigh more than authors when ranking
+ALTER TABLE catalog_entries ADD COLUMN search_vector TSVECTOR GENERATED ALWAYS AS (
+    setweight(to_tsvector('english', title), 'A') || setweight(to_tsvector('english', author), 'B')
+) STORED;
+
+CREATE INDEX idx_catalog_entries_search ON catalog_entries USING GIN (search_vector);
+CREATE INDEX idx_catalog_entries_title_trgm ON catalog_entries USING GIN (title gin_trgm_ops);
+CREATE INDEX idx_catalog_entries_author_trgm ON catalog_entries USING GIN (author gin_trgm_ops);
@@ -0,0 +1,6 @@
+-- V5__Borrower_listing.sql
+-- Filters for the borrower listing: email addresses by prefix, names by case-insensitive substring.
+-- The unique index on email_address uses the database collation, which LIKE 'prefix%' cannot seek with.
+
+CREATE INDEX idx_borrowers_email_address_prefix ON borrowers (email_address text_pattern_ops);
+CREATE INDEX idx_borrowers_name_trgm ON borrowers USING GIN (name gin_trgm_ops);
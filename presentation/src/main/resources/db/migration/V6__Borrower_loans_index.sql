@@ -0,0 +1,20 @@
+-- V6__Borrower_loans_index.sql
+-- Covers the loans-by-borrower query, so it reads books from the index alone. Only borrowed copies are indexed;
+-- borrower_id = ? implies borrower_id IS NOT NULL, so lookups by borrower can still use it. It supersedes
+-- idx_books_borrower_id, whose leading column it shares.
+--
+-- With 1M books, 200k of them on loan, this index is 20 MB against 7.2 MB for the old one, for 84 against 94 us per
+-- lookup. The larger index is kept for the plan rather than those 10 us: the query reads no heap page of a vacuumed
+-- table and does no sort, where the old plan fetched up to one heap page per loan and sorted them, so its cost no
+-- longer grows with how far a borrower's copies are spread across the table. The size grows with copies on loan, not
+-- with the catalog, since available copies are left out, and borrows and returns already updated an index on
+-- borrower_id.
+--
+-- This is now the only index on books.borrower_id. The borrower_id foreign key uses it to check for books whenever
+-- a borrower is deleted or its id changes; if the predicate is narrowed further or the index dropped, those checks
+-- scan the whole books table. JdbcBookListingTest asserts both plans.
+
+CREATE INDEX idx_books_borrower_loans ON books (borrower_id, id) INCLUDE (isbn, borrowed_on)
+    WHERE borrower_id IS NOT NULL;
+
+DROP INDEX idx_books_borrower_id;